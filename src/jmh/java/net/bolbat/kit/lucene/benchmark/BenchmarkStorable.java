@@ -0,0 +1,84 @@
+package net.bolbat.kit.lucene.benchmark;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+
+import net.bolbat.kit.lucene.Storable;
+
+/**
+ * {@link Storable} bean for benchmarks.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class BenchmarkStorable implements Storable {
+
+	/**
+	 * Default serialVersionUID variable.
+	 */
+	private static final long serialVersionUID = -6384051950727316915L;
+
+	/**
+	 * Unique id.
+	 */
+	private String id;
+
+	/**
+	 * Value.
+	 */
+	private String value;
+
+	/**
+	 * Default constructor.
+	 */
+	public BenchmarkStorable() {
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param aId
+	 *            unique id
+	 * @param aValue
+	 *            value
+	 */
+	public BenchmarkStorable(final String aId, final String aValue) {
+		this.id = aId;
+		this.value = aValue;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String aId) {
+		this.id = aId;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(final String aValue) {
+		this.value = aValue;
+	}
+
+	@Override
+	public Document toDocument() {
+		final Document doc = new Document();
+		doc.add(new StringField(idFieldName(), idFieldValue(), Field.Store.YES));
+		doc.add(new StringField("value", getValue(), Field.Store.YES));
+		return doc;
+	}
+
+	@Override
+	public String idFieldName() {
+		return "id";
+	}
+
+	@Override
+	public String idFieldValue() {
+		return getId();
+	}
+
+}
@@ -0,0 +1,78 @@
+package net.bolbat.kit.lucene.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bolbat.kit.lucene.LuceneStore;
+import net.bolbat.kit.lucene.LuceneStoreConfig;
+import net.bolbat.kit.lucene.LuceneStoreConfig.CommitPolicy;
+import net.bolbat.kit.lucene.LuceneStoreManager;
+
+/**
+ * {@link LuceneStore} writes throughput benchmark for all {@link CommitPolicy} policies.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LuceneStoreWriteBenchmark {
+
+	@Param({ "IMMEDIATE", "GROUP" })
+	private CommitPolicy commitPolicy;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private LuceneStoreConfig config;
+
+	private LuceneStore<BenchmarkStorable> store;
+
+	@Setup
+	public void setup() {
+		config = new LuceneStoreConfig();
+		config.setDirectoryPath(config.getDirectoryPath() + "-" + commitPolicy);
+		config.setCommitPolicy(commitPolicy);
+		store = LuceneStoreManager.getStore(BenchmarkStorable.class, config);
+	}
+
+	@TearDown
+	public void tearDown() {
+		store.removeAll();
+		store.flush();
+		LuceneStoreManager.tearDown(BenchmarkStorable.class, config);
+	}
+
+	@Benchmark
+	public void add() {
+		store.add(new BenchmarkStorable("bean-" + sequence.incrementAndGet(), "value"));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void addConcurrently() {
+		store.add(new BenchmarkStorable("bean-" + sequence.incrementAndGet(), "value"));
+	}
+
+	@Benchmark
+	public void update() {
+		store.update(new BenchmarkStorable("bean-" + (sequence.incrementAndGet() % 1000), "value"));
+	}
+
+}
@@ -0,0 +1,12 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+/**
+ * Service for benchmarking purposes.
+ * 
+ * @author Alexandr Bolbat
+ */
+public interface BenchmarkService {
+
+	String call(String prefix, int value);
+
+}
@@ -0,0 +1,15 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+/**
+ * {@link BenchmarkService} implementation.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class BenchmarkServiceImpl implements BenchmarkService {
+
+	@Override
+	public String call(final String prefix, final int value) {
+		return prefix;
+	}
+
+}
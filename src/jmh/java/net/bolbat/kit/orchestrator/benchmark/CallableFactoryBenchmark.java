@@ -0,0 +1,61 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bolbat.kit.orchestrator.impl.callable.CallableFactory;
+import net.bolbat.kit.orchestrator.impl.callable.DefaultCallableFactory;
+import net.bolbat.kit.orchestrator.impl.callable.MethodHandleCallableFactory;
+
+/**
+ * {@link CallableFactory} implementations benchmark.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallableFactoryBenchmark {
+
+	private final BenchmarkService service = new BenchmarkServiceImpl();
+
+	private Method method;
+
+	private Object[] args;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		method = BenchmarkService.class.getMethod("call", String.class, int.class);
+		args = new Object[] { "value", 1 };
+	}
+
+	@Benchmark
+	public Object direct() {
+		return service.call((String) args[0], (Integer) args[1]);
+	}
+
+	@Benchmark
+	public Object defaultFactory() throws Exception {
+		return DefaultCallableFactory.getInstance().create(service, method, args).call();
+	}
+
+	@Benchmark
+	public Object methodHandleFactory() throws Exception {
+		return MethodHandleCallableFactory.getInstance().create(service, method, args).call();
+	}
+
+}
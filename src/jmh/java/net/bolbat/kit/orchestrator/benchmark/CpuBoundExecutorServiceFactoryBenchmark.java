@@ -0,0 +1,83 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.benchmark.ExecutorServiceFactoryBenchmark.Factory;
+import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+import net.bolbat.kit.orchestrator.impl.executor.ExecutorServiceFactory;
+
+/**
+ * {@link ExecutorServiceFactory} implementations benchmark for short CPU-bound workloads.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CpuBoundExecutorServiceFactoryBenchmark {
+
+	@Param({ "DEFAULT", "FORK_JOIN" })
+	private Factory factory;
+
+	@Param({ "1000" })
+	private int tasks;
+
+	@Param({ "100", "1000" })
+	private long tokens;
+
+	private ExecutorService executor;
+
+	@Setup
+	public void setup() {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setFactory(factory.getType());
+		executor = ExecutionUtils.create(config, "benchmark", factory.name());
+	}
+
+	@TearDown
+	public void tearDown() {
+		ExecutionUtils.terminate(executor);
+	}
+
+	@Benchmark
+	public int cpuTasks() throws Exception {
+		final List<Future<?>> futures = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++)
+			futures.add(executor.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					Blackhole.consumeCPU(tokens);
+					return null;
+				}
+			}));
+
+		for (final Future<?> future : futures)
+			future.get();
+
+		return futures.size();
+	}
+
+}
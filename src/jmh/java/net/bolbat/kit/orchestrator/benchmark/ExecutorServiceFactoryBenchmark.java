@@ -0,0 +1,103 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+import net.bolbat.kit.orchestrator.impl.executor.DefaultExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.ExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.ForkJoinExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.VirtualThreadExecutorServiceFactory;
+
+/**
+ * {@link ExecutorServiceFactory} implementations benchmark for blocking workloads.<br>
+ * Virtual threads factory falls back to default factory on runtime without virtual threads support.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorServiceFactoryBenchmark {
+
+	@Param({ "DEFAULT", "VIRTUAL_THREAD" })
+	private Factory factory;
+
+	@Param({ "100", "1000" })
+	private int tasks;
+
+	@Param({ "1" })
+	private long blockingTime;
+
+	private ExecutorService executor;
+
+	@Setup
+	public void setup() {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setFactory(factory.getType());
+		executor = ExecutionUtils.create(config, "benchmark", factory.name());
+	}
+
+	@TearDown
+	public void tearDown() {
+		ExecutionUtils.terminate(executor);
+	}
+
+	@Benchmark
+	public int blockingTasks() throws Exception {
+		final List<Future<?>> futures = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++)
+			futures.add(executor.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					Thread.sleep(blockingTime);
+					return null;
+				}
+			}));
+
+		for (final Future<?> future : futures)
+			future.get();
+
+		return futures.size();
+	}
+
+	public enum Factory {
+
+		DEFAULT(DefaultExecutorServiceFactory.class), //
+		VIRTUAL_THREAD(VirtualThreadExecutorServiceFactory.class), //
+		FORK_JOIN(ForkJoinExecutorServiceFactory.class);
+
+		private final Class<? extends ExecutorServiceFactory> type;
+
+		Factory(final Class<? extends ExecutorServiceFactory> aType) {
+			this.type = aType;
+		}
+
+		public Class<? extends ExecutorServiceFactory> getType() {
+			return type;
+		}
+
+	}
+
+}
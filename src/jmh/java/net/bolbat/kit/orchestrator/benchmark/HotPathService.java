@@ -0,0 +1,19 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service for orchestrator hot path benchmarking purposes.<br>
+ * Methods return {@link CompletableFuture} to be usable in all orchestration modes including 'ASYNC'.
+ * 
+ * @author Alexandr Bolbat
+ */
+public interface HotPathService {
+
+	CompletableFuture<String> call();
+
+	CompletableFuture<String> call(String prefix);
+
+	CompletableFuture<String> call(String prefix, int value, long time);
+
+}
@@ -0,0 +1,102 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+
+/**
+ * {@link HotPathService} implementation without orchestration.<br>
+ * Nested implementations differ by orchestration configuration only.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class HotPathServiceImpl implements HotPathService {
+
+	private static final CompletableFuture<String> RESULT = CompletableFuture.completedFuture("result");
+
+	@Override
+	public CompletableFuture<String> call() {
+		return RESULT;
+	}
+
+	@Override
+	public CompletableFuture<String> call(final String prefix) {
+		return RESULT;
+	}
+
+	@Override
+	public CompletableFuture<String> call(final String prefix, final int value, final long time) {
+		return RESULT;
+	}
+
+	/**
+	 * 'SYNC' orchestration.
+	 */
+	@Orchestrate
+	public static class Sync extends HotPathServiceImpl {
+	}
+
+	/**
+	 * 'SYNC' orchestration with concurrent executions limit (not reachable in benchmark).
+	 */
+	@Orchestrate
+	@OrchestrationLimits(concurrent = 100000)
+	public static class Limited extends HotPathServiceImpl {
+	}
+
+	/**
+	 * 'INLINE' orchestration.
+	 */
+	@Orchestrate
+	public static class Inline extends HotPathServiceImpl {
+
+		@Override
+		@OrchestrationMode(Mode.INLINE)
+		public CompletableFuture<String> call() {
+			return super.call();
+		}
+
+		@Override
+		@OrchestrationMode(Mode.INLINE)
+		public CompletableFuture<String> call(final String prefix) {
+			return super.call(prefix);
+		}
+
+		@Override
+		@OrchestrationMode(Mode.INLINE)
+		public CompletableFuture<String> call(final String prefix, final int value, final long time) {
+			return super.call(prefix, value, time);
+		}
+
+	}
+
+	/**
+	 * 'ASYNC' orchestration.
+	 */
+	@Orchestrate
+	public static class Async extends HotPathServiceImpl {
+
+		@Override
+		@OrchestrationMode(Mode.ASYNC)
+		public CompletableFuture<String> call() {
+			return super.call();
+		}
+
+		@Override
+		@OrchestrationMode(Mode.ASYNC)
+		public CompletableFuture<String> call(final String prefix) {
+			return super.call(prefix);
+		}
+
+		@Override
+		@OrchestrationMode(Mode.ASYNC)
+		public CompletableFuture<String> call(final String prefix, final int value, final long time) {
+			return super.call(prefix, value, time);
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bolbat.kit.orchestrator.Orchestrator;
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+
+/**
+ * {@link Orchestrator} hot path benchmark.<br>
+ * Measures proxy and executor overhead for services initialized with {@code Orchestrator.init}, by call type and arguments amount.<br>
+ * Nested classes run the same benchmarks with different threads amount, example: <code>-Djmh.args="OrchestratorBenchmark.FourThreads"</code>.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class OrchestratorBenchmark {
+
+	@Param({ "DIRECT", "UNORCHESTRATED", "SYNC", "LIMITED", "INLINE", "ASYNC" })
+	private Target target;
+
+	private HotPathService service;
+
+	@Setup
+	public void setup() {
+		service = target.create();
+	}
+
+	@TearDown
+	public void tearDown() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Benchmark
+	public Object arguments0() {
+		return service.call().join();
+	}
+
+	@Benchmark
+	public Object arguments1() {
+		return service.call("prefix").join();
+	}
+
+	@Benchmark
+	public Object arguments3() {
+		return service.call("prefix", 1, 1L).join();
+	}
+
+	/**
+	 * Single thread.
+	 */
+	@Threads(1)
+	public static class SingleThread extends OrchestratorBenchmark {
+	}
+
+	/**
+	 * Four threads.
+	 */
+	@Threads(4)
+	public static class FourThreads extends OrchestratorBenchmark {
+	}
+
+	/**
+	 * Threads amount equal to available processors.
+	 */
+	@Threads(Threads.MAX)
+	public static class MaxThreads extends OrchestratorBenchmark {
+	}
+
+	/**
+	 * Benchmarked call types.
+	 */
+	public enum Target {
+
+		/**
+		 * Direct call without proxy.
+		 */
+		DIRECT {
+			@Override
+			HotPathService create() {
+				return new HotPathServiceImpl();
+			}
+		},
+
+		/**
+		 * Proxied call without orchestration.
+		 */
+		UNORCHESTRATED {
+			@Override
+			HotPathService create() {
+				return OrchestratorFactory.getDefault().init(new HotPathServiceImpl());
+			}
+		},
+
+		/**
+		 * Proxied call in 'SYNC' mode.
+		 */
+		SYNC {
+			@Override
+			HotPathService create() {
+				return OrchestratorFactory.getDefault().init(new HotPathServiceImpl.Sync());
+			}
+		},
+
+		/**
+		 * Proxied call in 'SYNC' mode with concurrent executions limit.
+		 */
+		LIMITED {
+			@Override
+			HotPathService create() {
+				return OrchestratorFactory.getDefault().init(new HotPathServiceImpl.Limited());
+			}
+		},
+
+		/**
+		 * Proxied call in 'INLINE' mode.
+		 */
+		INLINE {
+			@Override
+			HotPathService create() {
+				return OrchestratorFactory.getDefault().init(new HotPathServiceImpl.Inline());
+			}
+		},
+
+		/**
+		 * Proxied call in 'ASYNC' mode.
+		 */
+		ASYNC {
+			@Override
+			HotPathService create() {
+				return OrchestratorFactory.getDefault().init(new HotPathServiceImpl.Async());
+			}
+		};
+
+		/**
+		 * Create service for benchmarking.
+		 * 
+		 * @return {@link HotPathService}
+		 */
+		abstract HotPathService create();
+
+	}
+
+}
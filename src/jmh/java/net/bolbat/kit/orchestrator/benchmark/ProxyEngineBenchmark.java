@@ -0,0 +1,98 @@
+package net.bolbat.kit.orchestrator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+import net.bolbat.kit.orchestrator.ProxyEngine;
+
+/**
+ * {@link ProxyEngine} benchmark.<br>
+ * Compares proxy overhead of engines for not orchestrated and 'INLINE' orchestrated calls, allocations should be measured with GC profiler,
+ * example: <code>-Djmh.args="ProxyEngineBenchmark -prof gc"</code>.
+ * 
+ * @author Alexandr Bolbat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyEngineBenchmark {
+
+	@Param({ "REFLECT", "GENERATED" })
+	private ProxyEngine engine;
+
+	@Param({ "UNORCHESTRATED", "INLINE" })
+	private Target target;
+
+	private HotPathService service;
+
+	@Setup
+	public void setup() {
+		service = OrchestratorFactory.get(engine).init(target.create());
+	}
+
+	@TearDown
+	public void tearDown() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Benchmark
+	public Object arguments0() {
+		return service.call();
+	}
+
+	@Benchmark
+	public Object arguments3() {
+		return service.call("prefix", 1000, 1000L);
+	}
+
+	/**
+	 * Benchmarked call types.
+	 */
+	public enum Target {
+
+		/**
+		 * Proxied call without orchestration.
+		 */
+		UNORCHESTRATED {
+			@Override
+			HotPathService create() {
+				return new HotPathServiceImpl();
+			}
+		},
+
+		/**
+		 * Proxied call in 'INLINE' mode.
+		 */
+		INLINE {
+			@Override
+			HotPathService create() {
+				return new HotPathServiceImpl.Inline();
+			}
+		};
+
+		/**
+		 * Create service for benchmarking.
+		 * 
+		 * @return {@link HotPathService}
+		 */
+		abstract HotPathService create();
+
+	}
+
+}
@@ -0,0 +1,74 @@
+package net.bolbat.kit.lucene;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link PayloadCodec} based on Jackson {@link ObjectMapper}.<br>
+ * Default instance encodes beans to JSON bytes. Binary formats could be used by extending this class with {@link ObjectMapper} created for
+ * corresponding Jackson data format factory, like {@link SmilePayloadCodec}.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class JacksonPayloadCodec implements PayloadCodec {
+
+	/**
+	 * {@link ObjectMapper} instance.
+	 */
+	private final ObjectMapper mapper;
+
+	/**
+	 * Default constructor, JSON {@link ObjectMapper} is used.
+	 */
+	public JacksonPayloadCodec() {
+		this(new ObjectMapper());
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param aMapper
+	 *            {@link ObjectMapper}
+	 */
+	public JacksonPayloadCodec(final ObjectMapper aMapper) {
+		if (aMapper == null)
+			throw new IllegalArgumentException("aMapper argument is null");
+
+		this.mapper = configure(aMapper);
+	}
+
+	@Override
+	public byte[] encode(final Object bean) throws IOException {
+		return mapper.writeValueAsBytes(bean);
+	}
+
+	@Override
+	public <T> T decode(final byte[] data, final int offset, final int length, final Class<T> type) throws IOException {
+		return mapper.readValue(data, offset, length, type);
+	}
+
+	/**
+	 * Configure {@link ObjectMapper} to be tolerant to bean changes.
+	 * 
+	 * @param mapper
+	 *            {@link ObjectMapper}
+	 * @return configured {@link ObjectMapper}
+	 */
+	public static ObjectMapper configure(final ObjectMapper mapper) {
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		mapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
+		mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+		return mapper;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [format=").append(mapper.getFactory().getFormatName());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
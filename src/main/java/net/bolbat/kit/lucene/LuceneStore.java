@@ -1,6 +1,8 @@
 package net.bolbat.kit.lucene;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
@@ -108,6 +110,13 @@ public interface LuceneStore<S extends Storable> {
 	 */
 	void removeAll();
 
+	/**
+	 * Commit all changes made before this call, they are durable when method returns.<br>
+	 * Useful for callers what need synchronous durability when changes are committed in groups, see
+	 * {@link LuceneStoreConfig.CommitPolicy#GROUP}.
+	 */
+	void flush();
+
 	/**
 	 * Get all beans count.
 	 * 
@@ -124,6 +133,27 @@ public interface LuceneStore<S extends Storable> {
 	 */
 	int count(Query query);
 
+	/**
+	 * Get all beans count per each term of the field.<br>
+	 * Counts are calculated with index terms without loading documents, terms without beans are not included.
+	 * 
+	 * @param field
+	 *            field name
+	 * @return bean's count per term, sorted by term
+	 */
+	Map<String, Integer> countByTerm(String field);
+
+	/**
+	 * Get beans count per each term of the field, see {@link #countByTerm(String)}.
+	 * 
+	 * @param query
+	 *            {@link Query}
+	 * @param field
+	 *            field name
+	 * @return bean's count per term, sorted by term
+	 */
+	Map<String, Integer> countByTerm(Query query, String field);
+
 	/**
 	 * Search bean's.
 	 * 
@@ -268,6 +298,63 @@ public interface LuceneStore<S extends Storable> {
 	 */
 	Collection<Document> getDocuments(Query query, int offset, int limit, Sort sort);
 
+	/**
+	 * Stream all beans.<br>
+	 * Documents are loaded page by page and beans are deserialized lazily, so stream could be used for scanning indexes of any size. Stream
+	 * holds index searcher until it's fully consumed or closed, so it should be closed if it's not consumed completely.
+	 * 
+	 * @return {@link Stream} of <S>
+	 */
+	Stream<S> streamAll();
+
+	/**
+	 * Stream beans, see {@link #streamAll()}.
+	 * 
+	 * @param query
+	 *            {@link Query}
+	 * @return {@link Stream} of <S>
+	 */
+	Stream<S> stream(Query query);
+
+	/**
+	 * Stream beans, see {@link #streamAll()}.
+	 * 
+	 * @param query
+	 *            {@link Query}
+	 * @param sort
+	 *            sorting criteria, can be <code>null</code>
+	 * @return {@link Stream} of <S>
+	 */
+	Stream<S> stream(Query query, Sort sort);
+
+	/**
+	 * Stream documents, see {@link #streamAll()}.
+	 *
+	 * @param query
+	 *            {@link Query}
+	 * @return {@link Stream} of {@link Document}
+	 */
+	Stream<Document> streamDocuments(Query query);
+
+	/**
+	 * Stream documents, see {@link #streamAll()}.
+	 *
+	 * @param query
+	 *            {@link Query}
+	 * @param sort
+	 *            sorting criteria, can be <code>null</code>
+	 * @return {@link Stream} of {@link Document}
+	 */
+	Stream<Document> streamDocuments(Query query, Sort sort);
+
+	/**
+	 * Migrate beans stored by previous versions as JSON text to the payload of configured {@link PayloadCodec}.<br>
+	 * Such beans are readable without migration, migration reduces index size and speeds up beans deserialization.
+	 * 
+	 * @return migrated bean's count
+	 */
+	int migrate();
+
 	/**
 	 * Tear down {@link LuceneStore} state.
 	 */
@@ -27,12 +27,92 @@ public final class LuceneStoreConfig extends AbstractConfiguration {
 	@DontConfigure
 	public static final String DEFAULT_CONFIGURATION_NAME = "kit-lucene-store";
 
+	/**
+	 * Default searcher refresh interval in milliseconds.
+	 */
+	@DontConfigure
+	public static final long DEFAULT_REFRESH_INTERVAL = 1000L;
+
+	/**
+	 * Default amount of changes what triggers group commit.
+	 */
+	@DontConfigure
+	public static final int DEFAULT_COMMIT_MAX_CHANGES = 1000;
+
+	/**
+	 * Default maximum delay of group commit in milliseconds.
+	 */
+	@DontConfigure
+	public static final long DEFAULT_COMMIT_MAX_DELAY = 1000L;
+
+	/**
+	 * Default amount of documents loaded at once by streams.
+	 */
+	@DontConfigure
+	public static final int DEFAULT_STREAM_PAGE_SIZE = 1000;
+
+	/**
+	 * Default {@link PayloadCodec} implementation class name.<br>
+	 * {@link JacksonPayloadCodec} is used instead if 'jackson-dataformat-smile' isn't available in classpath.
+	 */
+	@DontConfigure
+	public static final String DEFAULT_PAYLOAD_CODEC = SmilePayloadCodec.class.getName();
+
 	/**
 	 * Configured directory path.
 	 */
 	@Configure
 	private String directoryPath = FSUtils.getTmpFolder(LuceneStoreConfig.class) + System.currentTimeMillis();
 
+	/**
+	 * Policy of refreshing searcher to make changes visible for reads.
+	 */
+	@Configure
+	private RefreshPolicy refreshPolicy = RefreshPolicy.DEFAULT;
+
+	/**
+	 * Searcher refresh interval in milliseconds, used by {@link RefreshPolicy#PERIODIC} policy.
+	 */
+	@Configure
+	private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+
+	/**
+	 * Policy of committing changes to the directory.
+	 */
+	@Configure
+	private CommitPolicy commitPolicy = CommitPolicy.DEFAULT;
+
+	/**
+	 * Amount of changes what triggers group commit, used by {@link CommitPolicy#GROUP} policy.
+	 */
+	@Configure
+	private int commitMaxChanges = DEFAULT_COMMIT_MAX_CHANGES;
+
+	/**
+	 * Maximum delay of group commit in milliseconds, used by {@link CommitPolicy#GROUP} policy.
+	 */
+	@Configure
+	private long commitMaxDelay = DEFAULT_COMMIT_MAX_DELAY;
+
+	/**
+	 * Amount of documents loaded at once by streams.
+	 */
+	@Configure
+	private int streamPageSize = DEFAULT_STREAM_PAGE_SIZE;
+
+	/**
+	 * {@link PayloadCodec} implementation class name.
+	 */
+	@Configure
+	private String payloadCodec = DEFAULT_PAYLOAD_CODEC;
+
+	/**
+	 * Stored fields compression.<br>
+	 * It's Lucene stored fields compression mode only, payload encoded by {@link PayloadCodec} isn't additionally compressed.
+	 */
+	@Configure
+	private StoredFieldsCompression storedFieldsCompression = StoredFieldsCompression.DEFAULT;
+
 	public String getDirectoryPath() {
 		return directoryPath;
 	}
@@ -41,12 +121,165 @@ public final class LuceneStoreConfig extends AbstractConfiguration {
 		this.directoryPath = directoryPath;
 	}
 
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	public void setRefreshPolicy(final RefreshPolicy aRefreshPolicy) {
+		this.refreshPolicy = aRefreshPolicy != null ? aRefreshPolicy : RefreshPolicy.DEFAULT;
+	}
+
+	public long getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	public void setRefreshInterval(final long aRefreshInterval) {
+		this.refreshInterval = aRefreshInterval > 0 ? aRefreshInterval : DEFAULT_REFRESH_INTERVAL;
+	}
+
+	public CommitPolicy getCommitPolicy() {
+		return commitPolicy;
+	}
+
+	public void setCommitPolicy(final CommitPolicy aCommitPolicy) {
+		this.commitPolicy = aCommitPolicy != null ? aCommitPolicy : CommitPolicy.DEFAULT;
+	}
+
+	public int getCommitMaxChanges() {
+		return commitMaxChanges;
+	}
+
+	public void setCommitMaxChanges(final int aCommitMaxChanges) {
+		this.commitMaxChanges = aCommitMaxChanges > 0 ? aCommitMaxChanges : DEFAULT_COMMIT_MAX_CHANGES;
+	}
+
+	public long getCommitMaxDelay() {
+		return commitMaxDelay;
+	}
+
+	public void setCommitMaxDelay(final long aCommitMaxDelay) {
+		this.commitMaxDelay = aCommitMaxDelay > 0 ? aCommitMaxDelay : DEFAULT_COMMIT_MAX_DELAY;
+	}
+
+	public int getStreamPageSize() {
+		return streamPageSize;
+	}
+
+	public void setStreamPageSize(final int aStreamPageSize) {
+		this.streamPageSize = aStreamPageSize > 0 ? aStreamPageSize : DEFAULT_STREAM_PAGE_SIZE;
+	}
+
+	public String getPayloadCodec() {
+		return payloadCodec;
+	}
+
+	public void setPayloadCodec(final String aPayloadCodec) {
+		this.payloadCodec = aPayloadCodec != null && !aPayloadCodec.trim().isEmpty() ? aPayloadCodec.trim() : DEFAULT_PAYLOAD_CODEC;
+	}
+
+	public StoredFieldsCompression getStoredFieldsCompression() {
+		return storedFieldsCompression;
+	}
+
+	public void setStoredFieldsCompression(final StoredFieldsCompression aStoredFieldsCompression) {
+		this.storedFieldsCompression = aStoredFieldsCompression != null ? aStoredFieldsCompression : StoredFieldsCompression.DEFAULT;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
 		builder.append(" [directoryPath=").append(directoryPath);
+		builder.append(", refreshPolicy=").append(refreshPolicy);
+		builder.append(", refreshInterval=").append(refreshInterval);
+		builder.append(", commitPolicy=").append(commitPolicy);
+		builder.append(", commitMaxChanges=").append(commitMaxChanges);
+		builder.append(", commitMaxDelay=").append(commitMaxDelay);
+		builder.append(", streamPageSize=").append(streamPageSize);
+		builder.append(", payloadCodec=").append(payloadCodec);
+		builder.append(", storedFieldsCompression=").append(storedFieldsCompression);
 		builder.append("]");
 		return builder.toString();
 	}
 
+	/**
+	 * Searcher refresh policies.<br>
+	 * Searcher is refreshed from {@link org.apache.lucene.index.IndexWriter} in near real time, without reopening the index from the directory.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public enum RefreshPolicy {
+
+		/**
+		 * Searcher is refreshed by the first read after change, reads always see own writes and writes don't pay refresh cost.
+		 */
+		ON_READ,
+
+		/**
+		 * Searcher is refreshed right after each change, reads always see own writes and don't pay refresh cost.
+		 */
+		ON_WRITE,
+
+		/**
+		 * Searcher is refreshed in background with configured interval, reads could see changes with delay up to the interval.
+		 */
+		PERIODIC;
+
+		/**
+		 * Default {@link RefreshPolicy}.
+		 */
+		public static final RefreshPolicy DEFAULT = ON_READ;
+
+	}
+
+	/**
+	 * Changes commit policies.<br>
+	 * Changes are visible for reads before commit, commit makes them durable.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public enum CommitPolicy {
+
+		/**
+		 * Each change is committed right away, write returns when change is durable.
+		 */
+		IMMEDIATE,
+
+		/**
+		 * Changes are committed in groups by background committer when configured amount of changes is reached or configured delay is passed,
+		 * {@link LuceneStore#flush()} should be used for synchronous durability.
+		 */
+		GROUP;
+
+		/**
+		 * Default {@link CommitPolicy}.
+		 */
+		public static final CommitPolicy DEFAULT = IMMEDIATE;
+
+	}
+
+	/**
+	 * Stored fields compression modes.<br>
+	 * Mode is applied to new index segments, segments written with other mode stay readable.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public enum StoredFieldsCompression {
+
+		/**
+		 * Fast compression of small blocks, documents are loaded faster.
+		 */
+		BEST_SPEED,
+
+		/**
+		 * Stronger compression of bigger blocks, index is smaller but documents loading is slower.
+		 */
+		BEST_COMPRESSION;
+
+		/**
+		 * Default {@link StoredFieldsCompression}.
+		 */
+		public static final StoredFieldsCompression DEFAULT = BEST_SPEED;
+
+	}
+
 }
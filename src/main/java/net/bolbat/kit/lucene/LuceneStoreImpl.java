@@ -8,36 +8,68 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.lucene50.Lucene50StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene70.Lucene70Codec;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.document.Field;
-import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiFields;
+import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.NormsFieldExistsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import net.bolbat.kit.config.ConfigurationManager;
+import net.bolbat.kit.lucene.LuceneStoreConfig.CommitPolicy;
+import net.bolbat.kit.lucene.LuceneStoreConfig.RefreshPolicy;
+import net.bolbat.kit.lucene.LuceneStoreConfig.StoredFieldsCompression;
 
 /**
  * {@link LuceneStore} implementation.
@@ -54,7 +86,12 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(LuceneStoreImpl.class);
 
 	/**
-	 * Lucene document field name for serialized bean data.
+	 * Lucene document field name for serialized bean payload.
+	 */
+	private static final String DOCUMENT_PAYLOAD_FIELD_NAME = "BEAN_PAYLOAD";
+
+	/**
+	 * Lucene document field name for bean data serialized to JSON text by previous versions, supported for reading and migration.
 	 */
 	private static final String DOCUMENT_DATA_FIELD_NAME = "BEAN_DATA";
 
@@ -84,14 +121,39 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 	private final IndexWriter writer;
 
 	/**
-	 * {@link IndexReader} instance.
+	 * {@link SearcherManager} instance, provides near real time searchers opened from the {@link IndexWriter}.
+	 */
+	private final SearcherManager searcherManager;
+
+	/**
+	 * Background searcher refresh thread, used by {@link RefreshPolicy#PERIODIC} policy.
+	 */
+	private final ControlledRealTimeReopenThread<IndexSearcher> refreshThread;
+
+	/**
+	 * Background committer, used by {@link CommitPolicy#GROUP} policy.
+	 */
+	private final ScheduledExecutorService committer;
+
+	/**
+	 * Is commit requested from background committer.
+	 */
+	private final AtomicBoolean commitRequested = new AtomicBoolean();
+
+	/**
+	 * Not committed changes amount.
 	 */
-	private volatile IndexReader reader;
+	private final AtomicLong uncommitted = new AtomicLong();
 
 	/**
-	 * {@link IndexSearcher} instance.
+	 * Changes counter.
 	 */
-	private volatile IndexSearcher searcher;
+	private final AtomicLong changes = new AtomicLong();
+
+	/**
+	 * Changes counter value visible for the current searcher.
+	 */
+	private final AtomicLong refreshed = new AtomicLong();
 
 	/**
 	 * Bean type.
@@ -99,14 +161,14 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 	private final Class<S> beanType;
 
 	/**
-	 * {@link ObjectMapper} instance.
+	 * {@link PayloadCodec} instance.
 	 */
-	private final ObjectMapper mapper;
+	private final PayloadCodec codec;
 
 	/**
-	 * Synchronization lock for {@link IndexReader} or {@link IndexSearcher} initialization after {@link IndexWriter} process.
+	 * {@link ObjectMapper} instance for reading bean data stored by previous versions.
 	 */
-	private final Object lock = new Object();
+	private final ObjectMapper mapper;
 
 	/**
 	 * Protected constructor.
@@ -132,6 +194,7 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 		if (aBeanType == null)
 			throw new IllegalArgumentException("aBeanType argument is null");
 		this.config = configuration;
+		this.codec = createCodec(config.getPayloadCodec());
 		LOGGER.info("Type[" + aBeanType + "], " + configuration.toString());
 		try {
 			// directory
@@ -144,15 +207,46 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 
 			// writer config and writer
 			this.writerConfig = new IndexWriterConfig(analyzer);
+			writerConfig.setCodec(new Lucene70Codec(config.getStoredFieldsCompression() == StoredFieldsCompression.BEST_COMPRESSION
+					? Lucene50StoredFieldsFormat.Mode.BEST_COMPRESSION : Lucene50StoredFieldsFormat.Mode.BEST_SPEED));
 			this.writer = new IndexWriter(directory, writerConfig);
 			writer.commit();
 
+			// near real time searchers
+			this.searcherManager = new SearcherManager(writer, null);
+			if (config.getRefreshPolicy() == RefreshPolicy.PERIODIC) {
+				final double interval = config.getRefreshInterval() / 1000d;
+				this.refreshThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, interval, interval);
+				refreshThread.setName("LuceneStore[" + aBeanType.getSimpleName() + "]-refresh");
+				refreshThread.setDaemon(true);
+				refreshThread.start();
+			} else {
+				this.refreshThread = null;
+			}
+
+			// background committer
+			if (config.getCommitPolicy() == CommitPolicy.GROUP) {
+				this.committer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(final Runnable task) {
+						final Thread thread = new Thread(task, "LuceneStore[" + aBeanType.getSimpleName() + "]-committer");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+				committer.scheduleWithFixedDelay(new Runnable() {
+					@Override
+					public void run() {
+						commitInBackground();
+					}
+				}, config.getCommitMaxDelay(), config.getCommitMaxDelay(), TimeUnit.MILLISECONDS);
+			} else {
+				this.committer = null;
+			}
+
 			this.beanType = aBeanType;
 
-			this.mapper = new ObjectMapper();
-			mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-			mapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
-			mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+			this.mapper = JacksonPayloadCodec.configure(new ObjectMapper());
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		}
@@ -164,7 +258,7 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			final List<S> result = new ArrayList<>();
 			final Collection<Document> documents = getAllDocuments();
 			for (final Document doc : documents)
-				result.add(mapper.readValue(doc.get(DOCUMENT_DATA_FIELD_NAME), beanType));
+				result.add(toBean(doc));
 			return result;
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
@@ -173,8 +267,9 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 
 	@Override
 	public Collection<Document> getAllDocuments() {
+		final IndexSearcher localSearcher = acquireSearcher();
 		try {
-			final IndexReader localReader = getReader();
+			final IndexReader localReader = localSearcher.getIndexReader();
 			final Bits liveDocs = MultiFields.getLiveDocs(localReader);
 			final List<Document> result = new ArrayList<>();
 			for (int i = 0; i < localReader.maxDoc(); i++) {
@@ -186,6 +281,8 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			return result;
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
 		}
 	}
 
@@ -197,7 +294,7 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			throw new IllegalArgumentException("fieldValue argument is empty");
 		try {
 			final Document doc = getDocument(fieldName, fieldValue);
-			return doc != null ? mapper.readValue(doc.get(DOCUMENT_DATA_FIELD_NAME), beanType) : null;
+			return doc != null ? toBean(doc) : null;
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		}
@@ -209,8 +306,8 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			throw new IllegalArgumentException("fieldName argument is empty");
 		if (isEmpty(fieldValue))
 			throw new IllegalArgumentException("fieldValue argument is empty");
+		final IndexSearcher localSearcher = acquireSearcher();
 		try {
-			final IndexSearcher localSearcher = getSearcher();
 			final BooleanQuery query = new BooleanQuery.Builder() //
 					.add(new TermQuery(new Term(fieldName, fieldValue)), BooleanClause.Occur.MUST) //
 					.build();
@@ -220,6 +317,8 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			return localSearcher.doc(topDocs.scoreDocs[0].doc);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
 		}
 	}
 
@@ -234,14 +333,14 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 
 		try {
 			final Document doc = toAdd.toDocument();
-			doc.add(new TextField(DOCUMENT_DATA_FIELD_NAME, mapper.writeValueAsString(toAdd), Field.Store.YES));
+			doc.add(new StoredField(DOCUMENT_PAYLOAD_FIELD_NAME, codec.encode(toAdd)));
 
 			writer.addDocument(doc);
-			writer.commit();
+			commit(1);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -256,14 +355,14 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 
 		try {
 			final Document doc = toUpdate.toDocument();
-			doc.add(new TextField(DOCUMENT_DATA_FIELD_NAME, mapper.writeValueAsString(toUpdate), Field.Store.YES));
+			doc.add(new StoredField(DOCUMENT_PAYLOAD_FIELD_NAME, codec.encode(toUpdate)));
 
 			writer.updateDocument(new Term(toUpdate.idFieldName(), toUpdate.idFieldValue()), doc);
-			writer.commit();
+			commit(1);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -278,11 +377,11 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 
 		try {
 			writer.deleteDocuments(new Term(toRemove.idFieldName(), toRemove.idFieldValue()));
-			writer.commit();
+			commit(1);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -300,16 +399,16 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 					continue;
 
 				final Document doc = bean.toDocument();
-				doc.add(new TextField(DOCUMENT_DATA_FIELD_NAME, mapper.writeValueAsString(bean), Field.Store.YES));
+				doc.add(new StoredField(DOCUMENT_PAYLOAD_FIELD_NAME, codec.encode(bean)));
 				docs.add(doc);
 			}
 
 			writer.addDocuments(docs);
-			writer.commit();
+			commit(docs.size());
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -326,15 +425,15 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 					continue;
 
 				final Document doc = bean.toDocument();
-				doc.add(new TextField(DOCUMENT_DATA_FIELD_NAME, mapper.writeValueAsString(bean), Field.Store.YES));
+				doc.add(new StoredField(DOCUMENT_PAYLOAD_FIELD_NAME, codec.encode(bean)));
 
 				writer.updateDocument(new Term(bean.idFieldName(), bean.idFieldValue()), doc);
 			}
-			writer.commit();
+			commit(toUpdate.size());
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -353,11 +452,11 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 				writer.deleteDocuments(new Term(bean.idFieldName(), bean.idFieldValue()));
 			}
 
-			writer.commit();
+			commit(toRemove.size());
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
 		}
 	}
 
@@ -365,17 +464,31 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 	public void removeAll() {
 		try {
 			writer.deleteAll();
-			writer.commit();
+			commit(1);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
 		} finally {
-			cleanAfterCommit();
+			onChange();
+		}
+	}
+
+	@Override
+	public void flush() {
+		try {
+			commitUncommitted();
+		} catch (final IOException e) {
+			throw new LuceneStoreRuntimeException(e);
 		}
 	}
 
 	@Override
 	public int count() {
-		return getReader().numDocs();
+		final IndexSearcher localSearcher = acquireSearcher();
+		try {
+			return localSearcher.getIndexReader().numDocs();
+		} finally {
+			releaseSearcher(localSearcher);
+		}
 	}
 
 	@Override
@@ -383,10 +496,47 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 		if (query == null)
 			throw new IllegalArgumentException("query argument is null");
 
+		final IndexSearcher localSearcher = acquireSearcher();
+		try {
+			return localSearcher.count(query);
+		} catch (final IOException e) {
+			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
+		}
+	}
+
+	@Override
+	public Map<String, Integer> countByTerm(final String field) {
+		if (isEmpty(field))
+			throw new IllegalArgumentException("field argument is empty");
+
+		final IndexSearcher localSearcher = acquireSearcher();
+		try {
+			return countByTerm(localSearcher.getIndexReader(), null, field);
+		} catch (final IOException e) {
+			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
+		}
+	}
+
+	@Override
+	public Map<String, Integer> countByTerm(final Query query, final String field) {
+		if (query == null)
+			throw new IllegalArgumentException("query argument is null");
+		if (isEmpty(field))
+			throw new IllegalArgumentException("field argument is empty");
+
+		final IndexSearcher localSearcher = acquireSearcher();
 		try {
-			return getSearcher().search(query, Integer.MAX_VALUE).scoreDocs.length;
+			final MatchingDocsCollector collector = new MatchingDocsCollector(localSearcher.getIndexReader());
+			localSearcher.search(query, collector);
+			return countByTerm(localSearcher.getIndexReader(), collector, field);
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
 		}
 	}
 
@@ -452,7 +602,7 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			final List<S> result = new ArrayList<>(docs.size());
 			for (final Document doc : docs) {
 				if (doc != null)
-					result.add(mapper.readValue(doc.get(DOCUMENT_DATA_FIELD_NAME), beanType));
+					result.add(toBean(doc));
 			}
 			return result;
 		} catch (final IOException e) {
@@ -469,8 +619,8 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 		if (limit < 1)
 			return Collections.emptyList();
 
+		final IndexSearcher localSearcher = acquireSearcher();
 		try {
-			final IndexSearcher localSearcher = getSearcher();
 			final TopDocs topDocs = sort != null ? localSearcher.search(query, offset + limit, sort) : localSearcher.search(query, offset + limit);
 			final List<Document> result = new ArrayList<>();
 			if (offset >= topDocs.scoreDocs.length)
@@ -482,62 +632,477 @@ public class LuceneStoreImpl<S extends Storable> implements LuceneStore<S> {
 			return result;
 		} catch (final IOException e) {
 			throw new LuceneStoreRuntimeException(e);
+		} finally {
+			releaseSearcher(localSearcher);
 		}
 	}
 
+	@Override
+	public Stream<S> streamAll() {
+		return stream(new MatchAllDocsQuery(), null);
+	}
+
+	@Override
+	public Stream<S> stream(final Query query) {
+		return stream(query, null);
+	}
+
+	@Override
+	public Stream<S> stream(final Query query, final Sort sort) {
+		return streamDocuments(query, sort).map(new Function<Document, S>() {
+			@Override
+			public S apply(final Document doc) {
+				try {
+					return toBean(doc);
+				} catch (final IOException e) {
+					throw new LuceneStoreRuntimeException(e);
+				}
+			}
+		});
+	}
+
+	@Override
+	public Stream<Document> streamDocuments(final Query query) {
+		return streamDocuments(query, null);
+	}
+
+	@Override
+	public Stream<Document> streamDocuments(final Query query, final Sort sort) {
+		if (query == null)
+			throw new IllegalArgumentException("query argument is null");
+
+		final DocumentsIterator iterator = new DocumentsIterator(acquireSearcher(), query, sort, config.getStreamPageSize());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(new Runnable() {
+					@Override
+					public void run() {
+						iterator.close();
+					}
+				});
+	}
+
+	@Override
+	public int migrate() {
+		int result = 0;
+		final List<S> batch = new ArrayList<>();
+		try (Stream<S> legacy = stream(new NormsFieldExistsQuery(DOCUMENT_DATA_FIELD_NAME))) { // legacy data field is indexed with norms
+			final Iterator<S> iterator = legacy.iterator();
+			while (iterator.hasNext()) {
+				batch.add(iterator.next());
+				if (batch.size() < config.getStreamPageSize() && iterator.hasNext())
+					continue;
+
+				update(batch);
+				result += batch.size();
+				batch.clear();
+			}
+		}
+
+		if (result > 0)
+			LOGGER.info("Type[" + beanType + "], migrated[" + result + "] documents to " + codec);
+		return result;
+	}
+
 	@Override
 	public synchronized void tearDown() {
-		LuceneUtils.close(reader);
+		if (committer != null) {
+			committer.shutdownNow();
+			try {
+				commitUncommitted();
+			} catch (final IOException | AlreadyClosedException e) {
+				LOGGER.warn("Unable to commit changes on tear down", e);
+			}
+		}
+
+		LuceneUtils.close(refreshThread);
+		LuceneUtils.close(searcherManager);
 		LuceneUtils.close(analyzer);
 		LuceneUtils.close(writer);
 		LuceneUtils.close(directory);
 	}
 
 	/**
-	 * Get {@link IndexReader} instance (with lazy initialization).
+	 * Acquire {@link IndexSearcher}, it should be released with {@link #releaseSearcher(IndexSearcher)} after usage.<br>
+	 * Searcher is refreshed before acquiring if index is changed and refresh is performed on read, see {@link RefreshPolicy#ON_READ}.
 	 *
-	 * @return {@link IndexReader}
-	 */
-	private IndexReader getReader() {
-		if (reader == null)
-			synchronized (lock) {
-				if (reader == null) {
-					try {
-						reader = DirectoryReader.open(directory);
-					} catch (final IOException e) {
-						throw new LuceneStoreRuntimeException(e);
-					}
-				}
+	 * @return {@link IndexSearcher}
+	 */
+	private IndexSearcher acquireSearcher() {
+		try {
+			if (refreshThread == null) {
+				final long current = changes.get();
+				if (refreshed.get() < current)
+					refresh(current);
 			}
 
-		return reader;
+			return searcherManager.acquire();
+		} catch (final IOException e) {
+			throw new LuceneStoreRuntimeException(e);
+		}
 	}
 
 	/**
-	 * Get {@link IndexSearcher} instance (with lazy initialization).
+	 * Release {@link IndexSearcher} acquired by {@link #acquireSearcher()}.
 	 *
-	 * @return {@link IndexSearcher}
+	 * @param toRelease
+	 *            {@link IndexSearcher}
+	 */
+	private void releaseSearcher(final IndexSearcher toRelease) {
+		try {
+			searcherManager.release(toRelease);
+		} catch (final IOException e) {
+			throw new LuceneStoreRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Refresh searcher to make all changes up to given counter value visible.
+	 *
+	 * @param current
+	 *            changes counter value
+	 * @throws IOException
 	 */
-	private IndexSearcher getSearcher() {
-		if (searcher == null)
-			synchronized (lock) {
-				if (searcher == null)
-					searcher = new IndexSearcher(getReader());
+	private void refresh(final long current) throws IOException {
+		searcherManager.maybeRefreshBlocking(); // refresh is started after given changes, so all of them would be visible
+
+		long value = refreshed.get();
+		while (value < current && !refreshed.compareAndSet(value, current))
+			value = refreshed.get();
+	}
+
+	/**
+	 * Commit changes according to configured {@link CommitPolicy}.<br>
+	 * Changes are committed right away or background commit is requested when enough changes are collected.
+	 *
+	 * @param changes
+	 *            changes amount
+	 * @throws IOException
+	 */
+	private void commit(final int changes) throws IOException {
+		if (committer == null) {
+			writer.commit();
+			return;
+		}
+
+		if (uncommitted.addAndGet(changes) >= config.getCommitMaxChanges() && commitRequested.compareAndSet(false, true))
+			try {
+				committer.execute(new Runnable() {
+					@Override
+					public void run() {
+						commitRequested.set(false);
+						commitInBackground();
+					}
+				});
+			} catch (final RejectedExecutionException e) {
+				commitRequested.set(false); // store is tearing down, changes are committed on tear down
 			}
+	}
 
-		return searcher;
+	/**
+	 * Commit all not committed changes.<br>
+	 * Changes counted before commit are made before it, so they are included to the commit.
+	 *
+	 * @throws IOException
+	 */
+	private void commitUncommitted() throws IOException {
+		final long changes = uncommitted.getAndSet(0L);
+		try {
+			writer.commit();
+		} catch (final IOException | RuntimeException e) {
+			uncommitted.addAndGet(changes); // should be committed later
+			throw e;
+		}
 	}
 
 	/**
-	 * This method used for clean up {@link IndexReader} and {@link IndexSearcher} after any commit to the {@link Directory}.<br>
-	 * This action required for {@link IndexReader} and {@link IndexSearcher} lazy re-initialization to use new data after {@link IndexWriter} commit.
+	 * Commit not committed changes from background committer.
 	 */
-	private void cleanAfterCommit() {
-		synchronized (lock) {
-			LuceneUtils.close(reader);
-			reader = null;
+	private void commitInBackground() {
+		if (uncommitted.get() == 0L)
+			return;
+
+		try {
+			commitUncommitted();
+			// CHECKSTYLE:OFF
+		} catch (final IOException | RuntimeException e) {
+			// CHECKSTYLE:ON
+			LOGGER.warn("Unable to commit changes, commit would be retried", e);
+		}
+	}
+
+	/**
+	 * This method used for tracking changes after any write to the {@link IndexWriter}.<br>
+	 * Searcher is refreshed right away or lazily according to configured {@link RefreshPolicy}, in-flight searches are finishing on the searcher
+	 * they acquired.
+	 */
+	private void onChange() {
+		final long current = changes.incrementAndGet();
+		if (config.getRefreshPolicy() != RefreshPolicy.ON_WRITE)
+			return;
+
+		try {
+			refresh(current);
+		} catch (final IOException e) {
+			LOGGER.warn("Unable to refresh searcher, it would be refreshed on read", e);
+		}
+	}
+
+	/**
+	 * Deserialize bean from document payload, bean data stored by previous versions as JSON text is supported.
+	 * 
+	 * @param doc
+	 *            {@link Document}
+	 * @return bean
+	 * @throws IOException
+	 *             if bean can't be deserialized
+	 */
+	private S toBean(final Document doc) throws IOException {
+		final BytesRef payload = doc.getBinaryValue(DOCUMENT_PAYLOAD_FIELD_NAME);
+		if (payload != null)
+			return codec.decode(payload.bytes, payload.offset, payload.length, beanType);
+
+		final String data = doc.get(DOCUMENT_DATA_FIELD_NAME);
+		if (data == null)
+			throw new LuceneStoreRuntimeException("Document[" + doc + "] has no bean payload");
+
+		return mapper.readValue(data, beanType);
+	}
+
+	/**
+	 * Create {@link PayloadCodec} instance.<br>
+	 * Default codec is replaced with {@link JacksonPayloadCodec} if it's dependencies are missing in classpath.
+	 * 
+	 * @param className
+	 *            {@link PayloadCodec} implementation class name
+	 * @return {@link PayloadCodec}
+	 */
+	private static PayloadCodec createCodec(final String className) {
+		try {
+			final Class<?> type = Class.forName(className);
+			if (!PayloadCodec.class.isAssignableFrom(type))
+				throw new LuceneStoreRuntimeException("Class[" + className + "] isn't a " + PayloadCodec.class.getName());
+
+			return (PayloadCodec) type.newInstance();
+		} catch (final ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+			throw new LuceneStoreRuntimeException("Can't create payload codec[" + className + "]", e);
+		} catch (final LinkageError e) {
+			if (!LuceneStoreConfig.DEFAULT_PAYLOAD_CODEC.equals(className))
+				throw new LuceneStoreRuntimeException("Can't create payload codec[" + className + "]", e);
+
+			LOGGER.warn("Default payload codec[" + className + "] dependencies are missing, using[" + JacksonPayloadCodec.class.getName() + "]: " + e);
+			return new JacksonPayloadCodec();
+		}
+	}
+
+	/**
+	 * Count documents per each term of the field by walking term postings of each index segment.
+	 * 
+	 * @param reader
+	 *            {@link IndexReader}
+	 * @param matching
+	 *            documents matching the query, <code>null</code> to count all documents
+	 * @param field
+	 *            field name
+	 * @return documents count per term, sorted by term
+	 * @throws IOException
+	 *             if index reading failed
+	 */
+	private static Map<String, Integer> countByTerm(final IndexReader reader, final MatchingDocsCollector matching, final String field)
+			throws IOException {
+		final Map<String, Integer> result = new TreeMap<>();
+		for (final LeafReaderContext leaf : reader.leaves()) {
+			final Terms terms = leaf.reader().terms(field);
+			final FixedBitSet matched = matching != null ? matching.getMatched(leaf) : null;
+			if (terms == null || matching != null && matched == null)
+				continue;
+
+			final Bits liveDocs = leaf.reader().getLiveDocs();
+			final TermsEnum termsEnum = terms.iterator();
+			PostingsEnum postings = null;
+			for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+				postings = termsEnum.postings(postings, PostingsEnum.NONE);
+				int count = 0;
+				for (int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc())
+					if ((liveDocs == null || liveDocs.get(doc)) && (matched == null || matched.get(doc)))
+						count++;
+
+				if (count == 0)
+					continue;
+
+				final String key = term.utf8ToString();
+				final Integer current = result.get(key);
+				result.put(key, current != null ? current + count : count);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@link Document} iterator loading search results page by page with {@link IndexSearcher#searchAfter(ScoreDoc, Query, int)}.<br>
+	 * Acquired searcher is released when all results are iterated or iterator is closed.
+	 *
+	 * @author Alexandr Bolbat
+	 */
+	private final class DocumentsIterator implements Iterator<Document> {
+
+		/**
+		 * Acquired {@link IndexSearcher}, <code>null</code> when it's released.
+		 */
+		private IndexSearcher searcher;
+
+		/**
+		 * {@link Query}.
+		 */
+		private final Query query;
+
+		/**
+		 * Sorting criteria, can be <code>null</code>.
+		 */
+		private final Sort sort;
+
+		/**
+		 * Page size.
+		 */
+		private final int pageSize;
+
+		/**
+		 * Current page.
+		 */
+		private ScoreDoc[] page;
+
+		/**
+		 * Next document index in current page.
+		 */
+		private int index;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param aSearcher
+		 *            acquired {@link IndexSearcher}
+		 * @param aQuery
+		 *            {@link Query}
+		 * @param aSort
+		 *            sorting criteria, can be <code>null</code>
+		 * @param aPageSize
+		 *            page size
+		 */
+		private DocumentsIterator(final IndexSearcher aSearcher, final Query aQuery, final Sort aSort, final int aPageSize) {
+			this.searcher = aSearcher;
+			this.query = aQuery;
+			this.sort = aSort;
+			this.pageSize = aPageSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (page != null && index < page.length)
+				return true;
+			if (searcher == null) // released
+				return false;
+			if (page != null && page.length < pageSize) { // last page is iterated
+				close();
+				return false;
+			}
+
+			try {
+				final ScoreDoc after = page != null ? page[page.length - 1] : null;
+				page = (sort != null ? searcher.searchAfter(after, query, pageSize, sort) : searcher.searchAfter(after, query, pageSize)).scoreDocs;
+				index = 0;
+			} catch (final IOException | RuntimeException e) {
+				close();
+				throw e instanceof IOException ? new LuceneStoreRuntimeException(e) : (RuntimeException) e;
+			}
+
+			if (page.length > 0)
+				return true;
+
+			close();
+			return false;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			try {
+				return searcher.doc(page[index++].doc);
+			} catch (final IOException e) {
+				close();
+				throw new LuceneStoreRuntimeException(e);
+			}
+		}
+
+		/**
+		 * Release acquired {@link IndexSearcher}.
+		 */
+		private void close() {
+			if (searcher == null)
+				return;
+
+			final IndexSearcher toRelease = searcher;
 			searcher = null;
+			page = null;
+			releaseSearcher(toRelease);
 		}
+
+	}
+
+	/**
+	 * {@link org.apache.lucene.search.Collector} marking documents matching the query per index segment, without scoring and sorting.
+	 *
+	 * @author Alexandr Bolbat
+	 */
+	private static final class MatchingDocsCollector extends SimpleCollector {
+
+		/**
+		 * Matched documents per index segment ordinal, <code>null</code> for segments without matches.
+		 */
+		private final FixedBitSet[] matched;
+
+		/**
+		 * Matched documents of the current segment.
+		 */
+		private FixedBitSet current;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param reader
+		 *            searched {@link IndexReader}
+		 */
+		private MatchingDocsCollector(final IndexReader reader) {
+			this.matched = new FixedBitSet[reader.leaves().size()];
+		}
+
+		@Override
+		protected void doSetNextReader(final LeafReaderContext context) {
+			current = new FixedBitSet(context.reader().maxDoc());
+			matched[context.ord] = current;
+		}
+
+		@Override
+		public void collect(final int doc) {
+			current.set(doc);
+		}
+
+		@Override
+		public boolean needsScores() {
+			return false;
+		}
+
+		/**
+		 * Get matched documents of the index segment.
+		 *
+		 * @param context
+		 *            {@link LeafReaderContext}
+		 * @return {@link FixedBitSet} or <code>null</code> if segment has no matches
+		 */
+		private FixedBitSet getMatched(final LeafReaderContext context) {
+			return matched[context.ord];
+		}
+
 	}
 
 }
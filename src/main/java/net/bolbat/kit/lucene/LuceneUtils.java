@@ -5,6 +5,8 @@ import java.io.IOException;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.store.Directory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,4 +89,31 @@ public final class LuceneUtils {
 		}
 	}
 
+	/**
+	 * Close {@link ReferenceManager} instance.
+	 * 
+	 * @param manager
+	 *            {@link ReferenceManager}
+	 */
+	public static void close(final ReferenceManager<?> manager) {
+		try {
+			if (manager != null)
+				manager.close();
+		} catch (final IOException e) {
+			if (LOGGER.isWarnEnabled())
+				LOGGER.warn("Unable to close ReferenceManager", e);
+		}
+	}
+
+	/**
+	 * Close {@link ControlledRealTimeReopenThread} instance.
+	 * 
+	 * @param thread
+	 *            {@link ControlledRealTimeReopenThread}
+	 */
+	public static void close(final ControlledRealTimeReopenThread<?> thread) {
+		if (thread != null)
+			thread.close();
+	}
+
 }
@@ -0,0 +1,42 @@
+package net.bolbat.kit.lucene;
+
+import java.io.IOException;
+
+/**
+ * Codec for serialized bean payload stored in the {@link LuceneStore} documents.<br>
+ * Payload is stored as binary stored only field, it isn't indexed. Implementations should be thread safe and have public no-arguments
+ * constructor to be configured by class name in {@link LuceneStoreConfig}.
+ * 
+ * @author Alexandr Bolbat
+ */
+public interface PayloadCodec {
+
+	/**
+	 * Encode bean to payload.
+	 * 
+	 * @param bean
+	 *            bean
+	 * @return payload bytes
+	 * @throws IOException
+	 *             if bean can't be encoded
+	 */
+	byte[] encode(Object bean) throws IOException;
+
+	/**
+	 * Decode bean from payload.
+	 * 
+	 * @param data
+	 *            payload bytes
+	 * @param offset
+	 *            payload offset in bytes
+	 * @param length
+	 *            payload length
+	 * @param type
+	 *            bean type
+	 * @return bean
+	 * @throws IOException
+	 *             if bean can't be decoded
+	 */
+	<T> T decode(byte[] data, int offset, int length, Class<T> type) throws IOException;
+
+}
@@ -0,0 +1,54 @@
+package net.bolbat.kit.lucene;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@link PayloadCodec} encoding beans to Jackson Smile binary format.<br>
+ * Smile payload is smaller and faster to parse than JSON one. Payloads without Smile header, like ones encoded by {@link JacksonPayloadCodec} to
+ * JSON, are decoded as JSON, so codec could be switched without reindexing.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class SmilePayloadCodec extends JacksonPayloadCodec {
+
+	/**
+	 * {@link JacksonPayloadCodec} for JSON payloads.
+	 */
+	private final JacksonPayloadCodec json = new JacksonPayloadCodec();
+
+	/**
+	 * Default constructor.
+	 */
+	public SmilePayloadCodec() {
+		super(new ObjectMapper(new SmileFactory()));
+	}
+
+	@Override
+	public <T> T decode(final byte[] data, final int offset, final int length, final Class<T> type) throws IOException {
+		if (!isSmile(data, offset, length))
+			return json.decode(data, offset, length, type);
+
+		return super.decode(data, offset, length, type);
+	}
+
+	/**
+	 * Is payload starting with Smile header.
+	 * 
+	 * @param data
+	 *            payload bytes
+	 * @param offset
+	 *            payload offset
+	 * @param length
+	 *            payload length
+	 * @return <code>true</code> if Smile header is present or <code>false</code>
+	 */
+	private static boolean isSmile(final byte[] data, final int offset, final int length) {
+		return length >= 3 && data[offset] == SmileConstants.HEADER_BYTE_1 && data[offset + 1] == SmileConstants.HEADER_BYTE_2
+				&& data[offset + 2] == SmileConstants.HEADER_BYTE_3;
+	}
+
+}
@@ -3,6 +3,7 @@ package net.bolbat.kit.orchestrator;
 import static net.bolbat.utils.lang.StringUtils.isNotEmpty;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -15,10 +16,14 @@ import org.configureme.annotations.DontConfigure;
 import net.bolbat.kit.config.AbstractConfiguration;
 import net.bolbat.kit.config.ConfigurationManager;
 import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCircuitBreaker;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationExecutor;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.ConcurrentLimit;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.RateLimitPolicy;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationRetry;
 import net.bolbat.kit.orchestrator.impl.callable.CallableFactory;
 import net.bolbat.kit.orchestrator.impl.callable.DefaultCallableFactory;
 import net.bolbat.kit.orchestrator.impl.executor.DefaultExecutorServiceFactory;
@@ -63,6 +68,18 @@ public class OrchestrationConfig extends AbstractConfiguration {
 	@Configure
 	private ExecutorConfig executorConfig = new ExecutorConfig();
 
+	/**
+	 * Retry configuration.
+	 */
+	@Configure
+	private RetryConfig retryConfig = new RetryConfig();
+
+	/**
+	 * Circuit breaker configuration.
+	 */
+	@Configure
+	private CircuitBreakerConfig circuitBreakerConfig = new CircuitBreakerConfig();
+
 	public Source getSource() {
 		return source;
 	}
@@ -95,6 +112,22 @@ public class OrchestrationConfig extends AbstractConfiguration {
 		this.executorConfig = aExecutorConfig != null ? aExecutorConfig : new ExecutorConfig();
 	}
 
+	public RetryConfig getRetryConfig() {
+		return retryConfig;
+	}
+
+	public void setRetryConfig(final RetryConfig aRetryConfig) {
+		this.retryConfig = aRetryConfig != null ? aRetryConfig : new RetryConfig();
+	}
+
+	public CircuitBreakerConfig getCircuitBreakerConfig() {
+		return circuitBreakerConfig;
+	}
+
+	public void setCircuitBreakerConfig(final CircuitBreakerConfig aCircuitBreakerConfig) {
+		this.circuitBreakerConfig = aCircuitBreakerConfig != null ? aCircuitBreakerConfig : new CircuitBreakerConfig();
+	}
+
 	/**
 	 * Configure.
 	 * 
@@ -128,12 +161,63 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			final OrchestrationMode mode, //
 			final OrchestrationLimits limits, //
 			final OrchestrationExecutor executor) {
+		return configure(orchestrate, mode, limits, executor, null);
+	}
+
+	/**
+	 * Configure.
+	 * 
+	 * @param orchestrate
+	 *            {@link Orchestrate}
+	 * @param mode
+	 *            {@link OrchestrationMode}
+	 * @param limits
+	 *            {@link OrchestrationLimits}
+	 * @param executor
+	 *            {@link OrchestrationExecutor}
+	 * @param retry
+	 *            {@link OrchestrationRetry}
+	 * @return {@link OrchestrationConfig}
+	 */
+	public static OrchestrationConfig configure( //
+			final Orchestrate orchestrate, //
+			final OrchestrationMode mode, //
+			final OrchestrationLimits limits, //
+			final OrchestrationExecutor executor, //
+			final OrchestrationRetry retry) {
+		return configure(orchestrate, mode, limits, executor, retry, null);
+	}
+
+	/**
+	 * Configure.
+	 * 
+	 * @param orchestrate
+	 *            {@link Orchestrate}
+	 * @param mode
+	 *            {@link OrchestrationMode}
+	 * @param limits
+	 *            {@link OrchestrationLimits}
+	 * @param executor
+	 *            {@link OrchestrationExecutor}
+	 * @param retry
+	 *            {@link OrchestrationRetry}
+	 * @param circuitBreaker
+	 *            {@link OrchestrationCircuitBreaker}
+	 * @return {@link OrchestrationConfig}
+	 */
+	public static OrchestrationConfig configure( //
+			final Orchestrate orchestrate, //
+			final OrchestrationMode mode, //
+			final OrchestrationLimits limits, //
+			final OrchestrationExecutor executor, //
+			final OrchestrationRetry retry, //
+			final OrchestrationCircuitBreaker circuitBreaker) {
 		OrchestrationConfig config = null;
 		if (orchestrate != null && isNotEmpty(orchestrate.configName())) {
 			config = ConfigurationManager.getInstanceForConf(OrchestrationConfig.class, orchestrate.configName());
 		} else {
 			config = new OrchestrationConfig();
-			config.configure(mode, limits, executor);
+			config.configure(mode, limits, executor, retry, circuitBreaker);
 		}
 		return config;
 	}
@@ -149,14 +233,57 @@ public class OrchestrationConfig extends AbstractConfiguration {
 	 *            {@link OrchestrationExecutor}
 	 */
 	public void configure(final OrchestrationMode mode, final OrchestrationLimits limits, final OrchestrationExecutor executor) {
+		configure(mode, limits, executor, null);
+	}
+
+	/**
+	 * Configure from annotations values.
+	 * 
+	 * @param mode
+	 *            {@link OrchestrationMode}
+	 * @param limits
+	 *            {@link OrchestrationLimits}
+	 * @param executor
+	 *            {@link OrchestrationExecutor}
+	 * @param retry
+	 *            {@link OrchestrationRetry}
+	 */
+	public void configure(final OrchestrationMode mode, final OrchestrationLimits limits, final OrchestrationExecutor executor,
+			final OrchestrationRetry retry) {
+		configure(mode, limits, executor, retry, null);
+	}
+
+	/**
+	 * Configure from annotations values.
+	 * 
+	 * @param mode
+	 *            {@link OrchestrationMode}
+	 * @param limits
+	 *            {@link OrchestrationLimits}
+	 * @param executor
+	 *            {@link OrchestrationExecutor}
+	 * @param retry
+	 *            {@link OrchestrationRetry}
+	 * @param circuitBreaker
+	 *            {@link OrchestrationCircuitBreaker}
+	 */
+	public void configure(final OrchestrationMode mode, final OrchestrationLimits limits, final OrchestrationExecutor executor,
+			final OrchestrationRetry retry, final OrchestrationCircuitBreaker circuitBreaker) {
 		setSource(Source.ANNOTATIONS);
 		if (mode != null) {
 			getModeConfig().setMode(mode.value());
+			getModeConfig().setPriority(mode.priority());
 		}
 		if (limits != null) {
 			getLimitsConfig().setTime(limits.time());
 			getLimitsConfig().setTimeUnit(limits.timeUnit());
 			getLimitsConfig().setConcurrent(limits.concurrent());
+			getLimitsConfig().setConcurrentLimit(limits.concurrentLimit());
+			getLimitsConfig().setRate(limits.rate());
+			getLimitsConfig().setRatePeriod(limits.ratePeriod());
+			getLimitsConfig().setRatePeriodUnit(limits.ratePeriodUnit());
+			getLimitsConfig().setRateBurst(limits.rateBurst());
+			getLimitsConfig().setRatePolicy(limits.ratePolicy());
 		}
 		if (executor != null) {
 			getExecutorConfig().setFactory(executor.factory());
@@ -167,6 +294,31 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			getExecutorConfig().setKeepAlive(executor.keepAlive());
 			getExecutorConfig().setKeepAliveUnit(executor.keepAliveUnit());
 			getExecutorConfig().setNameFormat(executor.nameFormat());
+			getExecutorConfig().setPriority(executor.priority());
+			getExecutorConfig().setPriorityAging(executor.priorityAging());
+			getExecutorConfig().setPriorityAgingUnit(executor.priorityAgingUnit());
+			getExecutorConfig().setShared(executor.shared());
+		}
+		if (retry != null) {
+			getRetryConfig().setAttempts(retry.attempts());
+			getRetryConfig().setBackoff(retry.backoff());
+			getRetryConfig().setBackoffUnit(retry.backoffUnit());
+			getRetryConfig().setBackoffMultiplier(retry.backoffMultiplier());
+			getRetryConfig().setHedgePercentile(retry.hedgePercentile());
+			getRetryConfig().setRetryOn(retry.retryOn());
+		}
+		if (circuitBreaker != null) {
+			getCircuitBreakerConfig().setEnabled(true);
+			getCircuitBreakerConfig().setFailureRate(circuitBreaker.failureRate());
+			getCircuitBreakerConfig().setSlowRate(circuitBreaker.slowRate());
+			getCircuitBreakerConfig().setSlowTime(circuitBreaker.slowTime());
+			getCircuitBreakerConfig().setSlowTimeUnit(circuitBreaker.slowTimeUnit());
+			getCircuitBreakerConfig().setWindow(circuitBreaker.window());
+			getCircuitBreakerConfig().setMinExecutions(circuitBreaker.minExecutions());
+			getCircuitBreakerConfig().setOpenTime(circuitBreaker.openTime());
+			getCircuitBreakerConfig().setOpenTimeUnit(circuitBreaker.openTimeUnit());
+			getCircuitBreakerConfig().setHalfOpenExecutions(circuitBreaker.halfOpenExecutions());
+			getCircuitBreakerConfig().setFailOn(circuitBreaker.failOn());
 		}
 	}
 
@@ -186,6 +338,8 @@ public class OrchestrationConfig extends AbstractConfiguration {
 		builder.append(", modeConfig=[").append(getModeConfig()).append("]");
 		builder.append(", limitsConfig=[").append(limitsConfig).append("]");
 		builder.append(", executorConfig=[").append(executorConfig).append("]");
+		builder.append(", retryConfig=[").append(retryConfig).append("]");
+		builder.append(", circuitBreakerConfig=[").append(circuitBreakerConfig).append("]");
 		builder.append("]");
 		return builder.toString();
 	}
@@ -209,6 +363,12 @@ public class OrchestrationConfig extends AbstractConfiguration {
 		@Configure
 		private Mode mode = Mode.DEFAULT;
 
+		/**
+		 * Execution priority, inherited from {@link ExecutorConfig} if not set.
+		 */
+		@Configure
+		private int priority = OrchestrationConstants.PRIORITY_INHERITED;
+
 		public Mode getMode() {
 			return mode;
 		}
@@ -217,10 +377,19 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			this.mode = aMode;
 		}
 
+		public int getPriority() {
+			return priority;
+		}
+
+		public void setPriority(final int aPriority) {
+			this.priority = aPriority;
+		}
+
 		@Override
 		public String toString() {
 			final StringBuilder builder = new StringBuilder();
 			builder.append("mode=").append(mode);
+			builder.append(", priority=").append(priority == OrchestrationConstants.PRIORITY_INHERITED ? "inherited" : priority);
 			return builder.toString();
 		}
 
@@ -258,6 +427,42 @@ public class OrchestrationConfig extends AbstractConfiguration {
 		@Configure
 		private int concurrent = OrchestrationConstants.CONCURRENT_LIMIT;
 
+		/**
+		 * Concurrent executions limit type.
+		 */
+		@Configure
+		private ConcurrentLimit concurrentLimit = ConcurrentLimit.DEFAULT;
+
+		/**
+		 * Executions rate limit, permits per period.
+		 */
+		@Configure
+		private int rate = OrchestrationConstants.RATE_LIMIT;
+
+		/**
+		 * Executions rate limit period.
+		 */
+		@Configure
+		private long ratePeriod = OrchestrationConstants.RATE_LIMIT_PERIOD;
+
+		/**
+		 * Executions rate limit period unit.
+		 */
+		@Configure
+		private TimeUnit ratePeriodUnit = OrchestrationConstants.RATE_LIMIT_PERIOD_UNIT;
+
+		/**
+		 * Executions rate limit burst.
+		 */
+		@Configure
+		private int rateBurst = OrchestrationConstants.RATE_LIMIT_BURST;
+
+		/**
+		 * Policy for executions exceeding rate limit.
+		 */
+		@Configure
+		private RateLimitPolicy ratePolicy = RateLimitPolicy.DEFAULT;
+
 		public long getTime() {
 			return time;
 		}
@@ -282,12 +487,75 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			this.concurrent = concurrent;
 		}
 
+		public ConcurrentLimit getConcurrentLimit() {
+			return concurrentLimit;
+		}
+
+		public void setConcurrentLimit(final ConcurrentLimit aConcurrentLimit) {
+			this.concurrentLimit = aConcurrentLimit != null ? aConcurrentLimit : ConcurrentLimit.DEFAULT;
+		}
+
+		public int getRate() {
+			return rate;
+		}
+
+		public void setRate(final int aRate) {
+			this.rate = aRate;
+		}
+
+		public long getRatePeriod() {
+			return ratePeriod;
+		}
+
+		public void setRatePeriod(final long aRatePeriod) {
+			this.ratePeriod = aRatePeriod;
+		}
+
+		public TimeUnit getRatePeriodUnit() {
+			return ratePeriodUnit;
+		}
+
+		public void setRatePeriodUnit(final TimeUnit aRatePeriodUnit) {
+			this.ratePeriodUnit = aRatePeriodUnit != null ? aRatePeriodUnit : OrchestrationConstants.RATE_LIMIT_PERIOD_UNIT;
+		}
+
+		public int getRateBurst() {
+			return rateBurst;
+		}
+
+		public void setRateBurst(final int aRateBurst) {
+			this.rateBurst = aRateBurst;
+		}
+
+		public RateLimitPolicy getRatePolicy() {
+			return ratePolicy;
+		}
+
+		public void setRatePolicy(final RateLimitPolicy aRatePolicy) {
+			this.ratePolicy = aRatePolicy != null ? aRatePolicy : RateLimitPolicy.DEFAULT;
+		}
+
+		/**
+		 * Is executions rate limited.
+		 * 
+		 * @return <code>boolean</code>
+		 */
+		public boolean isRateLimited() {
+			return rate > OrchestrationConstants.RATE_LIMIT && ratePeriod > 0;
+		}
+
 		@Override
 		public String toString() {
 			final StringBuilder builder = new StringBuilder();
 			builder.append("time=").append(time == OrchestrationConstants.TIME_LIMIT ? OrchestrationConstants.UNLIMITED : time);
 			builder.append(", timeUnit=").append(timeUnit);
 			builder.append(", concurrent=").append(concurrent == OrchestrationConstants.CONCURRENT_LIMIT ? OrchestrationConstants.UNLIMITED : concurrent);
+			builder.append(", concurrentLimit=").append(concurrentLimit);
+			builder.append(", rate=").append(rate == OrchestrationConstants.RATE_LIMIT ? OrchestrationConstants.UNLIMITED : rate);
+			builder.append(", ratePeriod=").append(ratePeriod);
+			builder.append(", ratePeriodUnit=").append(ratePeriodUnit);
+			builder.append(", rateBurst=").append(rateBurst);
+			builder.append(", ratePolicy=").append(ratePolicy);
 			return builder.toString();
 		}
 
@@ -357,6 +625,30 @@ public class OrchestrationConfig extends AbstractConfiguration {
 		@Configure
 		private String nameFormat = OrchestrationConstants.THREAD_NAME_FORMAT;
 
+		/**
+		 * Executions priority, higher priority executions are dequeued first by priority executor.
+		 */
+		@Configure
+		private int priority = OrchestrationConstants.PRIORITY;
+
+		/**
+		 * Time of waiting in priority executor queue what is equal to one priority level, protects low priority executions from starvation.
+		 */
+		@Configure
+		private long priorityAging = OrchestrationConstants.PRIORITY_AGING;
+
+		/**
+		 * Time of waiting in priority executor queue what is equal to one priority level unit.
+		 */
+		@Configure
+		private TimeUnit priorityAgingUnit = OrchestrationConstants.PRIORITY_AGING_UNIT;
+
+		/**
+		 * Is executor shared between executions with equal configuration.
+		 */
+		@Configure
+		private boolean shared = OrchestrationConstants.POOL_SHARED;
+
 		public Class<? extends ExecutorServiceFactory> getFactory() {
 			return factory;
 		}
@@ -421,6 +713,56 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			this.nameFormat = aNameFormat;
 		}
 
+		public int getPriority() {
+			return priority;
+		}
+
+		public void setPriority(final int aPriority) {
+			this.priority = aPriority;
+		}
+
+		public long getPriorityAging() {
+			return priorityAging;
+		}
+
+		public void setPriorityAging(final long aPriorityAging) {
+			this.priorityAging = aPriorityAging;
+		}
+
+		public TimeUnit getPriorityAgingUnit() {
+			return priorityAgingUnit;
+		}
+
+		public void setPriorityAgingUnit(final TimeUnit aPriorityAgingUnit) {
+			this.priorityAgingUnit = aPriorityAgingUnit;
+		}
+
+		public boolean isShared() {
+			return shared;
+		}
+
+		public void setShared(final boolean aShared) {
+			this.shared = aShared;
+		}
+
+		/**
+		 * Get key of the executor configuration, executors with equal keys could be shared.<br>
+		 * Callable factory and priority are not included since they are applied per execution.
+		 * 
+		 * @return {@link String}
+		 */
+		public String getSharingKey() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append(factory.getName());
+			builder.append('|').append(coreSize);
+			builder.append('|').append(maxSize);
+			builder.append('|').append(queueSize);
+			builder.append('|').append(keepAliveUnit.toNanos(keepAlive));
+			builder.append('|').append(nameFormat);
+			builder.append('|').append(priorityAgingUnit.toNanos(priorityAging));
+			return builder.toString();
+		}
+
 		@Override
 		public String toString() {
 			final StringBuilder builder = new StringBuilder();
@@ -432,6 +774,385 @@ public class OrchestrationConfig extends AbstractConfiguration {
 			builder.append(", keepAlive=").append(keepAlive);
 			builder.append(", keepAliveUnit=").append(keepAliveUnit);
 			builder.append(", nameFormat=").append(nameFormat);
+			builder.append(", priority=").append(priority);
+			builder.append(", priorityAging=").append(priorityAging);
+			builder.append(", priorityAgingUnit=").append(priorityAgingUnit);
+			builder.append(", shared=").append(shared);
+			return builder.toString();
+		}
+
+	}
+
+	/**
+	 * Orchestration retry configuration.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	@ConfigureMe(allfields = false)
+	public static class RetryConfig implements Serializable {
+
+		/**
+		 * Generated SerialVersionUID.
+		 */
+		@DontConfigure
+		private static final long serialVersionUID = -6412760373146372251L;
+
+		/**
+		 * Default errors what should be retried.
+		 */
+		@DontConfigure
+		@SuppressWarnings("unchecked")
+		private static final Class<? extends Throwable>[] RETRY_ON = (Class<? extends Throwable>[]) new Class<?>[] { Exception.class };
+
+		/**
+		 * Maximum attempts amount including first attempt and hedged attempts.
+		 */
+		@Configure
+		private int attempts = OrchestrationConstants.RETRY_ATTEMPTS;
+
+		/**
+		 * Delay before retry of failed attempt.
+		 */
+		@Configure
+		private long backoff = OrchestrationConstants.RETRY_BACKOFF;
+
+		/**
+		 * Delay before retry unit.
+		 */
+		@Configure
+		private TimeUnit backoffUnit = OrchestrationConstants.RETRY_BACKOFF_UNIT;
+
+		/**
+		 * Delay before retry multiplier applied on each next retry.
+		 */
+		@Configure
+		private double backoffMultiplier = OrchestrationConstants.RETRY_BACKOFF_MULTIPLIER;
+
+		/**
+		 * Execution time percentile after what hedged attempt is started, zero if hedging is disabled.
+		 */
+		@Configure
+		private double hedgePercentile = OrchestrationConstants.HEDGE_PERCENTILE;
+
+		/**
+		 * Errors what should be retried.
+		 */
+		@DontConfigure
+		private Class<? extends Throwable>[] retryOn = RETRY_ON;
+
+		public int getAttempts() {
+			return attempts;
+		}
+
+		public void setAttempts(final int aAttempts) {
+			this.attempts = aAttempts;
+		}
+
+		public long getBackoff() {
+			return backoff;
+		}
+
+		public void setBackoff(final long aBackoff) {
+			this.backoff = aBackoff;
+		}
+
+		public TimeUnit getBackoffUnit() {
+			return backoffUnit;
+		}
+
+		public void setBackoffUnit(final TimeUnit aBackoffUnit) {
+			this.backoffUnit = aBackoffUnit;
+		}
+
+		public double getBackoffMultiplier() {
+			return backoffMultiplier;
+		}
+
+		public void setBackoffMultiplier(final double aBackoffMultiplier) {
+			this.backoffMultiplier = aBackoffMultiplier;
+		}
+
+		public double getHedgePercentile() {
+			return hedgePercentile;
+		}
+
+		public void setHedgePercentile(final double aHedgePercentile) {
+			this.hedgePercentile = aHedgePercentile;
+		}
+
+		public Class<? extends Throwable>[] getRetryOn() {
+			return retryOn.clone();
+		}
+
+		public void setRetryOn(final Class<? extends Throwable>[] aRetryOn) {
+			this.retryOn = aRetryOn != null ? aRetryOn.clone() : RETRY_ON;
+		}
+
+		/**
+		 * Is retries or hedging enabled.
+		 * 
+		 * @return <code>true</code> if enabled or <code>false</code>
+		 */
+		public boolean isEnabled() {
+			return attempts > OrchestrationConstants.RETRY_ATTEMPTS;
+		}
+
+		/**
+		 * Is hedging enabled.
+		 * 
+		 * @return <code>true</code> if enabled or <code>false</code>
+		 */
+		public boolean isHedging() {
+			return isEnabled() && hedgePercentile > OrchestrationConstants.HEDGE_PERCENTILE;
+		}
+
+		/**
+		 * Is given error should be retried.
+		 * 
+		 * @param error
+		 *            error
+		 * @return <code>true</code> if should be retried or <code>false</code>
+		 */
+		public boolean isRetryable(final Throwable error) {
+			for (final Class<? extends Throwable> type : retryOn)
+				if (type.isInstance(error))
+					return true;
+
+			return false;
+		}
+
+		/**
+		 * Get delay before given retry.
+		 * 
+		 * @param retry
+		 *            retry number, starting from <code>1</code>
+		 * @return delay in nanoseconds
+		 */
+		public long getBackoffNanos(final int retry) {
+			if (backoff <= OrchestrationConstants.RETRY_BACKOFF)
+				return 0L;
+
+			return (long) (backoffUnit.toNanos(backoff) * Math.pow(backoffMultiplier, retry - 1));
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append("attempts=").append(attempts);
+			builder.append(", backoff=").append(backoff);
+			builder.append(", backoffUnit=").append(backoffUnit);
+			builder.append(", backoffMultiplier=").append(backoffMultiplier);
+			builder.append(", hedgePercentile=").append(hedgePercentile);
+			builder.append(", retryOn=").append(Arrays.toString(retryOn));
+			return builder.toString();
+		}
+
+	}
+
+	/**
+	 * Orchestration circuit breaker configuration.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	@ConfigureMe(allfields = false)
+	public static class CircuitBreakerConfig implements Serializable {
+
+		/**
+		 * Generated SerialVersionUID.
+		 */
+		@DontConfigure
+		private static final long serialVersionUID = 2760395011284537806L;
+
+		/**
+		 * Default errors what are counted as failures.
+		 */
+		@DontConfigure
+		@SuppressWarnings("unchecked")
+		private static final Class<? extends Throwable>[] FAIL_ON = (Class<? extends Throwable>[]) new Class<?>[] { Exception.class };
+
+		/**
+		 * Is circuit breaker enabled.
+		 */
+		@Configure
+		private boolean enabled = false;
+
+		/**
+		 * Failed executions rate threshold, percents, zero to disable.
+		 */
+		@Configure
+		private int failureRate = OrchestrationConstants.CIRCUIT_FAILURE_RATE;
+
+		/**
+		 * Slow executions rate threshold, percents, zero to disable.
+		 */
+		@Configure
+		private int slowRate = OrchestrationConstants.CIRCUIT_SLOW_RATE;
+
+		/**
+		 * Execution time after what execution is slow, zero if slow executions aren't tracked.
+		 */
+		@Configure
+		private long slowTime = OrchestrationConstants.CIRCUIT_SLOW_TIME;
+
+		/**
+		 * Slow execution time unit.
+		 */
+		@Configure
+		private TimeUnit slowTimeUnit = OrchestrationConstants.CIRCUIT_SLOW_TIME_UNIT;
+
+		/**
+		 * Sliding window size, executions.
+		 */
+		@Configure
+		private int window = OrchestrationConstants.CIRCUIT_WINDOW;
+
+		/**
+		 * Minimal executions amount in sliding window before rates are evaluated.
+		 */
+		@Configure
+		private int minExecutions = OrchestrationConstants.CIRCUIT_MIN_EXECUTIONS;
+
+		/**
+		 * Time while circuit stays open before trial executions are allowed.
+		 */
+		@Configure
+		private long openTime = OrchestrationConstants.CIRCUIT_OPEN_TIME;
+
+		/**
+		 * Open time unit.
+		 */
+		@Configure
+		private TimeUnit openTimeUnit = OrchestrationConstants.CIRCUIT_OPEN_TIME_UNIT;
+
+		/**
+		 * Trial executions amount in half open state.
+		 */
+		@Configure
+		private int halfOpenExecutions = OrchestrationConstants.CIRCUIT_HALF_OPEN_EXECUTIONS;
+
+		/**
+		 * Errors what are counted as failures.
+		 */
+		@DontConfigure
+		private Class<? extends Throwable>[] failOn = FAIL_ON;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(final boolean aEnabled) {
+			this.enabled = aEnabled;
+		}
+
+		public int getFailureRate() {
+			return failureRate;
+		}
+
+		public void setFailureRate(final int aFailureRate) {
+			this.failureRate = aFailureRate;
+		}
+
+		public int getSlowRate() {
+			return slowRate;
+		}
+
+		public void setSlowRate(final int aSlowRate) {
+			this.slowRate = aSlowRate;
+		}
+
+		public long getSlowTime() {
+			return slowTime;
+		}
+
+		public void setSlowTime(final long aSlowTime) {
+			this.slowTime = aSlowTime;
+		}
+
+		public TimeUnit getSlowTimeUnit() {
+			return slowTimeUnit;
+		}
+
+		public void setSlowTimeUnit(final TimeUnit aSlowTimeUnit) {
+			this.slowTimeUnit = aSlowTimeUnit;
+		}
+
+		public int getWindow() {
+			return window;
+		}
+
+		public void setWindow(final int aWindow) {
+			this.window = aWindow;
+		}
+
+		public int getMinExecutions() {
+			return minExecutions;
+		}
+
+		public void setMinExecutions(final int aMinExecutions) {
+			this.minExecutions = aMinExecutions;
+		}
+
+		public long getOpenTime() {
+			return openTime;
+		}
+
+		public void setOpenTime(final long aOpenTime) {
+			this.openTime = aOpenTime;
+		}
+
+		public TimeUnit getOpenTimeUnit() {
+			return openTimeUnit;
+		}
+
+		public void setOpenTimeUnit(final TimeUnit aOpenTimeUnit) {
+			this.openTimeUnit = aOpenTimeUnit;
+		}
+
+		public int getHalfOpenExecutions() {
+			return halfOpenExecutions;
+		}
+
+		public void setHalfOpenExecutions(final int aHalfOpenExecutions) {
+			this.halfOpenExecutions = aHalfOpenExecutions;
+		}
+
+		public Class<? extends Throwable>[] getFailOn() {
+			return failOn.clone();
+		}
+
+		public void setFailOn(final Class<? extends Throwable>[] aFailOn) {
+			this.failOn = aFailOn != null ? aFailOn.clone() : FAIL_ON;
+		}
+
+		/**
+		 * Is given error counted as failure.
+		 * 
+		 * @param error
+		 *            error
+		 * @return <code>true</code> if counted as failure or <code>false</code>
+		 */
+		public boolean isFailure(final Throwable error) {
+			for (final Class<? extends Throwable> type : failOn)
+				if (type.isInstance(error))
+					return true;
+
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append("enabled=").append(enabled);
+			builder.append(", failureRate=").append(failureRate);
+			builder.append(", slowRate=").append(slowRate);
+			builder.append(", slowTime=").append(slowTime);
+			builder.append(", slowTimeUnit=").append(slowTimeUnit);
+			builder.append(", window=").append(window);
+			builder.append(", minExecutions=").append(minExecutions);
+			builder.append(", openTime=").append(openTime);
+			builder.append(", openTimeUnit=").append(openTimeUnit);
+			builder.append(", halfOpenExecutions=").append(halfOpenExecutions);
+			builder.append(", failOn=").append(Arrays.toString(failOn));
 			return builder.toString();
 		}
 
@@ -25,6 +25,126 @@ public final class OrchestrationConstants {
 	 */
 	public static final int CONCURRENT_LIMIT = 0;
 
+	/**
+	 * Default for: adaptive concurrent executions limit initial value.
+	 */
+	public static final int ADAPTIVE_CONCURRENT_LIMIT_INITIAL = 20;
+
+	/**
+	 * Default for: adaptive concurrent executions limit upper bound, used if concurrent executions limit is unlimited.
+	 */
+	public static final int ADAPTIVE_CONCURRENT_LIMIT_MAX = 1000;
+
+	/**
+	 * Default for: executions rate limit (permits per period), zero (unlimited) by default.
+	 */
+	public static final int RATE_LIMIT = 0;
+
+	/**
+	 * Default for: executions rate limit period.
+	 */
+	public static final long RATE_LIMIT_PERIOD = 1L;
+
+	/**
+	 * Default for: executions rate limit period unit.
+	 */
+	public static final TimeUnit RATE_LIMIT_PERIOD_UNIT = TimeUnit.SECONDS;
+
+	/**
+	 * Default for: executions rate limit burst, zero (equal to permits per period) by default.
+	 */
+	public static final int RATE_LIMIT_BURST = 0;
+
+	/**
+	 * Default for: retry attempts, single attempt (no retries) by default.
+	 */
+	public static final int RETRY_ATTEMPTS = 1;
+
+	/**
+	 * Default for: delay before retry, zero (no delay) by default.
+	 */
+	public static final long RETRY_BACKOFF = 0L;
+
+	/**
+	 * Default for: delay before retry unit.
+	 */
+	public static final TimeUnit RETRY_BACKOFF_UNIT = TimeUnit.MILLISECONDS;
+
+	/**
+	 * Default for: delay before retry multiplier, constant delay by default.
+	 */
+	public static final double RETRY_BACKOFF_MULTIPLIER = 1d;
+
+	/**
+	 * Default for: hedging execution time percentile, zero (no hedging) by default.
+	 */
+	public static final double HEDGE_PERCENTILE = 0d;
+
+	/**
+	 * Measured executions amount required before hedging is started.
+	 */
+	public static final int HEDGE_MIN_EXECUTIONS = 100;
+
+	/**
+	 * Default for: circuit breaker failed executions rate threshold, percents.
+	 */
+	public static final int CIRCUIT_FAILURE_RATE = 50;
+
+	/**
+	 * Default for: circuit breaker slow executions rate threshold, percents.
+	 */
+	public static final int CIRCUIT_SLOW_RATE = 100;
+
+	/**
+	 * Default for: circuit breaker slow execution time, zero (slow executions aren't tracked) by default.
+	 */
+	public static final long CIRCUIT_SLOW_TIME = 0L;
+
+	/**
+	 * Default for: circuit breaker slow execution time unit.
+	 */
+	public static final TimeUnit CIRCUIT_SLOW_TIME_UNIT = TimeUnit.MILLISECONDS;
+
+	/**
+	 * Default for: circuit breaker sliding window size, executions.
+	 */
+	public static final int CIRCUIT_WINDOW = 100;
+
+	/**
+	 * Default for: circuit breaker minimal executions amount before rates are evaluated.
+	 */
+	public static final int CIRCUIT_MIN_EXECUTIONS = 20;
+
+	/**
+	 * Default for: circuit breaker open time.
+	 */
+	public static final long CIRCUIT_OPEN_TIME = 30000L;
+
+	/**
+	 * Default for: circuit breaker open time unit.
+	 */
+	public static final TimeUnit CIRCUIT_OPEN_TIME_UNIT = TimeUnit.MILLISECONDS;
+
+	/**
+	 * Default for: circuit breaker trial executions amount in half open state.
+	 */
+	public static final int CIRCUIT_HALF_OPEN_EXECUTIONS = 10;
+
+	/**
+	 * Default for: maximum batch size.
+	 */
+	public static final int BATCH_MAX_SIZE = 100;
+
+	/**
+	 * Default for: maximum time to wait for batch filling.
+	 */
+	public static final long BATCH_MAX_DELAY = 5L;
+
+	/**
+	 * Default for: maximum time to wait for batch filling unit.
+	 */
+	public static final TimeUnit BATCH_MAX_DELAY_UNIT = TimeUnit.MILLISECONDS;
+
 	/**
 	 * Default for: {@link ExecutorService} core pool size, zero by default.
 	 */
@@ -51,6 +171,41 @@ public final class OrchestrationConstants {
 	 */
 	public static final TimeUnit POOL_KEEP_ALIVE_UNIT = TimeUnit.SECONDS;
 
+	/**
+	 * Default for: is {@link ExecutorService} shared between executions with equal configuration.
+	 */
+	public static final boolean POOL_SHARED = false;
+
+	/**
+	 * Delay before graceful shut down of replaced or released {@link ExecutorService}, submissions racing with reconfiguration still land on it.
+	 */
+	public static final long POOL_RETIRE_DELAY = 1000L;
+
+	/**
+	 * Delay before graceful shut down of replaced or released {@link ExecutorService} unit.
+	 */
+	public static final TimeUnit POOL_RETIRE_DELAY_UNIT = TimeUnit.MILLISECONDS;
+
+	/**
+	 * Default for: executions priority.
+	 */
+	public static final int PRIORITY = 0;
+
+	/**
+	 * Default for: method executions priority, inherited from executor configuration.
+	 */
+	public static final int PRIORITY_INHERITED = Integer.MIN_VALUE;
+
+	/**
+	 * Default for: time of waiting in priority executor queue what is equal to one priority level.
+	 */
+	public static final long PRIORITY_AGING = 100L;
+
+	/**
+	 * Default for: time of waiting in priority executor queue what is equal to one priority level unit.
+	 */
+	public static final TimeUnit PRIORITY_AGING_UNIT = TimeUnit.MILLISECONDS;
+
 	/**
 	 * Default for: {@link ExecutorService} thread name format.<br>
 	 * Format arguments:<br>
@@ -1,9 +1,12 @@
 package net.bolbat.kit.orchestrator;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSnapshot;
 import net.bolbat.utils.annotation.Audience;
 import net.bolbat.utils.annotation.Stability;
 
@@ -51,4 +54,28 @@ public interface Orchestrator {
 	 */
 	<T> T invoke(Callable<T> callable, int time, TimeUnit timeUnit, ExecutorService executor) throws Exception;
 
+	/**
+	 * Warm up orchestrable proxy: executions of all proxied methods and resources used by them are resolved in parallel before the first
+	 * call.<br>
+	 * Does nothing by default, executions are resolved on the first call.
+	 * 
+	 * @param proxy
+	 *            orchestrable proxy created by this {@link Orchestrator}
+	 */
+	default void warmUp(final Object proxy) {
+		// nothing to warm up by default
+	}
+
+	/**
+	 * Get metrics snapshots for all orchestrated methods of orchestrable proxy.<br>
+	 * Returns empty list by default, if metrics aren't supported.
+	 * 
+	 * @param proxy
+	 *            orchestrable proxy created by this {@link Orchestrator}
+	 * @return {@link MetricsSnapshot} list
+	 */
+	default List<MetricsSnapshot> getMetrics(final Object proxy) {
+		return Collections.emptyList();
+	}
+
 }
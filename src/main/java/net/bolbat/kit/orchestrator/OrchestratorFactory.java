@@ -1,8 +1,18 @@
 package net.bolbat.kit.orchestrator;
 
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.EnumMap;
+import java.util.Map;
+
 import net.bolbat.kit.orchestrator.impl.ExecutionCaches;
 import net.bolbat.kit.orchestrator.impl.OrchestratorImpl;
+import net.bolbat.kit.orchestrator.impl.executor.AsyncExecutorServiceFactory;
 import net.bolbat.kit.orchestrator.impl.executor.SystemExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.TimerExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSink;
+import net.bolbat.kit.orchestrator.impl.proxy.ProxyGenerator;
 import net.bolbat.utils.annotation.Audience;
 import net.bolbat.utils.annotation.Stability;
 
@@ -25,6 +35,11 @@ public final class OrchestratorFactory {
 	 */
 	private static volatile Orchestrator defaultInstance;
 
+	/**
+	 * {@link Orchestrator} instances by {@link ProxyEngine}, guarded by {@link #LOCK}.
+	 */
+	private static final Map<ProxyEngine, Orchestrator> INSTANCES = new EnumMap<>(ProxyEngine.class);
+
 	/**
 	 * Default constructor with preventing instantiations of this class.
 	 */
@@ -41,20 +56,58 @@ public final class OrchestratorFactory {
 		if (defaultInstance == null)
 			synchronized (LOCK) {
 				if (defaultInstance == null)
-					defaultInstance = new OrchestratorImpl();
+					defaultInstance = get(ProxyEngine.DEFAULT);
 			}
 
 		return defaultInstance;
 	}
 
+	/**
+	 * Get {@link Orchestrator} what is using given {@link ProxyEngine}.
+	 * 
+	 * @param engine
+	 *            {@link ProxyEngine}
+	 * @return {@link Orchestrator}
+	 */
+	public static Orchestrator get(final ProxyEngine engine) {
+		checkArgument(engine != null, "engine argument is null");
+
+		synchronized (LOCK) {
+			Orchestrator instance = INSTANCES.get(engine);
+			if (instance == null) {
+				instance = new OrchestratorImpl(engine);
+				INSTANCES.put(engine, instance);
+			}
+
+			return instance;
+		}
+	}
+
+	/**
+	 * Set {@link MetricsSink} notified on each orchestrated execution.<br>
+	 * Sink is global: it's shared by all {@link Orchestrator} instances and is notified on executions of all orchestrable proxies, reset on
+	 * {@link #tearDown()}.
+	 * 
+	 * @param sink
+	 *            {@link MetricsSink}, <code>null</code> to disable
+	 */
+	public static void setMetricsSink(final MetricsSink sink) {
+		ExecutionMetrics.setSink(sink);
+	}
+
 	/**
 	 * Tear down {@link Orchestrator} internals.
 	 */
 	public static void tearDown() {
 		synchronized (LOCK) {
 			defaultInstance = null;
+			INSTANCES.clear();
 			ExecutionCaches.tearDown();
+			ProxyGenerator.tearDown();
 			SystemExecutorServiceFactory.tearDown();
+			AsyncExecutorServiceFactory.tearDown();
+			TimerExecutorServiceFactory.tearDown();
+			ExecutionMetrics.tearDown();
 		}
 	}
 
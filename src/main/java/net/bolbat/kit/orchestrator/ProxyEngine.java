@@ -0,0 +1,34 @@
+package net.bolbat.kit.orchestrator;
+
+import net.bolbat.utils.annotation.Audience;
+import net.bolbat.utils.annotation.Stability;
+
+/**
+ * Engine used by {@link Orchestrator} for orchestrable proxies creation.
+ * 
+ * @author Alexandr Bolbat
+ */
+@Audience.Public
+@Stability.Evolving
+public enum ProxyEngine {
+
+	/**
+	 * {@link java.lang.reflect.Proxy} based proxies.<br>
+	 * Each call allocates arguments array and boxes primitive arguments.
+	 */
+	REFLECT,
+
+	/**
+	 * Proxies generated at initialization time, one class per interfaces set.<br>
+	 * Not orchestrated calls are typed calls to the target without arguments array allocation and primitives boxing, orchestrated calls are
+	 * dispatched without {@link java.lang.reflect.Method} lookup. {@link #REFLECT} engine is used for interfaces what couldn't be implemented by
+	 * generated class (not public or not visible from target class loader).
+	 */
+	GENERATED;
+
+	/**
+	 * Default engine.
+	 */
+	public static final ProxyEngine DEFAULT = REFLECT;
+
+}
@@ -0,0 +1,56 @@
+package net.bolbat.kit.orchestrator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.utils.annotation.Audience;
+import net.bolbat.utils.annotation.Stability;
+
+/**
+ * Orchestration auto-batching configuration for single item method with one argument.<br>
+ * Concurrent single item calls are collected into batch and dispatched as one call of the bulk method declared by implementation.<br>
+ * Bulk method should accept one {@link java.util.Collection} or {@link java.util.List} argument and return {@link java.util.Map} with results by
+ * argument or {@link java.util.List} with results in arguments order.<br>
+ * Bulk call is orchestrated according to the bulk method configuration, single item method orchestration configuration isn't used.
+ * 
+ * @author Alexandr Bolbat
+ */
+@Audience.Public
+@Stability.Evolving
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface OrchestrationBatch {
+
+	/**
+	 * Bulk method name.
+	 * 
+	 * @return {@link String}
+	 */
+	String method();
+
+	/**
+	 * Maximum batch size, batch is dispatched immediately when it's reached.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int maxSize() default OrchestrationConstants.BATCH_MAX_SIZE;
+
+	/**
+	 * Maximum time to wait for batch filling after first call.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long maxDelay() default OrchestrationConstants.BATCH_MAX_DELAY;
+
+	/**
+	 * Maximum time to wait for batch filling unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit maxDelayUnit() default TimeUnit.MILLISECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+}
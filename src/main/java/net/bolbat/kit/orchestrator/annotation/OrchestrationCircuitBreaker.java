@@ -0,0 +1,98 @@
+package net.bolbat.kit.orchestrator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.utils.annotation.Audience;
+import net.bolbat.utils.annotation.Stability;
+
+/**
+ * Orchestration circuit breaker configuration.<br>
+ * Circuit is opened when failed or slow executions rate over sliding window of last executions reaches threshold. Open circuit rejects executions
+ * immediately with {@code CircuitBreakerOpenException}, after open time limited amount of trial executions is allowed (half open) and depending on
+ * their results circuit is closed or opened again.
+ * 
+ * @author Alexandr Bolbat
+ */
+@Audience.Public
+@Stability.Evolving
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface OrchestrationCircuitBreaker {
+
+	/**
+	 * Failed executions rate threshold, percents.
+	 * 
+	 * @return <code>int</code> in range [0, 100], zero to disable
+	 */
+	int failureRate() default OrchestrationConstants.CIRCUIT_FAILURE_RATE;
+
+	/**
+	 * Slow executions rate threshold, percents.
+	 * 
+	 * @return <code>int</code> in range [0, 100], zero to disable
+	 */
+	int slowRate() default OrchestrationConstants.CIRCUIT_SLOW_RATE;
+
+	/**
+	 * Execution time after what execution is slow, zero to disable slow executions tracking.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long slowTime() default OrchestrationConstants.CIRCUIT_SLOW_TIME;
+
+	/**
+	 * Slow execution time unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit slowTimeUnit() default TimeUnit.MILLISECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+	/**
+	 * Sliding window size, executions.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int window() default OrchestrationConstants.CIRCUIT_WINDOW;
+
+	/**
+	 * Minimal executions amount in sliding window before rates are evaluated.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int minExecutions() default OrchestrationConstants.CIRCUIT_MIN_EXECUTIONS;
+
+	/**
+	 * Time while circuit stays open before trial executions are allowed.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long openTime() default OrchestrationConstants.CIRCUIT_OPEN_TIME;
+
+	/**
+	 * Open time unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit openTimeUnit() default TimeUnit.MILLISECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+	/**
+	 * Trial executions amount in half open state.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int halfOpenExecutions() default OrchestrationConstants.CIRCUIT_HALF_OPEN_EXECUTIONS;
+
+	/**
+	 * Errors what are counted as failures, other errors are counted as successful executions.<br>
+	 * Orchestration timeouts and executor overflows are always counted as failures.
+	 * 
+	 * @return {@link Throwable} types
+	 */
+	Class<? extends Throwable>[] failOn() default { Exception.class };
+
+}
@@ -0,0 +1,32 @@
+package net.bolbat.kit.orchestrator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import net.bolbat.utils.annotation.Audience;
+import net.bolbat.utils.annotation.Stability;
+
+/**
+ * Enable/Disable coalescing of concurrent identical calls, should be used for idempotent read methods only.<br>
+ * While call is in progress all concurrent calls of the same method with equal arguments are waiting for it and share it's result instead of
+ * being executed.<br>
+ * Methods with 'void' result are never coalesced. Shared result instance is returned to all callers, so it shouldn't be modified by them.
+ * 
+ * @author Alexandr Bolbat
+ */
+@Audience.Public
+@Stability.Evolving
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface OrchestrationCoalesce {
+
+	/**
+	 * Is coalescing enabled.
+	 * 
+	 * @return <code>boolean</code>
+	 */
+	boolean value() default true;
+
+}
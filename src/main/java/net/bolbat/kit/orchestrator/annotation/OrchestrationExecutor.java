@@ -13,6 +13,7 @@ import net.bolbat.kit.orchestrator.impl.callable.CallableFactory;
 import net.bolbat.kit.orchestrator.impl.callable.DefaultCallableFactory;
 import net.bolbat.kit.orchestrator.impl.executor.DefaultExecutorServiceFactory;
 import net.bolbat.kit.orchestrator.impl.executor.ExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityExecutorServiceFactory;
 import net.bolbat.utils.annotation.Audience;
 import net.bolbat.utils.annotation.Stability;
 
@@ -84,4 +85,36 @@ public @interface OrchestrationExecutor {
 	 */
 	String nameFormat() default OrchestrationConstants.THREAD_NAME_FORMAT;
 
+	/**
+	 * Executions priority, higher priority executions are dequeued first by {@link PriorityExecutorServiceFactory} executors.<br>
+	 * Could be overridden for method by {@link OrchestrationMode} without creating own executor for it.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int priority() default OrchestrationConstants.PRIORITY;
+
+	/**
+	 * Time of waiting in priority executor queue what is equal to one priority level.<br>
+	 * Low priority execution waiting longer than priority difference multiplied by this time is dequeued before high priority one.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long priorityAging() default OrchestrationConstants.PRIORITY_AGING;
+
+	/**
+	 * Time of waiting in priority executor queue what is equal to one priority level unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit priorityAgingUnit() default TimeUnit.MILLISECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+	/**
+	 * Is {@link ExecutorService} shared between executions with equal configuration, including executions of other classes.<br>
+	 * Shared executor is shut down when last execution using it is reconfigured or torn down, it's threads are named by sharing scope instead of
+	 * execution name.
+	 * 
+	 * @return <code>boolean</code>
+	 */
+	boolean shared() default OrchestrationConstants.POOL_SHARED;
+
 }
@@ -42,4 +42,114 @@ public @interface OrchestrationLimits {
 	 */
 	int concurrent() default OrchestrationConstants.CONCURRENT_LIMIT;
 
+	/**
+	 * Concurrent executions limit type.<br>
+	 * For adaptive types 'concurrent' value is used as upper bound of adaptive limit.
+	 * 
+	 * @return {@link ConcurrentLimit}
+	 */
+	ConcurrentLimit concurrentLimit() default ConcurrentLimit.FIXED; // couldn't use from ConcurrentLimit.DEFAULT due to annotations restrictions
+
+	/**
+	 * Executions rate limit, permits per 'ratePeriod'.<br>
+	 * Rate isn't limited if not greater than zero.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int rate() default OrchestrationConstants.RATE_LIMIT;
+
+	/**
+	 * Executions rate limit period.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long ratePeriod() default OrchestrationConstants.RATE_LIMIT_PERIOD;
+
+	/**
+	 * Executions rate limit period unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit ratePeriodUnit() default TimeUnit.SECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+	/**
+	 * Executions rate limit burst, maximum amount of executions allowed at once after idle period.<br>
+	 * Equal to 'rate' if not greater than zero.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int rateBurst() default OrchestrationConstants.RATE_LIMIT_BURST;
+
+	/**
+	 * Policy for executions exceeding rate limit.
+	 * 
+	 * @return {@link RateLimitPolicy}
+	 */
+	RateLimitPolicy ratePolicy() default RateLimitPolicy.REJECT; // couldn't use from RateLimitPolicy.DEFAULT due to annotations restrictions
+
+	/**
+	 * Concurrent executions limit types.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	enum ConcurrentLimit {
+
+		/**
+		 * Fixed limit, configured 'concurrent' value is used as is.
+		 */
+		FIXED,
+
+		/**
+		 * Adaptive limit with additive increase and multiplicative decrease.<br>
+		 * Limit grows by one on successful execution under load and backs off when execution is dropped (timed out or rejected).
+		 */
+		AIMD,
+
+		/**
+		 * Adaptive limit based on latency gradient.<br>
+		 * Limit follows ratio between long term (no load) and recent execution latency, so it shrinks as soon as latency grows.
+		 */
+		GRADIENT;
+
+		/**
+		 * Default {@link ConcurrentLimit}.
+		 */
+		public static final ConcurrentLimit DEFAULT = ConcurrentLimit.FIXED;
+
+		/**
+		 * Is limit adaptive.
+		 * 
+		 * @return <code>true</code> if adaptive or <code>false</code>
+		 */
+		public boolean isAdaptive() {
+			return this != FIXED;
+		}
+
+	}
+
+	/**
+	 * Policies for executions exceeding rate limit.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	enum RateLimitPolicy {
+
+		/**
+		 * Execution is rejected immediately.
+		 */
+		REJECT,
+
+		/**
+		 * Execution waits for permit, but not longer than execution time limit.<br>
+		 * Execution is rejected if permit couldn't be obtained in time.
+		 */
+		WAIT;
+
+		/**
+		 * Default {@link RateLimitPolicy}.
+		 */
+		public static final RateLimitPolicy DEFAULT = RateLimitPolicy.REJECT;
+
+	}
+
 }
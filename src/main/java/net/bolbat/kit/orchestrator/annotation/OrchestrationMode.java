@@ -5,12 +5,14 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityExecutorServiceFactory;
 import net.bolbat.utils.annotation.Audience;
 import net.bolbat.utils.annotation.Stability;
 
 /**
  * Orchestration mode.<br>
- * Currently supported for 'void' methods only.
+ * 'ASYNC' mode currently supported for 'void' methods and methods returning 'CompletableFuture', 'CompletionStage' or 'Future' only.
  * 
  * @author Alexandr Bolbat
  */
@@ -27,6 +29,14 @@ public @interface OrchestrationMode {
 	 */
 	Mode value() default Mode.SYNC; // couldn't use from Mode.DEFAULT due to annotations restrictions
 
+	/**
+	 * Execution priority, overrides {@link OrchestrationExecutor} priority for method without creating own executor for it.<br>
+	 * Higher priority executions are dequeued first by {@link PriorityExecutorServiceFactory} executors.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int priority() default OrchestrationConstants.PRIORITY_INHERITED;
+
 	/**
 	 * Execution modes.
 	 * 
@@ -40,9 +50,18 @@ public @interface OrchestrationMode {
 		SYNC,
 
 		/**
-		 * Asynchronous.
+		 * Asynchronous.<br>
+		 * Methods returning 'CompletableFuture', 'CompletionStage' or 'Future' get future completed from orchestrator executor, orchestration errors
+		 * are reported through it.
+		 */
+		ASYNC,
+
+		/**
+		 * Synchronous in caller thread, without executor hand off.<br>
+		 * Concurrent executions limit is applied, time limit couldn't be enforced and execution would fall back to 'SYNC' mode if it configured.
+		 * Retries are executed sequentially in caller thread, hedging isn't supported.
 		 */
-		ASYNC;
+		INLINE;
 
 		/**
 		 * Default {@link Mode}.
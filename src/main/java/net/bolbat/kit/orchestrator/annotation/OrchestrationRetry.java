@@ -0,0 +1,69 @@
+package net.bolbat.kit.orchestrator.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.utils.annotation.Audience;
+import net.bolbat.utils.annotation.Stability;
+
+/**
+ * Orchestration retry and hedging configuration, should be used for idempotent methods only.<br>
+ * Applied to 'SYNC' mode executions, attempts are executed on method executor with own time limit each.<br>
+ * Concurrent executions limit is applied to execution as a whole, not to each attempt.
+ * 
+ * @author Alexandr Bolbat
+ */
+@Audience.Public
+@Stability.Evolving
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface OrchestrationRetry {
+
+	/**
+	 * Maximum attempts amount including first attempt and hedged attempts.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int attempts() default OrchestrationConstants.RETRY_ATTEMPTS;
+
+	/**
+	 * Delay before retry of failed attempt.
+	 * 
+	 * @return <code>long</code>
+	 */
+	long backoff() default OrchestrationConstants.RETRY_BACKOFF;
+
+	/**
+	 * Delay before retry unit.
+	 * 
+	 * @return {@link TimeUnit}
+	 */
+	TimeUnit backoffUnit() default TimeUnit.MILLISECONDS; // couldn't use from CallConstants due to annotations restrictions
+
+	/**
+	 * Delay before retry multiplier applied on each next retry.
+	 * 
+	 * @return <code>double</code>
+	 */
+	double backoffMultiplier() default OrchestrationConstants.RETRY_BACKOFF_MULTIPLIER;
+
+	/**
+	 * Execution time percentile after what speculative (hedged) attempt is started if previous attempts are still in progress.<br>
+	 * Percentile is taken from method execution metrics, hedging is disabled if value is zero or until enough executions are measured.
+	 * 
+	 * @return <code>double</code> in range [0, 100)
+	 */
+	double hedgePercentile() default OrchestrationConstants.HEDGE_PERCENTILE;
+
+	/**
+	 * Errors what should be retried, other errors are thrown without retries.
+	 * 
+	 * @return {@link Throwable} types
+	 */
+	Class<? extends Throwable>[] retryOn() default { Exception.class };
+
+}
@@ -0,0 +1,34 @@
+package net.bolbat.kit.orchestrator.exception;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.impl.ExecutionInfo;
+
+/**
+ * Exception for case when execution is rejected by open circuit breaker.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class CircuitBreakerOpenException extends OrchestrationException {
+
+	/**
+	 * Basic serialVersionUID variable.
+	 */
+	private static final long serialVersionUID = -5305452766217904387L;
+
+	/**
+	 * Error message.
+	 */
+	private static final String MESSAGE = "circuit breaker is open";
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 */
+	public CircuitBreakerOpenException(final ExecutionInfo info) {
+		super(String.format(OrchestrationConstants.ERR_MSG_TEMPLATE, info.getId(), info.getName(), info.getActualLimitsConfig(), info.getActualExecutorConfig(),
+				MESSAGE));
+	}
+
+}
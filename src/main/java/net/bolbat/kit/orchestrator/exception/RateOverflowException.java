@@ -0,0 +1,34 @@
+package net.bolbat.kit.orchestrator.exception;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.impl.ExecutionInfo;
+
+/**
+ * Exception for case when executions rate limit is reached.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class RateOverflowException extends OrchestrationException {
+
+	/**
+	 * Basic serialVersionUID variable.
+	 */
+	private static final long serialVersionUID = -3104806427350931648L;
+
+	/**
+	 * Error message.
+	 */
+	private static final String MESSAGE = "executions rate limit is reached";
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 */
+	public RateOverflowException(final ExecutionInfo info) {
+		super(String.format(OrchestrationConstants.ERR_MSG_TEMPLATE, info.getId(), info.getName(), info.getActualLimitsConfig(), info.getActualExecutorConfig(),
+				MESSAGE));
+	}
+
+}
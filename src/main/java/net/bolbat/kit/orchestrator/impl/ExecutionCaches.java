@@ -2,14 +2,26 @@ package net.bolbat.kit.orchestrator.impl;
 
 import static net.bolbat.utils.lang.Validations.checkArgument;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import net.bolbat.kit.orchestrator.OrchestrationConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.impl.executor.AsyncExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.SystemExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.TimerExecutorServiceFactory;
 
 /**
  * Caches required for orchestration.
@@ -28,11 +40,42 @@ public final class ExecutionCaches {
 	 */
 	private static final Map<String, ExecutorService> EXECUTORS = new ConcurrentHashMap<>();
 
+	/**
+	 * Shared {@link ExecutorService} cache by sharing key, guarded by {@link ExecutionCaches} class lock.
+	 */
+	private static final Map<String, SharedExecutor> SHARED_EXECUTORS = new HashMap<>();
+
+	/**
+	 * Shared {@link ExecutorService} cache by instance, guarded by {@link ExecutionCaches} class lock.
+	 */
+	private static final Map<ExecutorService, SharedExecutor> SHARED_EXECUTORS_BY_SERVICE = new IdentityHashMap<>();
+
+	/**
+	 * Replaced or released {@link ExecutorService} instances waiting for shut down.
+	 */
+	private static final Set<ExecutorService> RETIRING_EXECUTORS = Collections.newSetFromMap(new ConcurrentHashMap<ExecutorService, Boolean>());
+
+	/**
+	 * Shared {@link ExecutorService} sequence, used in their threads names.
+	 */
+	private static int sharedExecutorsSequence;
+
+	/**
+	 * Caches generation, changed on each tear down.<br>
+	 * Holders of cached {@link ExecutionInfo} instances should re-resolve them when generation is changed.
+	 */
+	private static volatile long generation;
+
 	/**
 	 * {@link Callable} cache.
 	 */
 	private static final Map<Method, Callable<Object>> CALLABLES = new ConcurrentHashMap<>();
 
+	/**
+	 * {@link MethodHandle} cache.
+	 */
+	private static final Map<Method, MethodHandle> METHOD_HANDLES = new ConcurrentHashMap<>();
+
 	/**
 	 * Default constructor with preventing instantiations of this class.
 	 */
@@ -40,6 +83,15 @@ public final class ExecutionCaches {
 		throw new IllegalAccessError("Shouldn't be instantiated.");
 	}
 
+	/**
+	 * Get caches generation, it's changed on each tear down.
+	 * 
+	 * @return generation
+	 */
+	public static long getGeneration() {
+		return generation;
+	}
+
 	/**
 	 * Get cached {@link ExecutionInfo}.
 	 * 
@@ -68,6 +120,23 @@ public final class ExecutionCaches {
 		INFOS.put(id, info);
 	}
 
+	/**
+	 * Get cached {@link ExecutionInfo} or create and cache it if it's missing.<br>
+	 * {@link ExecutionInfo} is created once per identifier without locking other identifiers, factory shouldn't update this cache.
+	 * 
+	 * @param id
+	 *            execution identifier
+	 * @param factory
+	 *            {@link ExecutionInfo} factory
+	 * @return {@link ExecutionInfo} instance
+	 */
+	public static ExecutionInfo computeInfoIfAbsent(final String id, final Function<String, ExecutionInfo> factory) {
+		checkArgument(id != null, "id argument is null");
+		checkArgument(factory != null, "factory argument is null");
+
+		return INFOS.computeIfAbsent(id, factory);
+	}
+
 	/**
 	 * Get cached {@link ExecutorService}.
 	 * 
@@ -83,7 +152,7 @@ public final class ExecutionCaches {
 
 	/**
 	 * Cache {@link ExecutorService}.<br>
-	 * Previously associated {@link ExecutorService} would be shut down.
+	 * Previously associated {@link ExecutorService} would be released, see {@link #releaseExecutor(ExecutorService)}.
 	 * 
 	 * @param id
 	 *            execution identifier
@@ -94,19 +163,136 @@ public final class ExecutionCaches {
 		checkArgument(id != null, "id argument is null");
 		checkArgument(service != null, "service argument is empty");
 
-		final ExecutorService toShutdown = EXECUTORS.put(id, service);
-		shutdownExecutor(toShutdown);
+		final ExecutorService toRelease = EXECUTORS.put(id, service);
+		if (toRelease != service)
+			releaseExecutor(toRelease);
 	}
 
 	/**
-	 * Shut down {@link ExecutorService}.
+	 * Get cached {@link ExecutorService} or create and cache it if it's missing.<br>
+	 * {@link ExecutorService} is created once per identifier without locking other identifiers, factory shouldn't update this cache.
+	 * 
+	 * @param id
+	 *            execution identifier
+	 * @param factory
+	 *            {@link ExecutorService} factory
+	 * @return {@link ExecutorService} instance
+	 */
+	public static ExecutorService computeExecutorIfAbsent(final String id, final Function<String, ExecutorService> factory) {
+		checkArgument(id != null, "id argument is null");
+		checkArgument(factory != null, "factory argument is null");
+
+		return EXECUTORS.computeIfAbsent(id, factory);
+	}
+
+	/**
+	 * Acquire shared {@link ExecutorService} for given configuration and cache it for given execution.<br>
+	 * Executions with equal {@link ExecutorConfig#getSharingKey()} are using same {@link ExecutorService} instance, it's released when last
+	 * execution using it is released.
+	 * 
+	 * @param id
+	 *            execution identifier
+	 * @param config
+	 *            {@link ExecutorConfig}
+	 * @return {@link ExecutorService}
+	 */
+	public static ExecutorService acquireSharedExecutor(final String id, final ExecutorConfig config) {
+		checkArgument(id != null, "id argument is null");
+		checkArgument(config != null, "config argument is null");
+
+		final SharedExecutor shared;
+		final ExecutorService toRelease;
+		synchronized (ExecutionCaches.class) { // lookup, reference counting and caching are done at once
+			final String key = config.getSharingKey();
+			SharedExecutor existing = SHARED_EXECUTORS.get(key);
+			if (existing == null) {
+				sharedExecutorsSequence++;
+				existing = new SharedExecutor(key, ExecutionUtils.create(config, "shared-" + sharedExecutorsSequence, "shared"));
+				SHARED_EXECUTORS.put(key, existing);
+				SHARED_EXECUTORS_BY_SERVICE.put(existing.service, existing);
+			}
+
+			shared = existing;
+			if (EXECUTORS.get(id) == shared.service) // already acquired
+				return shared.service;
+
+			shared.references++;
+			toRelease = EXECUTORS.put(id, shared.service);
+		}
+
+		releaseExecutor(toRelease);
+		return shared.service;
+	}
+
+	/**
+	 * Release {@link ExecutorService} associated with given execution.
 	 * 
 	 * @param id
 	 *            execution identifier
 	 */
 	public static void shutdownExecutor(final String id) {
-		final ExecutorService toShutdown = EXECUTORS.remove(id);
-		shutdownExecutor(toShutdown);
+		final ExecutorService toRelease;
+		synchronized (ExecutionCaches.class) { // consistent with shared executors acquiring
+			toRelease = EXECUTORS.remove(id);
+		}
+
+		releaseExecutor(toRelease);
+	}
+
+	/**
+	 * Release {@link ExecutorService}.<br>
+	 * Shared {@link ExecutorService} reference is released and it's retired only when no more executions are using it, other instances are
+	 * retired immediately. Retired {@link ExecutorService} is gracefully shut down after {@link OrchestrationConstants#POOL_RETIRE_DELAY}, so
+	 * submissions racing with reconfiguration still land on it and all accepted tasks are finished on it while new ones go to the new instance.
+	 * 
+	 * @param toRelease
+	 *            {@link ExecutorService} instance
+	 */
+	public static void releaseExecutor(final ExecutorService toRelease) {
+		if (toRelease == null)
+			return;
+
+		synchronized (ExecutionCaches.class) {
+			final SharedExecutor shared = SHARED_EXECUTORS_BY_SERVICE.get(toRelease);
+			if (shared != null) {
+				shared.references--;
+				if (shared.references > 0)
+					return;
+
+				SHARED_EXECUTORS.remove(shared.key);
+				SHARED_EXECUTORS_BY_SERVICE.remove(toRelease);
+			}
+		}
+
+		retireExecutor(toRelease);
+	}
+
+	/**
+	 * Schedule graceful shut down of the {@link ExecutorService}.<br>
+	 * Global {@link ExecutorService} instances (system, async and timer) are never shut down there, they are managed by their factories.
+	 * 
+	 * @param toRetire
+	 *            {@link ExecutorService} instance
+	 */
+	private static void retireExecutor(final ExecutorService toRetire) {
+		if (toRetire == SystemExecutorServiceFactory.getExecutorService() || toRetire == AsyncExecutorServiceFactory.getExecutorService()
+				|| toRetire == TimerExecutorServiceFactory.getExecutorService())
+			return;
+
+		RETIRING_EXECUTORS.add(toRetire);
+		final Runnable retirement = new Runnable() {
+			@Override
+			public void run() {
+				if (RETIRING_EXECUTORS.remove(toRetire))
+					shutdownExecutor(toRetire);
+			}
+		};
+
+		try {
+			TimerExecutorServiceFactory.getExecutorService().schedule(retirement, OrchestrationConstants.POOL_RETIRE_DELAY, OrchestrationConstants.POOL_RETIRE_DELAY_UNIT);
+		} catch (final RejectedExecutionException e) {
+			retirement.run(); // timer is shut down, nothing to wait for
+		}
 	}
 
 	/**
@@ -147,10 +333,31 @@ public final class ExecutionCaches {
 		return result;
 	}
 
+	/**
+	 * Get {@link MethodHandle}, handle would be created once per method and cached.
+	 * 
+	 * @param method
+	 *            method
+	 * @return {@link MethodHandle}
+	 */
+	public static MethodHandle getMethodHandle(final Method method) {
+		checkArgument(method != null, "method argument is null");
+
+		MethodHandle result = METHOD_HANDLES.get(method);
+		if (result == null) {
+			result = ExecutionUtils.createMethodHandle(method);
+			METHOD_HANDLES.put(method, result);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Tear down {@link ExecutionCaches}.
 	 */
 	public static synchronized void tearDown() {
+		generation++; // cached executions info's holders would re-resolve them
+
 		// executions info's cache
 		for (final String id : INFOS.keySet()) {
 			final ExecutionInfo removed = INFOS.remove(id);
@@ -162,9 +369,54 @@ public final class ExecutionCaches {
 			final ExecutorService removed = EXECUTORS.remove(id);
 			ExecutionUtils.terminate(removed);
 		}
+		SHARED_EXECUTORS.clear();
+		SHARED_EXECUTORS_BY_SERVICE.clear();
+		for (final ExecutorService retiring : RETIRING_EXECUTORS)
+			if (RETIRING_EXECUTORS.remove(retiring))
+				ExecutionUtils.terminate(retiring);
 
 		// callables cache
 		CALLABLES.clear();
+
+		// method handles cache
+		METHOD_HANDLES.clear();
+	}
+
+	/**
+	 * Shared {@link ExecutorService} with references counter.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class SharedExecutor {
+
+		/**
+		 * Sharing key.
+		 */
+		private final String key;
+
+		/**
+		 * {@link ExecutorService} instance.
+		 */
+		private final ExecutorService service;
+
+		/**
+		 * Amount of executions using this {@link ExecutorService}.
+		 */
+		private int references;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aKey
+		 *            sharing key
+		 * @param aService
+		 *            {@link ExecutorService} instance
+		 */
+		private SharedExecutor(final String aKey, final ExecutorService aService) {
+			this.key = aKey;
+			this.service = aService;
+		}
+
 	}
 
 }
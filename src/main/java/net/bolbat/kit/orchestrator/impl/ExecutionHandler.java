@@ -1,21 +1,42 @@
 package net.bolbat.kit.orchestrator.impl;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.bolbat.kit.orchestrator.OrchestrationConfig;
 import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationBatch;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCircuitBreaker;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCoalesce;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationExecutor;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationRetry;
 import net.bolbat.kit.orchestrator.exception.OrchestrationException;
-import net.bolbat.utils.concurrency.lock.IdBasedLock;
-import net.bolbat.utils.concurrency.lock.IdBasedLockManager;
-import net.bolbat.utils.concurrency.lock.SafeIdBasedLockManager;
+import net.bolbat.kit.orchestrator.impl.batch.Batcher;
+import net.bolbat.kit.orchestrator.impl.coalesce.Coalescer;
+import net.bolbat.kit.orchestrator.impl.deadline.Deadline;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSnapshot;
 import net.bolbat.utils.lang.ToStringUtils;
 import net.bolbat.utils.reflect.proxy.AdvisedHandler;
 
@@ -31,11 +52,6 @@ public class ExecutionHandler extends AdvisedHandler {
 	 */
 	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionHandler.class);
 
-	/**
-	 * {@link IdBasedLockManager} instance.
-	 */
-	private static final IdBasedLockManager<String> LOCK_MANAGER = new SafeIdBasedLockManager<>();
-
 	/**
 	 * Cached method execution identifiers.
 	 */
@@ -47,7 +63,35 @@ public class ExecutionHandler extends AdvisedHandler {
 	private final String instanceId;
 
 	/**
-	 * Default constructor.
+	 * Proxied interfaces.
+	 */
+	private final Class<?>[] interfaces;
+
+	/**
+	 * Dispatch table with resolved executions for all proxied methods.<br>
+	 * Table is immutable and replaced as a whole on each change.
+	 */
+	private volatile Map<Method, DispatchEntry> dispatchTable = Collections.emptyMap();
+
+	/**
+	 * Methods dispatched by index, used by generated proxies.
+	 */
+	private final Method[] dispatchMethods;
+
+	/**
+	 * Dispatch table entries by method index, aligned with {@link #dispatchMethods}.<br>
+	 * Array is replaced as a whole on each change, missing entries are lazily resolved.
+	 */
+	private volatile DispatchEntry[] dispatchEntries;
+
+	/**
+	 * {@link ExecutionCaches} generation of the current dispatch table, table is rebuilt when caches are torn down.
+	 */
+	private volatile long generation;
+
+	/**
+	 * Default constructor.<br>
+	 * Dispatch table for all methods of given interfaces is resolved on construction.
 	 * 
 	 * @param aTarget
 	 *            proxied target
@@ -55,20 +99,307 @@ public class ExecutionHandler extends AdvisedHandler {
 	 *            proxied interfaces
 	 */
 	public ExecutionHandler(final Object aTarget, final Class<?>[] aInterfaces) {
+		this(aTarget, aInterfaces, null);
+	}
+
+	/**
+	 * Constructor for handler what is dispatching calls by method index too.<br>
+	 * Dispatch table for all methods of given interfaces is resolved on construction.
+	 * 
+	 * @param aTarget
+	 *            proxied target
+	 * @param aInterfaces
+	 *            proxied interfaces
+	 * @param aDispatchMethods
+	 *            methods dispatched by index, see {@link #invoke(int, Object[])}
+	 */
+	public ExecutionHandler(final Object aTarget, final Class<?>[] aInterfaces, final Method[] aDispatchMethods) {
 		super(aTarget, aInterfaces);
 		this.instanceId = ExecutionUtils.objectId(getProxiedTarget());
+		this.interfaces = aInterfaces != null ? aInterfaces.clone() : new Class<?>[0];
+		this.dispatchMethods = aDispatchMethods != null ? aDispatchMethods.clone() : new Method[0];
+		refresh();
 	}
 
 	@Override
 	// CHECKSTYLE:OFF
 	public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 		// CHECKSTYLE:ON
-		final String executionId = resolveId(getProxiedTarget(), method);
-		final ExecutionInfo info = resolveInstanceMethodInfo(instanceId, getProxiedTarget(), executionId, method);
+		if (generation != ExecutionCaches.getGeneration())
+			refreshIfTornDown();
+
+		DispatchEntry entry = dispatchTable.get(method);
+		if (entry == null)
+			entry = resolveEntry(method);
+
+		return dispatch(entry, method, args);
+	}
+
+	/**
+	 * Is method with given index could be called directly on the target, without orchestration, coalescing and batching.
+	 * 
+	 * @param index
+	 *            method index
+	 * @return <code>boolean</code>
+	 */
+	public boolean isDirect(final int index) {
+		final ExecutionInfo info = getEntry(index).info;
+		return !info.isOrchestrated() && !info.isCoalesce() && info.getBatcher() == null;
+	}
+
+	/**
+	 * Invoke method with given index.<br>
+	 * Checked exceptions not declared by the method are wrapped with {@link UndeclaredThrowableException} like in
+	 * {@link java.lang.reflect.Proxy}.
+	 * 
+	 * @param index
+	 *            method index
+	 * @param args
+	 *            method arguments
+	 * @return invocation result
+	 * @throws Throwable
+	 */
+	// CHECKSTYLE:OFF
+	public Object invoke(final int index, final Object[] args) throws Throwable {
+		// CHECKSTYLE:ON
+		final Method method = dispatchMethods[index];
+		try {
+			return dispatch(getEntry(index), method, args);
+		} catch (final RuntimeException e) {
+			throw e;
+		} catch (final Exception e) {
+			for (final Class<?> declared : method.getExceptionTypes())
+				if (declared.isInstance(e))
+					throw e;
+
+			throw new UndeclaredThrowableException(e);
+		}
+	}
+
+	/**
+	 * Get {@link DispatchEntry} by method index.
+	 * 
+	 * @param index
+	 *            method index
+	 * @return {@link DispatchEntry}
+	 */
+	private DispatchEntry getEntry(final int index) {
+		if (generation != ExecutionCaches.getGeneration())
+			refreshIfTornDown();
+
+		final DispatchEntry[] entries = dispatchEntries;
+		DispatchEntry entry = entries[index];
+		if (entry == null) {
+			entry = resolveEntry(dispatchMethods[index]);
+			entries[index] = entry; // same entry could be published concurrently, it's safe
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Dispatch method call with coalescing if it's configured.
+	 * 
+	 * @param entry
+	 *            {@link DispatchEntry}
+	 * @param method
+	 *            method
+	 * @param args
+	 *            method arguments
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private Object dispatch(final DispatchEntry entry, final Method method, final Object[] args) throws Exception {
+		final Coalescer coalescer = entry.info.getCoalescer();
+		if (coalescer != null) {
+			final DispatchEntry coalesced = entry;
+			final Callable<Object> call = new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					return invoke(coalesced, method, args);
+				}
+			};
+			// shared asynchronous execution isn't bound to the deadline of the first caller, callers copies are bound to their deadlines
+			return coalescer.invoke(args, ExecutionUtils.isFutureResult(method) ? Deadline.unbind(call) : call);
+		}
+
+		return invoke(entry, method, args);
+	}
+
+	/**
+	 * Invoke method with or without orchestration.
+	 * 
+	 * @param entry
+	 *            {@link DispatchEntry}
+	 * @param method
+	 *            method
+	 * @param args
+	 *            method arguments
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private Object invoke(final DispatchEntry entry, final Method method, final Object[] args) throws Exception {
+		final Batcher batcher = entry.info.getBatcher();
+		if (batcher != null)
+			return batcher.invoke(args[0], new Batcher.BulkInvoker() {
+				@Override
+				public Object invoke(final Collection<Object> arguments) throws Exception {
+					return invokeBulk(batcher.getMethod(), arguments);
+				}
+			});
+
+		if (entry.info.isOrchestrated())
+			return ExecutionUtils.invoke(getProxiedTarget(), method, args, entry.info);
+
+		return ExecutionUtils.invoke(entry.handle, getProxiedTarget(), args);
+	}
+
+	/**
+	 * Invoke bulk method for batched single item calls, bulk method is orchestrated according to it's own configuration.
+	 * 
+	 * @param implMethod
+	 *            bulk method of the implementation
+	 * @param arguments
+	 *            batched single item calls arguments
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private Object invokeBulk(final Method implMethod, final Collection<Object> arguments) throws Exception {
+		final Object target = getProxiedTarget();
+		final ExecutionInfo info = resolveInstanceMethodInfo(instanceId, target, resolveId(target, implMethod), implMethod);
+		final Object[] args = new Object[] { arguments };
 		if (info.isOrchestrated())
-			return ExecutionUtils.invoke(getProxiedTarget(), method, args, info);
+			return ExecutionUtils.invoke(target, implMethod, args, info);
+
+		return ExecutionUtils.invoke(ExecutionCaches.getMethodHandle(implMethod), target, args);
+	}
+
+	/**
+	 * Get metrics snapshots for all orchestrated proxied methods.
+	 * 
+	 * @return {@link MetricsSnapshot} list ordered by execution name
+	 */
+	public List<MetricsSnapshot> getMetrics() {
+		if (generation != ExecutionCaches.getGeneration())
+			refreshIfTornDown();
+
+		final Map<String, MetricsSnapshot> snapshots = new TreeMap<>();
+		for (final DispatchEntry entry : dispatchTable.values())
+			if (entry.info.isOrchestrated())
+				snapshots.put(entry.info.getName() + entry.info.getId(), entry.info.getMetrics().snapshot());
+
+		return new ArrayList<>(snapshots.values());
+	}
+
+	/**
+	 * Rebuild dispatch table for all proxied methods and atomically replace current one.<br>
+	 * Executed automatically on the first call after {@link ExecutionCaches} tear down, so existing proxies are using re-resolved executions
+	 * information and following it's configuration changes.
+	 */
+	public synchronized void refresh() {
+		final long actual = ExecutionCaches.getGeneration(); // caches torn down during refresh would trigger one more refresh
+		final Map<Method, DispatchEntry> table = new HashMap<>();
+		for (final Class<?> type : interfaces)
+			for (final Method method : type.getMethods())
+				if (!Modifier.isStatic(method.getModifiers()))
+					table.put(method, createEntry(method));
+
+		for (final Method method : Object.class.getMethods()) // 'equals', 'hashCode' and 'toString' are dispatched by proxy too
+			if (!Modifier.isStatic(method.getModifiers()) && !Modifier.isFinal(method.getModifiers()))
+				table.put(method, createEntry(method));
+
+		final DispatchEntry[] entries = new DispatchEntry[dispatchMethods.length];
+		for (int i = 0; i < dispatchMethods.length; i++) {
+			entries[i] = table.get(dispatchMethods[i]);
+			if (entries[i] == null) {
+				entries[i] = createEntry(dispatchMethods[i]);
+				table.put(dispatchMethods[i], entries[i]);
+			}
+		}
+
+		dispatchTable = Collections.unmodifiableMap(table);
+		dispatchEntries = entries;
+		generation = actual;
+	}
+
+	/**
+	 * Rebuild dispatch table if {@link ExecutionCaches} are torn down after it's built.
+	 */
+	private synchronized void refreshIfTornDown() {
+		if (generation != ExecutionCaches.getGeneration()) // double check
+			refresh();
+	}
+
+	/**
+	 * Warm up all proxied methods executions in parallel.<br>
+	 * Executions information, including bulk methods of batched executions, and lazily created executors, callable factories, limiters,
+	 * circuit breakers and coalescers are resolved before the first call.
+	 */
+	public void warmUp() {
+		if (generation != ExecutionCaches.getGeneration())
+			refreshIfTornDown();
+
+		final Object target = getProxiedTarget();
+		final Map<ExecutionInfo, Boolean> infos = new IdentityHashMap<>();
+		for (final DispatchEntry entry : dispatchTable.values())
+			infos.put(entry.info, Boolean.TRUE);
+
+		final List<Future<?>> tasks = new ArrayList<>(infos.size());
+		for (final ExecutionInfo info : infos.keySet())
+			tasks.add(ForkJoinPool.commonPool().submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					info.warmUp();
+					final Batcher batcher = info.getBatcher();
+					if (batcher != null)
+						resolveInstanceMethodInfo(instanceId, target, resolveId(target, batcher.getMethod()), batcher.getMethod()).warmUp();
+
+					return null;
+				}
+			}));
+
+		for (final Future<?> task : tasks)
+			try {
+				task.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OrchestrationException("Warm up interrupted", e);
+			} catch (final ExecutionException e) {
+				throw e.getCause() instanceof OrchestrationException ? (OrchestrationException) e.getCause()
+						: new OrchestrationException("Warm up failed", e.getCause());
+			}
+	}
 
-		return method.invoke(getProxiedTarget(), args);
+	/**
+	 * Resolve {@link DispatchEntry} for method missing in the dispatch table and atomically publish table with it.
+	 * 
+	 * @param method
+	 *            method
+	 * @return {@link DispatchEntry}
+	 */
+	private synchronized DispatchEntry resolveEntry(final Method method) {
+		DispatchEntry entry = dispatchTable.get(method);
+		if (entry != null) // double check
+			return entry;
+
+		entry = createEntry(method);
+		final Map<Method, DispatchEntry> table = new HashMap<>(dispatchTable);
+		table.put(method, entry);
+		dispatchTable = Collections.unmodifiableMap(table);
+		return entry;
+	}
+
+	/**
+	 * Create {@link DispatchEntry} for method.
+	 * 
+	 * @param method
+	 *            method
+	 * @return {@link DispatchEntry}
+	 */
+	private DispatchEntry createEntry(final Method method) {
+		final String executionId = resolveId(getProxiedTarget(), method);
+		final ExecutionInfo info = resolveInstanceMethodInfo(instanceId, getProxiedTarget(), executionId, method);
+		return new DispatchEntry(info, ExecutionCaches.getMethodHandle(method));
 	}
 
 	/**
@@ -100,40 +431,51 @@ public class ExecutionHandler extends AdvisedHandler {
 	 * @return {@link ExecutionInfo}
 	 */
 	protected static ExecutionInfo resolveInstanceInfo(final String instanceId, final Object instance) {
-		ExecutionInfo info = ExecutionCaches.getInfo(instanceId);
+		final ExecutionInfo info = ExecutionCaches.getInfo(instanceId);
 		if (info != null)
 			return info;
 
-		final IdBasedLock<String> lock = LOCK_MANAGER.obtainLock(instanceId);
-		lock.lock();
-		try {
-			info = ExecutionCaches.getInfo(instanceId); // double check
-			if (info != null)
-				return info;
+		return ExecutionCaches.computeInfoIfAbsent(instanceId, new Function<String, ExecutionInfo>() {
+			@Override
+			public ExecutionInfo apply(final String id) {
+				return createInstanceInfo(id, instance);
+			}
+		});
+	}
 
-			final Class<?> implType = instance.getClass();
+	/**
+	 * Create {@link ExecutionInfo} for instance.
+	 * 
+	 * @param instanceId
+	 *            instance execution identifier
+	 * @param instance
+	 *            instance
+	 * @return {@link ExecutionInfo}
+	 */
+	private static ExecutionInfo createInstanceInfo(final String instanceId, final Object instance) {
+		final Class<?> implType = instance.getClass();
 
-			info = new ExecutionInfo();
-			info.setId(instanceId);
-			info.setName(implType.getSimpleName());
+		final ExecutionInfo info = new ExecutionInfo();
+		info.setId(instanceId);
+		info.setName(implType.getSimpleName());
 
-			final Orchestrate orchestrate = implType.getAnnotation(Orchestrate.class);
-			final OrchestrationLimits limits = implType.getAnnotation(OrchestrationLimits.class);
-			final OrchestrationExecutor executor = implType.getAnnotation(OrchestrationExecutor.class);
+		final Orchestrate orchestrate = implType.getAnnotation(Orchestrate.class);
+		final OrchestrationLimits limits = implType.getAnnotation(OrchestrationLimits.class);
+		final OrchestrationExecutor executor = implType.getAnnotation(OrchestrationExecutor.class);
+		final OrchestrationRetry retry = implType.getAnnotation(OrchestrationRetry.class);
+		final OrchestrationCircuitBreaker circuitBreaker = implType.getAnnotation(OrchestrationCircuitBreaker.class);
 
-			info.setDisabled(orchestrate != null && !orchestrate.value());
-			info.setOwnScope(orchestrate != null);
-			info.setOwnLimits(limits != null);
-			info.setOwnExecutor(executor != null);
+		info.setDisabled(orchestrate != null && !orchestrate.value());
+		info.setOwnScope(orchestrate != null);
+		info.setOwnLimits(limits != null);
+		info.setOwnExecutor(executor != null);
+		info.setOwnRetry(retry != null);
+		info.setOwnCircuitBreaker(circuitBreaker != null);
 
-			info.setConfig(OrchestrationConfig.configure(orchestrate, limits, executor));
+		info.setConfig(OrchestrationConfig.configure(orchestrate, null, limits, executor, retry, circuitBreaker));
 
-			info.initActualConfiguration();
-			ExecutionCaches.cacheInfo(instanceId, info);
-			return info;
-		} finally {
-			lock.unlock();
-		}
+		info.initActualConfiguration();
+		return info;
 	}
 
 	/**
@@ -151,58 +493,141 @@ public class ExecutionHandler extends AdvisedHandler {
 	 */
 	protected static ExecutionInfo resolveInstanceMethodInfo(final String instanceId, final Object instance, final String instanceMethodId,
 			final Method method) {
-		ExecutionInfo info = ExecutionCaches.getInfo(instanceMethodId);
+		final ExecutionInfo info = ExecutionCaches.getInfo(instanceMethodId);
 		if (info != null)
 			return info;
 
-		final IdBasedLock<String> lock = LOCK_MANAGER.obtainLock(instanceMethodId);
-		lock.lock();
+		final ExecutionInfo classInfo = resolveInstanceInfo(instanceId, instance); // nested update of the same cache isn't allowed
+		return ExecutionCaches.computeInfoIfAbsent(instanceMethodId, new Function<String, ExecutionInfo>() {
+			@Override
+			public ExecutionInfo apply(final String id) {
+				return createInstanceMethodInfo(classInfo, instance, id, method);
+			}
+		});
+	}
+
+	/**
+	 * Create {@link ExecutionInfo} for method.
+	 * 
+	 * @param classInfo
+	 *            instance {@link ExecutionInfo}
+	 * @param instance
+	 *            instance
+	 * @param instanceMethodId
+	 *            method execution identifier
+	 * @param method
+	 *            method
+	 * @return {@link ExecutionInfo}
+	 */
+	private static ExecutionInfo createInstanceMethodInfo(final ExecutionInfo classInfo, final Object instance, final String instanceMethodId,
+			final Method method) {
+		final Class<?> implType = instance.getClass();
+		Method implMethod = null;
 		try {
-			info = ExecutionCaches.getInfo(instanceMethodId); // double check
-			if (info != null)
-				return info;
+			implMethod = implType.getMethod(method.getName(), method.getParameterTypes());
+		} catch (final NoSuchMethodException | SecurityException e) {
+			final String message = "Unable to get method[" + method + "] from impl type[" + implType + "]";
+			LOGGER.warn(message, e);
+			throw new OrchestrationException(message, e);
+		}
 
-			final ExecutionInfo classInfo = resolveInstanceInfo(instanceId, instance);
-			final Class<?> implType = instance.getClass();
-			Method implMethod = null;
-			try {
-				implMethod = implType.getMethod(method.getName(), method.getParameterTypes());
-			} catch (final NoSuchMethodException | SecurityException e) {
-				final String message = "Unable to get method[" + method + "] from impl type[" + implType + "]";
-				LOGGER.warn(message, e);
-				throw new OrchestrationException(message, e);
-			}
+		final ExecutionInfo info = new ExecutionInfo();
+		info.setId(instanceMethodId);
+		info.setName(implType.getSimpleName() + "." + ToStringUtils.toMethodName(implMethod));
+		info.setClassInfo(classInfo);
 
-			info = new ExecutionInfo();
-			info.setId(instanceMethodId);
-			info.setName(implType.getSimpleName() + "." + ToStringUtils.toMethodName(implMethod));
-			info.setClassInfo(classInfo);
+		final Orchestrate orchestrate = implMethod.getAnnotation(Orchestrate.class);
+		final OrchestrationLimits limits = implMethod.getAnnotation(OrchestrationLimits.class);
+		final OrchestrationExecutor executor = implMethod.getAnnotation(OrchestrationExecutor.class);
+		final OrchestrationMode mode = implMethod.getAnnotation(OrchestrationMode.class);
+		final OrchestrationRetry retry = implMethod.getAnnotation(OrchestrationRetry.class);
+		final OrchestrationCircuitBreaker circuitBreaker = implMethod.getAnnotation(OrchestrationCircuitBreaker.class);
 
-			final Orchestrate orchestrate = implMethod.getAnnotation(Orchestrate.class);
-			final OrchestrationLimits limits = implMethod.getAnnotation(OrchestrationLimits.class);
-			final OrchestrationExecutor executor = implMethod.getAnnotation(OrchestrationExecutor.class);
-			final OrchestrationMode mode = implMethod.getAnnotation(OrchestrationMode.class);
+		info.setDisabled(orchestrate != null && !orchestrate.value());
+		info.setOwnScope(orchestrate != null);
+		info.setOwnLimits(limits != null);
+		info.setOwnExecutor(executor != null);
+		info.setOwnRetry(retry != null);
+		info.setOwnCircuitBreaker(circuitBreaker != null);
 
-			info.setDisabled(orchestrate != null && !orchestrate.value());
-			info.setOwnScope(orchestrate != null);
-			info.setOwnLimits(limits != null);
-			info.setOwnExecutor(executor != null);
+		OrchestrationCoalesce coalesce = implMethod.getAnnotation(OrchestrationCoalesce.class);
+		if (coalesce == null)
+			coalesce = implType.getAnnotation(OrchestrationCoalesce.class);
+		info.setCoalesce(coalesce != null && coalesce.value() && implMethod.getReturnType() != void.class);
 
-			info.setConfig(OrchestrationConfig.configure(orchestrate, mode, limits, executor));
+		final OrchestrationBatch batch = implMethod.getAnnotation(OrchestrationBatch.class);
+		if (batch != null)
+			info.setBatcher(createBatcher(implType, implMethod, batch));
 
-			info.initActualConfiguration();
-			ExecutionCaches.cacheInfo(instanceMethodId, info);
-			return info;
-		} finally {
-			lock.unlock();
-		}
+		info.setConfig(OrchestrationConfig.configure(orchestrate, mode, limits, executor, retry, circuitBreaker));
+
+		info.initActualConfiguration();
+		return info;
+	}
+
+	/**
+	 * Create {@link Batcher} for single item method.
+	 * 
+	 * @param implType
+	 *            implementation type
+	 * @param implMethod
+	 *            single item method
+	 * @param batch
+	 *            {@link OrchestrationBatch}
+	 * @return {@link Batcher}
+	 */
+	private static Batcher createBatcher(final Class<?> implType, final Method implMethod, final OrchestrationBatch batch) {
+		if (implMethod.getParameterTypes().length != 1 || implMethod.getReturnType() == void.class)
+			throw new OrchestrationException("Batched method[" + implMethod + "] should have one argument and not 'void' result");
+
+		for (final Method bulkMethod : implType.getMethods())
+			if (bulkMethod.getName().equals(batch.method()) && Batcher.isBulkMethod(bulkMethod))
+				return new Batcher(bulkMethod, implMethod.getReturnType(), batch.maxSize(), batch.maxDelay(), batch.maxDelayUnit());
+
+		throw new OrchestrationException("Bulk method[" + batch.method() + "] for batched method[" + implMethod + "] not found in impl type[" + implType
+				+ "], it should accept one List compatible argument and return Map or List");
 	}
 
 	/**
-	 * Tear down {@link ExecutionHandler} internals.
+	 * Tear down {@link ExecutionHandler} internals.<br>
+	 * Dispatch table would be lazily rebuilt on next calls.
 	 */
 	public synchronized void tearDown() {
 		methodIds.clear();
+		dispatchTable = Collections.emptyMap();
+		dispatchEntries = new DispatchEntry[dispatchMethods.length];
+	}
+
+	/**
+	 * Dispatch table entry.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class DispatchEntry {
+
+		/**
+		 * Resolved {@link ExecutionInfo}.
+		 */
+		private final ExecutionInfo info;
+
+		/**
+		 * {@link MethodHandle} for direct (not orchestrated) invocations.
+		 */
+		private final MethodHandle handle;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aInfo
+		 *            {@link ExecutionInfo}
+		 * @param aHandle
+		 *            {@link MethodHandle}
+		 */
+		private DispatchEntry(final ExecutionInfo aInfo, final MethodHandle aHandle) {
+			this.info = aInfo;
+			this.handle = aHandle;
+		}
+
 	}
 
 }
@@ -2,18 +2,29 @@ package net.bolbat.kit.orchestrator.impl;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
 
 import net.bolbat.kit.config.ConfigurationListener;
 import net.bolbat.kit.orchestrator.OrchestrationConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConfig.CircuitBreakerConfig;
 import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
 import net.bolbat.kit.orchestrator.OrchestrationConfig.LimitsConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConfig.RetryConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
 import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.impl.batch.Batcher;
+import net.bolbat.kit.orchestrator.impl.breaker.CircuitBreaker;
 import net.bolbat.kit.orchestrator.impl.callable.CallableFactory;
+import net.bolbat.kit.orchestrator.impl.coalesce.Coalescer;
 import net.bolbat.kit.orchestrator.impl.callable.DefaultCallableFactory;
-import net.bolbat.utils.concurrency.lock.IdBasedLock;
-import net.bolbat.utils.concurrency.lock.IdBasedLockManager;
-import net.bolbat.utils.concurrency.lock.SafeIdBasedLockManager;
+import net.bolbat.kit.orchestrator.impl.callable.MethodHandleCallableFactory;
+import net.bolbat.kit.orchestrator.impl.limit.ConcurrentLimiter;
+import net.bolbat.kit.orchestrator.impl.limit.RateLimiter;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics;
 
 /**
  * Execution runtime information.
@@ -23,9 +34,40 @@ import net.bolbat.utils.concurrency.lock.SafeIdBasedLockManager;
 public class ExecutionInfo implements ConfigurationListener {
 
 	/**
-	 * {@link IdBasedLockManager} instance.
+	 * {@link #actualCallableFactory} updater.
 	 */
-	private static final IdBasedLockManager<String> LOCK_MANAGER = new SafeIdBasedLockManager<>();
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, CallableFactory> CALLABLE_FACTORY_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, CallableFactory.class, "actualCallableFactory");
+
+	/**
+	 * {@link #actualConcurrentLimiter} updater.
+	 */
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, ConcurrentLimiter> CONCURRENT_LIMITER_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, ConcurrentLimiter.class, "actualConcurrentLimiter");
+
+	/**
+	 * {@link #actualCircuitBreaker} updater.
+	 */
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, CircuitBreaker> CIRCUIT_BREAKER_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, CircuitBreaker.class, "actualCircuitBreaker");
+
+	/**
+	 * {@link #actualRateLimiter} updater.
+	 */
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, RateLimiter> RATE_LIMITER_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, RateLimiter.class, "actualRateLimiter");
+
+	/**
+	 * {@link #coalescer} updater.
+	 */
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, Coalescer> COALESCER_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, Coalescer.class, "coalescer");
+
+	/**
+	 * {@link #metrics} updater.
+	 */
+	private static final AtomicReferenceFieldUpdater<ExecutionInfo, ExecutionMetrics> METRICS_UPDATER = AtomicReferenceFieldUpdater
+			.newUpdater(ExecutionInfo.class, ExecutionMetrics.class, "metrics");
 
 	/**
 	 * Execution unique identifier.
@@ -62,6 +104,26 @@ public class ExecutionInfo implements ConfigurationListener {
 	 */
 	private boolean ownExecutor = false;
 
+	/**
+	 * Execution should use own retry configuration.
+	 */
+	private boolean ownRetry = false;
+
+	/**
+	 * Execution should use own circuit breaker configuration.
+	 */
+	private boolean ownCircuitBreaker = false;
+
+	/**
+	 * Coalesce concurrent identical calls.
+	 */
+	private boolean coalesce = false;
+
+	/**
+	 * {@link Batcher}, not <code>null</code> if single item calls should be batched.
+	 */
+	private Batcher batcher;
+
 	/**
 	 * Execution {@link OrchestrationConfig}, <code>null</code> if no any orchestration configuration.
 	 */
@@ -72,6 +134,16 @@ public class ExecutionInfo implements ConfigurationListener {
 	 */
 	private final AtomicInteger executions = new AtomicInteger(0);
 
+	/**
+	 * Is 'INLINE' mode fallback to 'SYNC' mode logged for current configuration.
+	 */
+	private final AtomicBoolean inlineFallbackLogged = new AtomicBoolean();
+
+	/**
+	 * Execution {@link ExecutionMetrics}, created on first orchestrated execution.
+	 */
+	private transient volatile ExecutionMetrics metrics;
+
 	/**
 	 * Actual configuration: is orchestration enabled.
 	 */
@@ -92,6 +164,16 @@ public class ExecutionInfo implements ConfigurationListener {
 	 */
 	private transient ExecutorConfig actualExecutorConfig;
 
+	/**
+	 * Actual configuration: {@link RetryConfig}.
+	 */
+	private transient RetryConfig actualRetryConfig;
+
+	/**
+	 * Actual configuration: {@link CircuitBreakerConfig}.
+	 */
+	private transient CircuitBreakerConfig actualCircuitBreakerConfig;
+
 	/**
 	 * Actual configuration: executor identifier.
 	 */
@@ -110,7 +192,27 @@ public class ExecutionInfo implements ConfigurationListener {
 	/**
 	 * Actual instance: {@link CallableFactory}.
 	 */
-	private transient CallableFactory actualCallableFactory;
+	private transient volatile CallableFactory actualCallableFactory;
+
+	/**
+	 * Actual instance: {@link ConcurrentLimiter}, created on demand for adaptive concurrent executions limit.
+	 */
+	private transient volatile ConcurrentLimiter actualConcurrentLimiter;
+
+	/**
+	 * Actual instance: {@link RateLimiter}, created on demand if executions rate is limited.
+	 */
+	private transient volatile RateLimiter actualRateLimiter;
+
+	/**
+	 * Actual instance: {@link CircuitBreaker}, created on demand if circuit breaker is enabled.
+	 */
+	private transient volatile CircuitBreaker actualCircuitBreaker;
+
+	/**
+	 * {@link Coalescer}, created on demand if coalescing is enabled.
+	 */
+	private transient volatile Coalescer coalescer;
 
 	public String getId() {
 		return id;
@@ -168,6 +270,38 @@ public class ExecutionInfo implements ConfigurationListener {
 		this.ownExecutor = aOwnExecutor;
 	}
 
+	public boolean isOwnRetry() {
+		return ownRetry;
+	}
+
+	public void setOwnRetry(final boolean aOwnRetry) {
+		this.ownRetry = aOwnRetry;
+	}
+
+	public boolean isOwnCircuitBreaker() {
+		return ownCircuitBreaker;
+	}
+
+	public void setOwnCircuitBreaker(final boolean aOwnCircuitBreaker) {
+		this.ownCircuitBreaker = aOwnCircuitBreaker;
+	}
+
+	public boolean isCoalesce() {
+		return coalesce;
+	}
+
+	public void setCoalesce(final boolean aCoalesce) {
+		this.coalesce = aCoalesce;
+	}
+
+	public Batcher getBatcher() {
+		return batcher;
+	}
+
+	public void setBatcher(final Batcher aBatcher) {
+		this.batcher = aBatcher;
+	}
+
 	public OrchestrationConfig getConfig() {
 		return config;
 	}
@@ -180,6 +314,21 @@ public class ExecutionInfo implements ConfigurationListener {
 		return executions;
 	}
 
+	/**
+	 * Get {@link ExecutionMetrics} instance.<br>
+	 * Metrics are created on demand, so not orchestrated executions aren't holding latency histograms.
+	 * 
+	 * @return {@link ExecutionMetrics}
+	 */
+	public ExecutionMetrics getMetrics() {
+		final ExecutionMetrics result = metrics;
+		if (result != null)
+			return result;
+
+		final ExecutionMetrics created = new ExecutionMetrics(this);
+		return METRICS_UPDATER.compareAndSet(this, null, created) ? created : metrics;
+	}
+
 	/**
 	 * Is orchestration enabled for current {@link ExecutionInfo}.
 	 * 
@@ -219,6 +368,37 @@ public class ExecutionInfo implements ConfigurationListener {
 		return actualExecutorConfig;
 	}
 
+	/**
+	 * Get 'actual' {@link RetryConfig}.<br>
+	 * Based on current method and class configuration including annotation overriding rules.
+	 * 
+	 * @return {@link RetryConfig}
+	 */
+	public RetryConfig getActualRetryConfig() {
+		return actualRetryConfig;
+	}
+
+	/**
+	 * Get 'actual' {@link CircuitBreakerConfig}.<br>
+	 * Based on current method and class configuration including annotation overriding rules.
+	 * 
+	 * @return {@link CircuitBreakerConfig}
+	 */
+	public CircuitBreakerConfig getActualCircuitBreakerConfig() {
+		return actualCircuitBreakerConfig;
+	}
+
+	/**
+	 * Get 'actual' execution priority.<br>
+	 * Method priority from {@link OrchestrationConfig.ModeConfig} if it's configured or priority from actual {@link ExecutorConfig}.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public int getActualPriority() {
+		final int priority = config.getModeConfig().getPriority();
+		return priority != OrchestrationConstants.PRIORITY_INHERITED ? priority : actualExecutorConfig.getPriority();
+	}
+
 	/**
 	 * Get 'actual' executor identifier (the same as execution identifier).<br>
 	 * Based on current method and class configuration including annotation overriding rules.
@@ -251,58 +431,151 @@ public class ExecutionInfo implements ConfigurationListener {
 
 	/**
 	 * Get 'actual' {@link ExecutorService} instance.<br>
-	 * Based on current method and class configuration including annotation overriding rules.
+	 * Based on current method and class configuration including annotation overriding rules, shared instance is used if it's configured.
 	 * 
 	 * @return {@link ExecutorService}
 	 */
 	public ExecutorService getActualExecutor() {
-		ExecutorService service = ExecutionCaches.getExecutor(actualExecutorId);
+		final ExecutorService service = ExecutionCaches.getExecutor(actualExecutorId);
 		if (service != null)
 			return service;
 
-		final IdBasedLock<String> lock = LOCK_MANAGER.obtainLock(actualExecutorId);
-		lock.lock();
-		try {
-			service = ExecutionCaches.getExecutor(actualExecutorId);
-			if (service != null) // double check
-				return service;
+		final ExecutorConfig executorConfig = getActualExecutorConfig();
+		if (executorConfig.isShared())
+			return ExecutionCaches.acquireSharedExecutor(actualExecutorId, executorConfig);
 
-			service = ExecutionUtils.create(getActualExecutorConfig(), getActualExecutorId(), getActualExecutorName());
-			ExecutionCaches.cacheExecutor(actualExecutorId, service);
-			return service;
-		} finally {
-			lock.unlock();
-		}
+		return ExecutionCaches.computeExecutorIfAbsent(actualExecutorId, new Function<String, ExecutorService>() {
+			@Override
+			public ExecutorService apply(final String executorId) {
+				return ExecutionUtils.create(executorConfig, executorId, getActualExecutorName());
+			}
+		});
 	}
 
 	/**
-	 * Get actual instance of {@link Callable} factory.
+	 * Get actual instance of {@link Callable} factory.<br>
+	 * Custom factory could be instantiated by concurrent callers more than once, only one instance is used.
 	 * 
 	 * @return {@link CallableFactory}
 	 */
 	public CallableFactory getActualCallableFactory() {
-		if (actualCallableFactory != null)
-			return actualCallableFactory;
+		final CallableFactory current = actualCallableFactory;
+		if (current != null)
+			return current;
 
 		final Class<? extends CallableFactory> factory = getActualExecutorConfig().getCallableFactory();
-		final IdBasedLock<String> lock = LOCK_MANAGER.obtainLock(actualExecutorId);
-		lock.lock();
-		try {
-			if (actualCallableFactory != null)
-				return actualCallableFactory;
-
-			if (DefaultCallableFactory.class == factory) {
-				actualCallableFactory = DefaultCallableFactory.getInstance();
-				return actualCallableFactory;
+		final CallableFactory created;
+		if (DefaultCallableFactory.class == factory)
+			created = DefaultCallableFactory.getInstance();
+		else if (MethodHandleCallableFactory.class == factory)
+			created = MethodHandleCallableFactory.getInstance();
+		else
+			try {
+				created = factory.newInstance();
+			} catch (final InstantiationException | IllegalAccessException e) {
+				throw new OrchestrationException("Couldn't instantiate CallableFactory[" + factory + "]", e);
 			}
 
-			actualCallableFactory = factory.newInstance();
-			return actualCallableFactory;
-		} catch (final InstantiationException | IllegalAccessException e) {
-			throw new OrchestrationException("Couldn't instantiate CallableFactory[" + factory + "]", e);
-		} finally {
-			lock.unlock();
-		}
+		return CALLABLE_FACTORY_UPDATER.compareAndSet(this, null, created) ? created : actualCallableFactory;
+	}
+
+	/**
+	 * Get actual instance of {@link ConcurrentLimiter}.<br>
+	 * Limiter is owned by current {@link ExecutionInfo}, so adaptive limit is learned per method.
+	 * 
+	 * @return {@link ConcurrentLimiter} or <code>null</code> if concurrent executions limit isn't adaptive
+	 */
+	public ConcurrentLimiter getActualConcurrentLimiter() {
+		final ConcurrentLimiter limiter = actualConcurrentLimiter;
+		if (limiter != null)
+			return limiter;
+
+		final ConcurrentLimiter created = ExecutionUtils.create(getActualLimitsConfig());
+		if (created == null || CONCURRENT_LIMITER_UPDATER.compareAndSet(this, null, created))
+			return created;
+
+		return getActualConcurrentLimiter(); // concurrently created or reset
+	}
+
+	/**
+	 * Get actual instance of {@link RateLimiter}.<br>
+	 * Rate limiter is owned by current {@link ExecutionInfo}, so rate is limited per method.
+	 * 
+	 * @return {@link RateLimiter} or <code>null</code> if executions rate isn't limited
+	 */
+	public RateLimiter getActualRateLimiter() {
+		final LimitsConfig limitsConfig = actualLimitsConfig;
+		if (!limitsConfig.isRateLimited())
+			return null;
+
+		final RateLimiter limiter = actualRateLimiter;
+		if (limiter != null)
+			return limiter;
+
+		final RateLimiter created = new RateLimiter(limitsConfig.getRate(), limitsConfig.getRatePeriod(), limitsConfig.getRatePeriodUnit(),
+				limitsConfig.getRateBurst());
+		return RATE_LIMITER_UPDATER.compareAndSet(this, null, created) ? created : getActualRateLimiter();
+	}
+
+	/**
+	 * Get actual instance of {@link CircuitBreaker}.<br>
+	 * Circuit breaker is owned by current {@link ExecutionInfo}, so circuit state is tracked per method.
+	 * 
+	 * @return {@link CircuitBreaker} or <code>null</code> if circuit breaker isn't enabled
+	 */
+	public CircuitBreaker getActualCircuitBreaker() {
+		if (!actualCircuitBreakerConfig.isEnabled())
+			return null;
+
+		final CircuitBreaker breaker = actualCircuitBreaker;
+		if (breaker != null)
+			return breaker;
+
+		final CircuitBreaker created = new CircuitBreaker(actualCircuitBreakerConfig);
+		return CIRCUIT_BREAKER_UPDATER.compareAndSet(this, null, created) ? created : getActualCircuitBreaker();
+	}
+
+	/**
+	 * Get {@link Coalescer} instance.<br>
+	 * Coalescer is owned by current {@link ExecutionInfo}, so only calls of the same method are coalesced.
+	 * 
+	 * @return {@link Coalescer} or <code>null</code> if coalescing isn't enabled
+	 */
+	public Coalescer getCoalescer() {
+		if (!coalesce)
+			return null;
+
+		final Coalescer result = coalescer;
+		if (result != null)
+			return result;
+
+		final Coalescer created = new Coalescer(getMetrics());
+		return COALESCER_UPDATER.compareAndSet(this, null, created) ? created : coalescer;
+	}
+
+	/**
+	 * Mark 'INLINE' mode fallback to 'SYNC' mode as logged, so it's logged once per configuration instead of each execution.
+	 * 
+	 * @return <code>true</code> if fallback isn't logged yet
+	 */
+	public boolean markInlineFallbackLogged() {
+		return !inlineFallbackLogged.get() && inlineFallbackLogged.compareAndSet(false, true);
+	}
+
+	/**
+	 * Resolve all lazily created actual instances what would be used by executions.
+	 */
+	public void warmUp() {
+		getCoalescer();
+		if (!isOrchestrated)
+			return;
+
+		getActualCallableFactory();
+		getActualConcurrentLimiter();
+		getActualRateLimiter();
+		getActualCircuitBreaker();
+		if (config != null && config.getModeConfig().getMode() != Mode.INLINE)
+			getActualExecutor();
 	}
 
 	/**
@@ -310,12 +583,19 @@ public class ExecutionInfo implements ConfigurationListener {
 	 */
 	public void initActualConfiguration() {
 		isOrchestrated = !disabled && (ownScope || classInfo != null && classInfo.isOrchestrated());
-		actualConfig = ownScope ? config : classInfo.getConfig();
-		actualLimitsConfig = ownScope || ownLimits ? config.getLimitsConfig() : classInfo.getConfig().getLimitsConfig();
-		actualExecutorConfig = ownScope || ownExecutor ? config.getExecutorConfig() : classInfo.getConfig().getExecutorConfig();
-		actualExecutorId = ownScope || ownExecutor ? id : classInfo.getId();
-		actualExecutorName = ownScope || ownExecutor ? name : classInfo.getName();
-		actualExecutions = ownScope || ownExecutor ? executions : classInfo.getExecutions();
+		final boolean own = ownScope || classInfo == null; // class scope execution has nothing to inherit from
+		actualConfig = own ? config : classInfo.getConfig();
+		actualLimitsConfig = own || ownLimits ? config.getLimitsConfig() : classInfo.getConfig().getLimitsConfig();
+		actualExecutorConfig = own || ownExecutor ? config.getExecutorConfig() : classInfo.getConfig().getExecutorConfig();
+		actualRetryConfig = own || ownRetry ? config.getRetryConfig() : classInfo.getConfig().getRetryConfig();
+		actualCircuitBreakerConfig = own || ownCircuitBreaker ? config.getCircuitBreakerConfig() : classInfo.getConfig().getCircuitBreakerConfig();
+		actualExecutorId = own || ownExecutor ? id : classInfo.getId();
+		actualExecutorName = own || ownExecutor ? name : classInfo.getName();
+		actualExecutions = own || ownExecutor ? executions : classInfo.getExecutions();
+		actualConcurrentLimiter = null;
+		actualRateLimiter = null;
+		actualCircuitBreaker = null;
+		inlineFallbackLogged.set(false);
 
 		registerForConfigurationChanges();
 	}
@@ -341,6 +621,10 @@ public class ExecutionInfo implements ConfigurationListener {
 	 */
 	@Override
 	public void configurationChanged() {
+		actualConcurrentLimiter = null; // limits could be changed, learning from scratch
+		actualRateLimiter = null;
+		actualCircuitBreaker = null;
+		inlineFallbackLogged.set(false);
 		ExecutionCaches.shutdownExecutor(getActualExecutorId());
 	}
 
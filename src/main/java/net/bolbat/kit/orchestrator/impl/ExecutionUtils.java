@@ -2,31 +2,62 @@ package net.bolbat.kit.orchestrator.impl;
 
 import static net.bolbat.utils.lang.Validations.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import net.bolbat.kit.orchestrator.OrchestrationConfig.CircuitBreakerConfig;
 import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
 import net.bolbat.kit.orchestrator.OrchestrationConfig.LimitsConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConfig.RetryConfig;
 import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.ConcurrentLimit;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.RateLimitPolicy;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+import net.bolbat.kit.orchestrator.exception.CircuitBreakerOpenException;
 import net.bolbat.kit.orchestrator.exception.ConcurrentOverflowException;
 import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
 import net.bolbat.kit.orchestrator.exception.ExecutorOverflowException;
 import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.exception.RateOverflowException;
+import net.bolbat.kit.orchestrator.impl.breaker.CircuitBreaker;
+import net.bolbat.kit.orchestrator.impl.deadline.Deadline;
 import net.bolbat.kit.orchestrator.impl.executor.AsyncExecutorServiceFactory;
 import net.bolbat.kit.orchestrator.impl.executor.DefaultExecutorServiceFactory;
 import net.bolbat.kit.orchestrator.impl.executor.ExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.ForkJoinExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityThreadPoolExecutor;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityThreadPoolExecutor.Prioritized;
 import net.bolbat.kit.orchestrator.impl.executor.SystemExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.TimerExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.VirtualThreadExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.limit.AimdConcurrentLimiter;
+import net.bolbat.kit.orchestrator.impl.limit.ConcurrentLimiter;
+import net.bolbat.kit.orchestrator.impl.limit.GradientConcurrentLimiter;
+import net.bolbat.kit.orchestrator.impl.limit.RateLimiter;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics;
 
 /**
  * Orchestration utilities.
@@ -41,9 +72,9 @@ public final class ExecutionUtils {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionUtils.class);
 
 	/**
-	 * Executor for 'ASYNC' executions.
+	 * Unified {@link MethodType} for {@link MethodHandle} based invocations: (Object instance, Object[] args)Object.
 	 */
-	private static final ExecutorService ASYNC_EXECUTOR = AsyncExecutorServiceFactory.getInstance().create(null);
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
 
 	/**
 	 * Default constructor with preventing instantiations of this class.
@@ -100,6 +131,8 @@ public final class ExecutionUtils {
 					final Throwable cause = e.getCause();
 					if (cause != null && cause instanceof Exception)
 						throw (Exception) cause;
+					if (cause != null && cause instanceof Error)
+						throw (Error) cause;
 
 					throw e;
 				}
@@ -107,6 +140,81 @@ public final class ExecutionUtils {
 		};
 	}
 
+	/**
+	 * Create {@link MethodHandle} for given {@link Method}.<br>
+	 * Resulting handle is adapted to the unified (Object instance, Object[] args)Object type, so it can be invoked with {@code invokeExact} without
+	 * reflective dispatch and arguments checking on each call.
+	 * 
+	 * @param method
+	 *            method
+	 * @return {@link MethodHandle}
+	 */
+	public static MethodHandle createMethodHandle(final Method method) {
+		checkArgument(method != null, "method argument is null");
+
+		MethodHandle handle = null;
+		try {
+			handle = MethodHandles.publicLookup().unreflect(method);
+		} catch (final IllegalAccessException e) {
+			try { // not public method or declared in not public type
+				method.setAccessible(true);
+				handle = MethodHandles.lookup().unreflect(method);
+			} catch (final IllegalAccessException | SecurityException e1) {
+				throw new OrchestrationException("Couldn't create MethodHandle for method[" + method + "]", e1);
+			}
+		}
+
+		return handle.asSpreader(Object[].class, method.getParameterTypes().length).asType(INVOKER_TYPE);
+	}
+
+	/**
+	 * Create {@link Callable} based on {@link MethodHandle} created by {@code createMethodHandle(Method)}.
+	 * 
+	 * @param impl
+	 *            implementation
+	 * @param handle
+	 *            {@link MethodHandle}
+	 * @param args
+	 *            method arguments
+	 * @return {@link Callable}
+	 */
+	public static Callable<Object> createCallable(final Object impl, final MethodHandle handle, final Object[] args) {
+		checkArgument(impl != null, "impl argument is null");
+		checkArgument(handle != null, "handle argument is null");
+
+		return new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				return ExecutionUtils.invoke(handle, impl, args);
+			}
+		};
+	}
+
+	/**
+	 * Invoke {@link MethodHandle} created by {@code createMethodHandle(Method)}.<br>
+	 * Exceptions thrown by the method are propagated as is, without {@link InvocationTargetException} wrapping.
+	 * 
+	 * @param handle
+	 *            {@link MethodHandle}
+	 * @param impl
+	 *            implementation
+	 * @param args
+	 *            method arguments
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	public static Object invoke(final MethodHandle handle, final Object impl, final Object[] args) throws Exception {
+		try {
+			return (Object) handle.invokeExact(impl, args);
+		} catch (final Exception | Error e) {
+			throw e;
+			// CHECKSTYLE:OFF
+		} catch (final Throwable t) {
+			// CHECKSTYLE:ON
+			throw new OrchestrationException(t);
+		}
+	}
+
 	/**
 	 * Invoke on executor.
 	 * 
@@ -120,43 +228,732 @@ public final class ExecutionUtils {
 	 * @throws Exception
 	 */
 	public static Object invoke(final Object instance, final Method method, final Object[] args, final ExecutionInfo info) throws Exception {
+		final Mode mode = info.getConfig().getModeConfig().getMode();
+		// mode 'ASYNC' for methods with future result
+		if (mode == Mode.ASYNC && isFutureResult(method))
+			return invokeFuture(instance, method, args, info);
+
+		final ExecutionMetrics metrics = info.getMetrics();
+		try {
+			final Object result = invokeWithRateLimit(instance, method, args, info, mode);
+			if (mode != Mode.ASYNC || method.getReturnType() != void.class) // 'ASYNC' execution outcome is recorded on completion
+				metrics.onOutcome(null);
+
+			return result;
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			metrics.onOutcome(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Invoke under configured executions rate limit.<br>
+	 * Execution exceeding the rate is rejected with {@link RateOverflowException} or waits for permit, according to configured
+	 * {@link RateLimitPolicy}. Waiting is performed in current thread, except 'ASYNC' executions of 'void' methods what are submitted with
+	 * delay without blocking current thread.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param mode
+	 *            {@link Mode}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeWithRateLimit(final Object instance, final Method method, final Object[] args, final ExecutionInfo info,
+			final Mode mode) throws Exception {
+		final RateLimiter limiter = info.getActualRateLimiter();
+		if (limiter != null) {
+			final long wait = limiter.tryReserve(getRateLimitMaxWait(info));
+			if (wait < 0)
+				throw new RateOverflowException(info);
+
+			if (wait > 0) {
+				info.getMetrics().onThrottle();
+				if (mode == Mode.ASYNC && method.getReturnType() == void.class) {
+					invokeDelayed(instance, method, args, info, wait);
+					return null;
+				}
+
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+
+		return invokeWithCircuitBreaker(instance, method, args, info, mode);
+	}
+
+	/**
+	 * Submit 'ASYNC' execution of 'void' method with delay without blocking current thread.<br>
+	 * Orchestration errors of delayed submission couldn't be thrown to the caller, they are recorded to metrics and logged instead.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param delay
+	 *            submission delay in nanoseconds
+	 */
+	private static void invokeDelayed(final Object instance, final Method method, final Object[] args, final ExecutionInfo info, final long delay) {
+		final Callable<Void> submission = new Callable<Void>() {
+			@Override
+			public Void call() {
+				try {
+					invokeWithCircuitBreaker(instance, method, args, info, Mode.ASYNC);
+				} catch (final Exception e) {
+					info.getMetrics().onOutcome(e);
+					LOGGER.warn("Delayed ASYNC submission of method[" + method + "] from[" + instance.getClass() + "] failed", e);
+				}
+				return null;
+			}
+		};
+		final Deadline parent = Deadline.current();
+		final Callable<Void> bound = parent != null ? parent.bind(submission) : submission;
+		try {
+			TimerExecutorServiceFactory.getExecutorService().schedule(bound, delay, TimeUnit.NANOSECONDS);
+		} catch (final RejectedExecutionException e) {
+			throw new ExecutorOverflowException(info);
+		}
+	}
+
+	/**
+	 * Get maximum time of waiting for executions rate limit permit.
+	 * 
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return time in nanoseconds, zero if execution shouldn't wait
+	 */
+	private static long getRateLimitMaxWait(final ExecutionInfo info) {
+		final LimitsConfig limitsConf = info.getActualLimitsConfig();
+		if (limitsConf.getRatePolicy() != RateLimitPolicy.WAIT)
+			return 0L;
+
+		long result = limitsConf.getTime() > 0 ? limitsConf.getTimeUnit().toNanos(limitsConf.getTime()) : Long.MAX_VALUE;
+		final Deadline parent = Deadline.current();
+		if (parent != null && parent.isBounded())
+			result = Math.min(result, parent.getRemaining());
+
+		return Math.max(result, 0L);
+	}
+
+	/**
+	 * Invoke under configured circuit breaker.<br>
+	 * Execution is rejected with {@link CircuitBreakerOpenException} while circuit is open, otherwise execution result is recorded to the circuit
+	 * breaker.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param mode
+	 *            {@link Mode}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeWithCircuitBreaker(final Object instance, final Method method, final Object[] args, final ExecutionInfo info,
+			final Mode mode) throws Exception {
+		final CircuitBreaker breaker = info.getActualCircuitBreaker();
+		if (breaker == null)
+			return invokeWithLimits(instance, method, args, info, mode);
+
+		final long permit = breaker.tryAcquire();
+		if (permit == CircuitBreaker.NO_PERMIT)
+			throw new CircuitBreakerOpenException(info);
+
+		final long started = System.nanoTime();
+		try {
+			final Object result = invokeWithLimits(instance, method, args, info, mode);
+			if (mode == Mode.ASYNC && method.getReturnType() == void.class)
+				breaker.onIgnored(permit); // submission result tells nothing about execution
+			else
+				breaker.onExecution(permit, System.nanoTime() - started, false);
+
+			return result;
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			onCircuitBreakerExecution(breaker, permit, info, System.nanoTime() - started, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Record failed execution to the {@link CircuitBreaker}.<br>
+	 * Concurrent executions limit overflow isn't related to execution health and isn't recorded, executor overflow and timeout are always recorded
+	 * as failures, other errors are recorded as failures if configured in {@link CircuitBreakerConfig}.
+	 * 
+	 * @param breaker
+	 *            {@link CircuitBreaker}
+	 * @param permit
+	 *            execution permit
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param latency
+	 *            execution latency in nanoseconds
+	 * @param error
+	 *            execution error
+	 */
+	private static void onCircuitBreakerExecution(final CircuitBreaker breaker, final long permit, final ExecutionInfo info, final long latency,
+			final Throwable error) {
+		if (error instanceof ConcurrentOverflowException) {
+			breaker.onIgnored(permit);
+			return;
+		}
+
+		final boolean failure = error instanceof ExecutionTimeoutException || error instanceof ExecutorOverflowException
+				|| info.getActualCircuitBreakerConfig().isFailure(error);
+		breaker.onExecution(permit, latency, failure);
+	}
+
+	/**
+	 * Invoke under configured concurrent executions limit.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param mode
+	 *            {@link Mode}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeWithLimits(final Object instance, final Method method, final Object[] args, final ExecutionInfo info, final Mode mode)
+			throws Exception {
 		final LimitsConfig limitsConf = info.getActualLimitsConfig();
+		if (limitsConf.getConcurrentLimit().isAdaptive())
+			return invokeLimited(instance, method, args, info, mode);
+
 		final boolean controlConcurrency = limitsConf.getConcurrent() != OrchestrationConstants.CONCURRENT_LIMIT;
 		try {
 			if (controlConcurrency && limitsConf.getConcurrent() < info.getActualExecutions().incrementAndGet())
 				throw new ConcurrentOverflowException(info);
 
+			return invoke(instance, method, args, info, mode);
+		} finally {
+			if (controlConcurrency)
+				info.getActualExecutions().decrementAndGet();
+		}
+	}
+
+	/**
+	 * Invoke under adaptive concurrent executions limit.<br>
+	 * Execution latency is reported to the limiter, timed out and rejected executions are reported as dropped.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param mode
+	 *            {@link Mode}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeLimited(final Object instance, final Method method, final Object[] args, final ExecutionInfo info, final Mode mode)
+			throws Exception {
+		final ConcurrentLimiter limiter = info.getActualConcurrentLimiter();
+		if (!limiter.tryAcquire())
+			throw new ConcurrentOverflowException(info);
+
+		final long started = System.nanoTime();
+		try {
+			final Object result = invoke(instance, method, args, info, mode);
+			if (mode == Mode.ASYNC && method.getReturnType() == void.class)
+				limiter.onIgnored(); // submission latency tells nothing about execution
+			else
+				limiter.onSuccess(System.nanoTime() - started);
+
+			return result;
+		} catch (final ExecutionTimeoutException | ExecutorOverflowException e) {
+			limiter.onDropped();
+			throw e;
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			limiter.onIgnored();
+			throw e;
+		}
+	}
+
+	/**
+	 * Invoke on executor, concurrent executions limit is controlled by caller.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param mode
+	 *            {@link Mode}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invoke(final Object instance, final Method method, final Object[] args, final ExecutionInfo info, final Mode mode)
+			throws Exception {
+		final LimitsConfig limitsConf = info.getActualLimitsConfig();
+		final Deadline parent = Deadline.current();
+		if (parent != null && parent.isExpired()) // time of the parent execution is exhausted
+			throw new ExecutionTimeoutException(info);
+
+		try {
 			final Callable<Object> callable = info.getActualCallableFactory().create(instance, method, args);
-			final Mode mode = info.getConfig().getModeConfig().getMode();
 
+			// mode 'INLINE'
+			if (mode == Mode.INLINE) {
+				if (limitsConf.getTime() <= OrchestrationConstants.TIME_LIMIT)
+					return info.getActualRetryConfig().isEnabled() ? invokeInlineWithRetry(callable, info) : invokeInline(callable, info);
+
+				if (info.markInlineFallbackLogged()) { // logged once per configuration
+					final StringBuilder sb = new StringBuilder("INLINE mode couldn't enforce time limit");
+					sb.append(", invoking in SYNC mode method[").append(method).append("] from[").append(instance.getClass()).append("]");
+					LOGGER.warn(sb.toString());
+				}
+			}
+
+			// mode 'SYNC' with retries
+			if (mode != Mode.ASYNC && info.getActualRetryConfig().isEnabled())
+				return invokeWithRetry(callable, info);
+
+			final Deadline deadline = Deadline.create(limitsConf.getTime(), limitsConf.getTimeUnit());
+			final Callable<Object> metered = prioritize(info.getMetrics().meter(deadline.bind(callable)), info);
 			// mode 'SYNC'
-			if (mode == Mode.SYNC)
-				return ExecutionUtils.invoke(callable, limitsConf.getTime(), limitsConf.getTimeUnit(), info.getActualExecutor());
+			if (mode != Mode.ASYNC)
+				return invoke(metered, deadline, info);
 
 			// this restriction will be removed when ASYNC support will be implemented for methods with any return type
 			if (method.getReturnType() != void.class) {
-				final StringBuilder sb = new StringBuilder("ASYNC mode currently supported only for 'void' methods");
+				final StringBuilder sb = new StringBuilder("ASYNC mode currently supported only for 'void' and 'CompletableFuture', 'CompletionStage', 'Future' methods");
 				sb.append(", invoking in SYNC mode method[").append(method).append("] from[").append(instance.getClass()).append("]");
 				LOGGER.warn(sb.toString());
-				return ExecutionUtils.invoke(callable, limitsConf.getTime(), limitsConf.getTimeUnit(), info.getActualExecutor());
+				return invoke(metered, deadline, info);
 			}
 
 			// mode 'ASYNC'
-			ExecutionUtils.invokeAsync(callable, limitsConf.getTime(), limitsConf.getTimeUnit(), info.getActualExecutor());
+			final CompletableFuture<Object> execution = ExecutionUtils.invokeAsync(metered, deadline.getTimeout(), TimeUnit.NANOSECONDS,
+					info.getActualExecutor());
+			deadline.attach(execution);
+			execution.whenComplete(info.getMetrics().getOutcomeRecorder());
 			return null;
 		} catch (final RejectedExecutionException e) {
 			throw new ExecutorOverflowException(info);
 		} catch (final TimeoutException e) {
 			throw new ExecutionTimeoutException(info);
+		}
+	}
+
+	/**
+	 * Invoke in current thread in 'INLINE' mode.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeInline(final Callable<Object> callable, final ExecutionInfo info) throws Exception {
+		final long started = System.nanoTime();
+		try {
+			return callable.call();
 		} finally {
-			if (controlConcurrency)
+			info.getMetrics().onLatency(0L, System.nanoTime() - started);
+		}
+	}
+
+	/**
+	 * Invoke in current thread in 'INLINE' mode with retries.<br>
+	 * Attempts are executed sequentially with backoff delay between them, hedging isn't supported without executor.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeInlineWithRetry(final Callable<Object> callable, final ExecutionInfo info) throws Exception {
+		final RetryConfig retryConf = info.getActualRetryConfig();
+		for (int attempt = 1;; attempt++) {
+			try {
+				return invokeInline(callable, info);
+			} catch (final Exception e) {
+				if (!retryConf.isRetryable(e) || attempt >= retryConf.getAttempts() || !backoff(retryConf.getBackoffNanos(attempt)))
+					throw e;
+
+				info.getMetrics().onRetry();
+			}
+		}
+	}
+
+	/**
+	 * Invoke on executor in 'SYNC' mode with time limit of given {@link Deadline}, deadline is released when execution is finished.
+	 * 
+	 * @param callable
+	 *            {@link Callable} bound to the deadline
+	 * @param deadline
+	 *            {@link Deadline}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invoke(final Callable<Object> callable, final Deadline deadline, final ExecutionInfo info) throws Exception {
+		Throwable error = null;
+		try {
+			return ExecutionUtils.invoke(callable, deadline.getTimeout(), TimeUnit.NANOSECONDS, info.getActualExecutor());
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			error = e;
+			throw e;
+		} finally {
+			deadline.release(error);
+		}
+	}
+
+	/**
+	 * Invoke on executor with retries and hedging.<br>
+	 * Failed attempt is retried after backoff delay if error is retryable and attempts are not exhausted, backoff isn't longer than remaining
+	 * time of the parent execution.<br>
+	 * If hedging is enabled and attempt isn't completed in configured execution time percentile, speculative attempt is started in parallel and first
+	 * successful result is returned. Execution fails only when all started attempts are failed, attempts what are not needed anymore are
+	 * cancelled.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return invocation result
+	 * @throws Exception
+	 */
+	private static Object invokeWithRetry(final Callable<Object> callable, final ExecutionInfo info) throws Exception {
+		final RetryConfig retryConf = info.getActualRetryConfig();
+		final BlockingQueue<CompletableFuture<Object>> completed = new LinkedBlockingQueue<>();
+		final List<CompletableFuture<Object>> attempts = new ArrayList<>(retryConf.getAttempts());
+		try {
+			attempts.add(invokeAttempt(callable, info, completed));
+			int running = 1;
+			int retries = 0;
+			Exception notRetryable = null; // first not retryable error, no more attempts are started after it
+			for (;;) {
+				final boolean canHedge = retryConf.isHedging() && notRetryable == null && attempts.size() < retryConf.getAttempts();
+				final long hedgeDelay = canHedge
+						? info.getMetrics().getExecutionTimeAtPercentile(retryConf.getHedgePercentile(), OrchestrationConstants.HEDGE_MIN_EXECUTIONS)
+						: -1L;
+				final CompletableFuture<Object> attempt = hedgeDelay >= 0 ? completed.poll(hedgeDelay, TimeUnit.NANOSECONDS) : completed.take();
+				if (attempt == null) { // hedging
+					info.getMetrics().onHedge();
+					attempts.add(invokeAttempt(callable, info, completed));
+					running++;
+					continue;
+				}
+
+				running--;
+				try {
+					return attempt.get();
+				} catch (final ExecutionException e) {
+					final Throwable cause = e.getCause() != null ? e.getCause() : e;
+					if (cause instanceof Error)
+						throw (Error) cause;
+
+					final Exception error = cause instanceof TimeoutException ? new ExecutionTimeoutException(info) : (Exception) cause;
+					if (notRetryable == null && !retryConf.isRetryable(error))
+						notRetryable = error;
+					if (running > 0) // other attempts are still in progress and could succeed
+						continue;
+					if (notRetryable != null)
+						throw notRetryable;
+					if (attempts.size() >= retryConf.getAttempts())
+						throw error;
+
+					retries++;
+					if (!backoff(retryConf.getBackoffNanos(retries))) // no time for one more attempt
+						throw error;
+
+					info.getMetrics().onRetry();
+					attempts.add(invokeAttempt(callable, info, completed));
+					running++;
+				}
+			}
+		} finally {
+			for (final CompletableFuture<Object> attempt : attempts)
+				attempt.cancel(true);
+		}
+	}
+
+	/**
+	 * Wait for retry backoff delay in current thread.
+	 * 
+	 * @param delay
+	 *            backoff delay in nanoseconds
+	 * @return <code>false</code> if remaining time of the parent execution is shorter than backoff delay, nothing is waited in this case
+	 * @throws InterruptedException
+	 */
+	private static boolean backoff(final long delay) throws InterruptedException {
+		final Deadline parent = Deadline.current();
+		if (parent != null && parent.isBounded() && parent.getRemaining() <= delay)
+			return false;
+
+		TimeUnit.NANOSECONDS.sleep(delay);
+		return true;
+	}
+
+	/**
+	 * Invoke single attempt on executor without blocking current thread.<br>
+	 * Completed attempt is added to given queue, executor rejection completes attempt with {@link ExecutorOverflowException}.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param completed
+	 *            completed attempts queue
+	 * @return {@link CompletableFuture}
+	 */
+	private static CompletableFuture<Object> invokeAttempt(final Callable<Object> callable, final ExecutionInfo info,
+			final BlockingQueue<CompletableFuture<Object>> completed) {
+		final LimitsConfig limitsConf = info.getActualLimitsConfig();
+		final Deadline deadline = Deadline.create(limitsConf.getTime(), limitsConf.getTimeUnit());
+		CompletableFuture<Object> attempt;
+		try {
+			attempt = invokeFuture(prioritize(info.getMetrics().meter(deadline.bind(callable)), info), deadline.getTimeout(), TimeUnit.NANOSECONDS,
+					info.getActualExecutor());
+			deadline.attach(attempt);
+		} catch (final RejectedExecutionException e) {
+			attempt = new CompletableFuture<>();
+			attempt.completeExceptionally(new ExecutorOverflowException(info));
+		}
+
+		final CompletableFuture<Object> result = attempt;
+		result.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(final Object value, final Throwable error) {
+				completed.offer(result);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Wrap {@link Callable} with actual execution priority, if it differs from default priority.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return {@link Callable}
+	 */
+	private static Callable<Object> prioritize(final Callable<Object> callable, final ExecutionInfo info) {
+		final int priority = info.getActualPriority();
+		return priority != OrchestrationConstants.PRIORITY ? PriorityThreadPoolExecutor.prioritize(callable, priority) : callable;
+	}
+
+	/**
+	 * Is method result can be represented by {@link CompletableFuture}.
+	 * 
+	 * @param method
+	 *            method
+	 * @return <code>true</code> for methods returning {@link CompletableFuture}, {@link CompletionStage} or {@link Future}
+	 */
+	public static boolean isFutureResult(final Method method) {
+		final Class<?> type = method.getReturnType();
+		return type == CompletableFuture.class || type == CompletionStage.class || type == Future.class;
+	}
+
+	/**
+	 * Invoke method with future result on executor without blocking current thread.<br>
+	 * Orchestration errors are not thrown, returned {@link CompletableFuture} is completed exceptionally with them instead.<br>
+	 * Concurrent executions are released when returned {@link CompletableFuture} is completed, execution exceeding the rate is submitted
+	 * with delay if it should wait for rate limit permit.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @return {@link CompletableFuture}
+	 */
+	public static CompletableFuture<Object> invokeFuture(final Object instance, final Method method, final Object[] args, final ExecutionInfo info) {
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+		result.whenComplete(info.getMetrics().getOutcomeRecorder());
+		final Deadline parent = Deadline.current();
+		if (parent != null && parent.isExpired()) { // time of the parent execution is exhausted
+			result.completeExceptionally(new ExecutionTimeoutException(info));
+			return result;
+		}
+
+		final RateLimiter rateLimiter = info.getActualRateLimiter();
+		final long wait = rateLimiter != null ? rateLimiter.tryReserve(getRateLimitMaxWait(info)) : 0L;
+		if (wait < 0) {
+			result.completeExceptionally(new RateOverflowException(info));
+			return result;
+		}
+
+		if (wait == 0) {
+			submitFuture(instance, method, args, info, result);
+			return result;
+		}
+
+		info.getMetrics().onThrottle(); // submission is delayed without blocking current thread
+		final Callable<Void> submission = new Callable<Void>() {
+			@Override
+			public Void call() {
+				submitFuture(instance, method, args, info, result);
+				return null;
+			}
+		};
+		final Callable<Void> bound = parent != null ? parent.bind(submission) : submission;
+		try {
+			TimerExecutorServiceFactory.getExecutorService().schedule(bound, wait, TimeUnit.NANOSECONDS);
+		} catch (final RejectedExecutionException e) {
+			result.completeExceptionally(new ExecutorOverflowException(info));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Submit execution with future result under configured circuit breaker and concurrent executions limit.
+	 * 
+	 * @param instance
+	 *            instance
+	 * @param method
+	 *            execution method
+	 * @param args
+	 *            method arguments
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param result
+	 *            {@link CompletableFuture} completed with execution result
+	 */
+	private static void submitFuture(final Object instance, final Method method, final Object[] args, final ExecutionInfo info,
+			final CompletableFuture<Object> result) {
+		if (result.isDone()) // cancelled while waiting for rate limit permit
+			return;
+
+		final CircuitBreaker breaker = info.getActualCircuitBreaker();
+		if (breaker != null) {
+			final long permit = breaker.tryAcquire();
+			if (permit == CircuitBreaker.NO_PERMIT) {
+				result.completeExceptionally(new CircuitBreakerOpenException(info));
+				return;
+			}
+
+			final long started = System.nanoTime();
+			result.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(final Object value, final Throwable error) {
+					if (error == null)
+						breaker.onExecution(permit, System.nanoTime() - started, false);
+					else
+						onCircuitBreakerExecution(breaker, permit, info, System.nanoTime() - started, error);
+				}
+			});
+		}
+
+		final LimitsConfig limitsConf = info.getActualLimitsConfig();
+		if (limitsConf.getConcurrentLimit().isAdaptive()) {
+			final ConcurrentLimiter limiter = info.getActualConcurrentLimiter();
+			if (!limiter.tryAcquire()) {
+				result.completeExceptionally(new ConcurrentOverflowException(info));
+				return;
+			}
+
+			final long started = System.nanoTime();
+			result.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(final Object value, final Throwable error) {
+					if (error == null)
+						limiter.onSuccess(System.nanoTime() - started);
+					else if (error instanceof ExecutionTimeoutException || error instanceof ExecutorOverflowException)
+						limiter.onDropped();
+					else
+						limiter.onIgnored();
+				}
+			});
+		} else if (limitsConf.getConcurrent() != OrchestrationConstants.CONCURRENT_LIMIT) {
+			if (limitsConf.getConcurrent() < info.getActualExecutions().incrementAndGet()) {
 				info.getActualExecutions().decrementAndGet();
+				result.completeExceptionally(new ConcurrentOverflowException(info));
+				return;
+			}
+
+			result.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(final Object value, final Throwable error) {
+					info.getActualExecutions().decrementAndGet();
+				}
+			});
+		}
+
+		try {
+			final Deadline deadline = Deadline.create(limitsConf.getTime(), limitsConf.getTimeUnit());
+			final Callable<Object> callable = info.getActualCallableFactory().create(instance, method, args);
+			final CompletableFuture<Object> execution = ExecutionUtils.invokeFuture(prioritize(info.getMetrics().meter(deadline.bind(callable)), info),
+					deadline.getTimeout(), TimeUnit.NANOSECONDS, info.getActualExecutor());
+			execution.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(final Object value, final Throwable error) {
+					if (error == null)
+						result.complete(value);
+					else if (error instanceof TimeoutException)
+						result.completeExceptionally(new ExecutionTimeoutException(info));
+					else
+						result.completeExceptionally(error);
+				}
+			});
+			result.whenComplete(new BiConsumer<Object, Throwable>() {
+				@Override
+				public void accept(final Object value, final Throwable error) {
+					if (result.isCancelled())
+						execution.cancel(true);
+				}
+			});
+			deadline.attach(result);
+		} catch (final RejectedExecutionException e) {
+			result.completeExceptionally(new ExecutorOverflowException(info));
+			// CHECKSTYLE:OFF
+		} catch (final RuntimeException e) {
+			// CHECKSTYLE:ON
+			result.completeExceptionally(e);
 		}
+
 	}
 
 	/**
-	 * Invoke callable on {@link ExecutorService} in 'ASYNC' thread without blocking current thread.<br>
-	 * All exceptions would be logged with error log level.
+	 * Invoke callable on {@link ExecutorService} without blocking current thread.<br>
+	 * If callable result is {@link CompletionStage} or {@link Future} returned {@link CompletableFuture} would be completed with it's result.<br>
+	 * {@link RejectedExecutionException} will be thrown if executor couldn't accept task for execution.<br>
+	 * Returned {@link CompletableFuture} would be completed exceptionally with {@link TimeoutException} and task would be cancelled if maximum
+	 * execution time is reached.<br>
+	 * Cancellation of returned {@link CompletableFuture} cancels the task.
 	 * 
 	 * @param callable
 	 *            {@link Callable}
@@ -166,20 +963,124 @@ public final class ExecutionUtils {
 	 *            maximum execution time unit
 	 * @param executor
 	 *            {@link ExecutorService}
+	 * @return {@link CompletableFuture}
 	 */
-	public static <T> void invokeAsync(final Callable<T> callable, final long time, final TimeUnit timeUnit, final ExecutorService executor) {
-		ASYNC_EXECUTOR.submit(new Runnable() {
+	public static <T> CompletableFuture<T> invokeFuture(final Callable<?> callable, final long time, final TimeUnit timeUnit,
+			final ExecutorService executor) {
+		checkArgument(callable != null, "callable argument is null");
+		checkArgument(timeUnit != null, "timeUnit argument is null");
+		checkArgument(executor != null, "executor argument is null");
+
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final Runnable runnable = new Runnable() {
 			@Override
 			public void run() {
+				if (result.isDone()) // timed out before start
+					return;
+
 				try {
-					ExecutionUtils.invoke(callable, time, timeUnit, executor);
+					complete(result, callable.call());
 					// CHECKSTYLE:OFF
-				} catch (final Exception e) {
+				} catch (final Exception | Error e) {
 					// CHECKSTYLE:ON
-					LOGGER.error("invokeAsync(callable, " + time + ", " + timeUnit + ", executor) error", e);
+					result.completeExceptionally(e);
 				}
 			}
+		};
+		final Future<?> task = executor.submit(callable instanceof Prioritized //
+				? PriorityThreadPoolExecutor.prioritize(runnable, ((Prioritized) callable).getPriority()) //
+				: runnable);
+
+		result.whenComplete(new BiConsumer<T, Throwable>() {
+			@Override
+			public void accept(final T value, final Throwable error) {
+				if (result.isCancelled())
+					task.cancel(true);
+			}
 		});
+
+		if (time > 0) {
+			final ScheduledFuture<?> timeout = TimerExecutorServiceFactory.getExecutorService().schedule(new Runnable() {
+				@Override
+				public void run() {
+					if (result.completeExceptionally(new TimeoutException()))
+						task.cancel(true);
+				}
+			}, time, timeUnit);
+			result.whenComplete(new BiConsumer<T, Throwable>() {
+				@Override
+				public void accept(final T value, final Throwable error) {
+					timeout.cancel(false);
+				}
+			});
+		}
+
+		return result;
+	}
+
+	/**
+	 * Complete {@link CompletableFuture} with callable result, {@link CompletionStage} and {@link Future} results are unwrapped.
+	 * 
+	 * @param result
+	 *            {@link CompletableFuture} to complete
+	 * @param value
+	 *            callable result
+	 * @throws Exception
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> void complete(final CompletableFuture<T> result, final Object value) throws Exception {
+		if (value instanceof CompletionStage) {
+			((CompletionStage<T>) value).whenComplete(new BiConsumer<T, Throwable>() {
+				@Override
+				public void accept(final T stageValue, final Throwable error) {
+					if (error == null)
+						result.complete(stageValue);
+					else
+						result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+				}
+			});
+			return;
+		}
+
+		if (value instanceof Future) {
+			try {
+				result.complete(((Future<T>) value).get()); // plain future couldn't be observed without blocking
+			} catch (final ExecutionException e) {
+				result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+			}
+			return;
+		}
+
+		result.complete((T) value);
+	}
+
+	/**
+	 * Invoke callable on {@link ExecutorService} without blocking current thread.<br>
+	 * Task is submitted directly to given {@link ExecutorService} and time limit is controlled by shared timer, no threads are blocked waiting for
+	 * execution result.<br>
+	 * {@link RejectedExecutionException} will be thrown if executor couldn't accept task for execution.<br>
+	 * All execution exceptions would be logged with error log level.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param time
+	 *            maximum execution time
+	 * @param timeUnit
+	 *            maximum execution time unit
+	 * @param executor
+	 *            {@link ExecutorService}
+	 * @return {@link CompletableFuture} completed with execution result
+	 */
+	public static <T> CompletableFuture<T> invokeAsync(final Callable<T> callable, final long time, final TimeUnit timeUnit, final ExecutorService executor) {
+		final CompletableFuture<T> result = ExecutionUtils.<T> invokeFuture(callable, time, timeUnit, executor);
+		result.whenComplete(new BiConsumer<T, Throwable>() {
+			@Override
+			public void accept(final T value, final Throwable error) {
+				if (error != null)
+					LOGGER.error("invokeAsync(callable, " + time + ", " + timeUnit + ", executor) error", error);
+			}
+		});
+		return result;
 	}
 
 	/**
@@ -217,6 +1118,8 @@ public final class ExecutionUtils {
 			final Throwable cause = e.getCause();
 			if (cause != null && cause instanceof Exception)
 				throw (Exception) cause;
+			if (cause != null && cause instanceof Error)
+				throw (Error) cause;
 
 			throw e;
 		}
@@ -238,12 +1141,24 @@ public final class ExecutionUtils {
 		if (DefaultExecutorServiceFactory.class == factory)
 			return DefaultExecutorServiceFactory.getInstance().create(config, nameFormatArgs);
 
+		if (ForkJoinExecutorServiceFactory.class == factory)
+			return ForkJoinExecutorServiceFactory.getInstance().create(config, nameFormatArgs);
+
+		if (PriorityExecutorServiceFactory.class == factory)
+			return PriorityExecutorServiceFactory.getInstance().create(config, nameFormatArgs);
+
+		if (VirtualThreadExecutorServiceFactory.class == factory)
+			return VirtualThreadExecutorServiceFactory.getInstance().create(config, nameFormatArgs);
+
 		if (SystemExecutorServiceFactory.class == factory)
 			return SystemExecutorServiceFactory.getInstance().create(null); // config is ignored
 
 		if (AsyncExecutorServiceFactory.class == factory)
 			return AsyncExecutorServiceFactory.getInstance().create(null); // config is ignored
 
+		if (TimerExecutorServiceFactory.class == factory)
+			return TimerExecutorServiceFactory.getInstance().create(null); // config is ignored
+
 		try {
 			return factory.newInstance().create(config, nameFormatArgs); // additional factory instance caching can be implemented here
 		} catch (final InstantiationException | IllegalAccessException e) {
@@ -251,6 +1166,33 @@ public final class ExecutionUtils {
 		}
 	}
 
+	/**
+	 * Create {@link ConcurrentLimiter} for adaptive concurrent executions limit.
+	 * 
+	 * @param config
+	 *            {@link LimitsConfig}
+	 * @return {@link ConcurrentLimiter} or <code>null</code> if configured limit isn't adaptive
+	 */
+	public static ConcurrentLimiter create(final LimitsConfig config) {
+		checkArgument(config != null, "config argument is null");
+
+		final ConcurrentLimit type = config.getConcurrentLimit();
+		if (type == null || !type.isAdaptive())
+			return null;
+
+		final int max = config.getConcurrent() > OrchestrationConstants.CONCURRENT_LIMIT ? config.getConcurrent()
+				: OrchestrationConstants.ADAPTIVE_CONCURRENT_LIMIT_MAX;
+		final int initial = Math.min(OrchestrationConstants.ADAPTIVE_CONCURRENT_LIMIT_INITIAL, max);
+		switch (type) {
+			case AIMD:
+				return new AimdConcurrentLimiter(initial, max);
+			case GRADIENT:
+				return new GradientConcurrentLimiter(initial, max);
+			default:
+				throw new OrchestrationException("Unsupported ConcurrentLimit[" + type + "]");
+		}
+	}
+
 	/**
 	 * Terminate {@link ExecutorService} using {@code ExecutorService.shutdownNow()}.
 	 * 
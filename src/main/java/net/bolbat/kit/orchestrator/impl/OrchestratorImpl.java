@@ -4,11 +4,20 @@ import static net.bolbat.utils.lang.Validations.checkArgument;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import net.bolbat.kit.orchestrator.Orchestrator;
+import net.bolbat.kit.orchestrator.ProxyEngine;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSnapshot;
+import net.bolbat.kit.orchestrator.impl.proxy.ProxyGenerator;
+import net.bolbat.kit.orchestrator.impl.proxy.ProxyGenerator.ProxyClass;
 import net.bolbat.utils.reflect.ClassUtils;
 
 /**
@@ -18,6 +27,35 @@ import net.bolbat.utils.reflect.ClassUtils;
  */
 public class OrchestratorImpl implements Orchestrator {
 
+	/**
+	 * {@link Logger} instance.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(OrchestratorImpl.class);
+
+	/**
+	 * {@link ProxyEngine}.
+	 */
+	private final ProxyEngine engine;
+
+	/**
+	 * Default constructor, {@link ProxyEngine#DEFAULT} engine is used.
+	 */
+	public OrchestratorImpl() {
+		this(ProxyEngine.DEFAULT);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param aEngine
+	 *            {@link ProxyEngine}
+	 */
+	public OrchestratorImpl(final ProxyEngine aEngine) {
+		checkArgument(aEngine != null, "aEngine argument is null");
+
+		this.engine = aEngine;
+	}
+
 	@Override
 	public <T> T init(final T target) {
 		checkArgument(target != null, "target argument is null");
@@ -32,6 +70,14 @@ public class OrchestratorImpl implements Orchestrator {
 		checkArgument(interfaces != null && interfaces.length > 0, "interfaces argument is empty");
 
 		final ClassLoader classLoader = target.getClass().getClassLoader();
+		if (engine == ProxyEngine.GENERATED) {
+			final ProxyClass proxyClass = ProxyGenerator.getProxyClass(classLoader, interfaces);
+			if (proxyClass != null)
+				return (T) proxyClass.newInstance(new ExecutionHandler(target, interfaces, proxyClass.getMethods()), target);
+
+			LOGGER.debug("Interfaces" + Arrays.toString(interfaces) + " couldn't be implemented by generated proxy, using reflect proxy");
+		}
+
 		final InvocationHandler callHandler = new ExecutionHandler(target, interfaces);
 		return (T) Proxy.newProxyInstance(classLoader, interfaces, callHandler);
 	}
@@ -46,4 +92,36 @@ public class OrchestratorImpl implements Orchestrator {
 		return ExecutionUtils.invoke(callable, time, timeUnit, executor);
 	}
 
+	@Override
+	public void warmUp(final Object proxy) {
+		getHandler(proxy).warmUp();
+	}
+
+	@Override
+	public List<MetricsSnapshot> getMetrics(final Object proxy) {
+		return getHandler(proxy).getMetrics();
+	}
+
+	/**
+	 * Get {@link ExecutionHandler} of orchestrable proxy.
+	 * 
+	 * @param proxy
+	 *            orchestrable proxy
+	 * @return {@link ExecutionHandler}
+	 */
+	private static ExecutionHandler getHandler(final Object proxy) {
+		checkArgument(proxy != null, "proxy argument is null");
+
+		final ExecutionHandler generatedHandler = ProxyGenerator.getHandler(proxy);
+		if (generatedHandler != null)
+			return generatedHandler;
+
+		checkArgument(Proxy.isProxyClass(proxy.getClass()), "proxy argument isn't a proxy");
+
+		final InvocationHandler handler = Proxy.getInvocationHandler(proxy);
+		checkArgument(handler instanceof ExecutionHandler, "proxy argument isn't orchestrable");
+
+		return (ExecutionHandler) handler;
+	}
+
 }
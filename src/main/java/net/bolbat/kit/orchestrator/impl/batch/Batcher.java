@@ -0,0 +1,289 @@
+package net.bolbat.kit.orchestrator.impl.batch;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+
+/**
+ * Single item calls batcher.<br>
+ * First call of the batch becomes it's leader, it waits for batch filling up to maximum delay or until maximum size is reached and dispatches
+ * bulk call in own thread. Other calls of the batch are waiting for bulk call result and take their results from it.<br>
+ * Missing results of single item calls with primitive result type are failed with {@link OrchestrationException}, other calls get
+ * <code>null</code>.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class Batcher {
+
+	/**
+	 * Bulk {@link Method}.
+	 */
+	private final Method method;
+
+	/**
+	 * Is bulk method result a {@link Map} with results by argument.
+	 */
+	private final boolean mapResult;
+
+	/**
+	 * Is single item call result type primitive, so it couldn't be <code>null</code>.
+	 */
+	private final boolean primitiveResult;
+
+	/**
+	 * Maximum batch size.
+	 */
+	private final int maxSize;
+
+	/**
+	 * Maximum time to wait for batch filling in nanoseconds.
+	 */
+	private final long maxDelay;
+
+	/**
+	 * Batch what is filling now.
+	 */
+	private Batch current;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aMethod
+	 *            bulk {@link Method}, should accept one {@link List} compatible argument and return {@link Map} or {@link List}
+	 * @param aMaxSize
+	 *            maximum batch size
+	 * @param aMaxDelay
+	 *            maximum time to wait for batch filling
+	 * @param aMaxDelayUnit
+	 *            maximum time to wait for batch filling unit
+	 */
+	public Batcher(final Method aMethod, final int aMaxSize, final long aMaxDelay, final TimeUnit aMaxDelayUnit) {
+		this(aMethod, Object.class, aMaxSize, aMaxDelay, aMaxDelayUnit);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param aMethod
+	 *            bulk {@link Method}, should accept one {@link List} compatible argument and return {@link Map} or {@link List}
+	 * @param aResultType
+	 *            single item call result type
+	 * @param aMaxSize
+	 *            maximum batch size
+	 * @param aMaxDelay
+	 *            maximum time to wait for batch filling
+	 * @param aMaxDelayUnit
+	 *            maximum time to wait for batch filling unit
+	 */
+	public Batcher(final Method aMethod, final Class<?> aResultType, final int aMaxSize, final long aMaxDelay, final TimeUnit aMaxDelayUnit) {
+		checkArgument(aMethod != null, "aMethod argument is null");
+		checkArgument(aResultType != null && aResultType != void.class, "aResultType argument is null or void");
+		checkArgument(isBulkMethod(aMethod), "aMethod argument should accept one List compatible argument and return Map or List");
+		checkArgument(aMaxSize > 0, "aMaxSize argument should be greater than zero");
+		checkArgument(aMaxDelay >= 0, "aMaxDelay argument should be zero or greater");
+		checkArgument(aMaxDelayUnit != null, "aMaxDelayUnit argument is null");
+
+		this.method = aMethod;
+		this.mapResult = Map.class.isAssignableFrom(aMethod.getReturnType());
+		this.primitiveResult = aResultType.isPrimitive();
+		this.maxSize = aMaxSize;
+		this.maxDelay = aMaxDelayUnit.toNanos(aMaxDelay);
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Invoke single item call as part of the batch.
+	 * 
+	 * @param argument
+	 *            single item call argument
+	 * @param invoker
+	 *            {@link BulkInvoker}
+	 * @return single item call result
+	 * @throws Exception
+	 */
+	public Object invoke(final Object argument, final BulkInvoker invoker) throws Exception {
+		checkArgument(invoker != null, "invoker argument is null");
+
+		final Batch batch;
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+		final boolean leader;
+		synchronized (this) {
+			leader = current == null;
+			if (leader)
+				current = new Batch();
+
+			batch = current;
+			batch.arguments.add(argument);
+			batch.results.add(result);
+			if (batch.arguments.size() >= maxSize) { // dispatching full batch
+				current = null;
+				batch.full.countDown();
+			}
+		}
+
+		if (leader)
+			dispatch(batch, invoker);
+
+		try {
+			return result.get();
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof Exception)
+				throw (Exception) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Wait for batch filling and dispatch bulk call.
+	 * 
+	 * @param batch
+	 *            {@link Batch}
+	 * @param invoker
+	 *            {@link BulkInvoker}
+	 */
+	private void dispatch(final Batch batch, final BulkInvoker invoker) {
+		boolean interrupted = false;
+		try {
+			if (maxDelay > 0)
+				batch.full.await(maxDelay, TimeUnit.NANOSECONDS);
+		} catch (final InterruptedException e) {
+			interrupted = true; // batch should be dispatched anyway, other calls are waiting for it
+		}
+
+		synchronized (this) {
+			if (current == batch)
+				current = null;
+		}
+
+		try {
+			if (mapResult) {
+				final Map<?, ?> results = (Map<?, ?>) invoker.invoke(new ArrayList<>(new LinkedHashSet<>(batch.arguments)));
+				for (int i = 0; i < batch.results.size(); i++)
+					complete(batch, i, results != null ? results.get(batch.arguments.get(i)) : null);
+			} else {
+				final List<?> results = (List<?>) invoker.invoke(new ArrayList<>(batch.arguments));
+				if (results == null || results.size() != batch.results.size())
+					throw new OrchestrationException("Bulk method[" + method + "] results amount doesn't match arguments amount[" + batch.arguments.size() + "]");
+
+				for (int i = 0; i < batch.results.size(); i++)
+					complete(batch, i, results.get(i));
+			}
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			for (final CompletableFuture<Object> result : batch.results)
+				result.completeExceptionally(e);
+		} finally {
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Complete single item call of the batch with it's result from bulk call.
+	 * 
+	 * @param batch
+	 *            {@link Batch}
+	 * @param index
+	 *            single item call index in the batch
+	 * @param value
+	 *            single item call result, could be <code>null</code> if bulk call has no result for it
+	 */
+	private void complete(final Batch batch, final int index, final Object value) {
+		if (value == null && primitiveResult) { // can't be unboxed to primitive result
+			batch.results.get(index).completeExceptionally(
+					new OrchestrationException("Bulk method[" + method + "] has no result for argument[" + batch.arguments.get(index) + "]"));
+			return;
+		}
+
+		batch.results.get(index).complete(value);
+	}
+
+	/**
+	 * Is given method can be used as bulk method.
+	 * 
+	 * @param aMethod
+	 *            {@link Method}
+	 * @return <code>true</code> if it accepts one {@link List} compatible argument and returns {@link Map} or {@link List}
+	 */
+	public static boolean isBulkMethod(final Method aMethod) {
+		if (aMethod.getParameterTypes().length != 1 || !aMethod.getParameterTypes()[0].isAssignableFrom(ArrayList.class))
+			return false;
+
+		final Class<?> type = aMethod.getReturnType();
+		return Map.class.isAssignableFrom(type) || List.class.isAssignableFrom(type);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [method=").append(method.getName());
+		builder.append(", primitiveResult=").append(primitiveResult);
+		builder.append(", maxSize=").append(maxSize);
+		builder.append(", maxDelay=").append(maxDelay);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Bulk call invoker.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public interface BulkInvoker {
+
+		/**
+		 * Invoke bulk method.
+		 * 
+		 * @param arguments
+		 *            batched single item calls arguments
+		 * @return bulk method result
+		 * @throws Exception
+		 */
+		Object invoke(Collection<Object> arguments) throws Exception;
+
+	}
+
+	/**
+	 * Batch of single item calls.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class Batch {
+
+		/**
+		 * Calls arguments.
+		 */
+		private final List<Object> arguments = new ArrayList<>();
+
+		/**
+		 * Calls results.
+		 */
+		private final List<CompletableFuture<Object>> results = new ArrayList<>();
+
+		/**
+		 * Released when maximum batch size is reached.
+		 */
+		private final CountDownLatch full = new CountDownLatch(1);
+
+	}
+
+}
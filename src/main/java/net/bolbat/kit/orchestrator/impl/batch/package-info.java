@@ -0,0 +1,6 @@
+/**
+ * Auto-batching functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.batch;
@@ -0,0 +1,345 @@
+package net.bolbat.kit.orchestrator.impl.breaker;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.CircuitBreakerConfig;
+
+/**
+ * Circuit breaker with count based sliding window.<br>
+ * States:<br>
+ * - {@link State#CLOSED}: all executions are allowed, results are recorded to sliding window, circuit is opened when failed or slow executions rate
+ * reaches threshold;<br>
+ * - {@link State#OPEN}: all executions are rejected until open time is passed;<br>
+ * - {@link State#HALF_OPEN}: limited amount of trial executions is allowed, circuit is closed or opened again depending on their results.<br>
+ * Each allowed execution gets a permit tagged with the state generation, results of executions started before the last state change are
+ * ignored, so only trial executions are recorded in {@link State#HALF_OPEN} state.<br>
+ * Allowing executions is lock free, only results recording is serialized.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class CircuitBreaker {
+
+	/**
+	 * Rejected execution permit.
+	 */
+	public static final long NO_PERMIT = -1L;
+
+	/**
+	 * Failed execution flag.
+	 */
+	private static final byte FAILED = 1;
+
+	/**
+	 * Slow execution flag.
+	 */
+	private static final byte SLOW = 2;
+
+	/**
+	 * Failed executions rate threshold, percents, zero if failed executions aren't tracked.
+	 */
+	private final int failureRate;
+
+	/**
+	 * Slow executions rate threshold, percents, zero if slow executions aren't tracked.
+	 */
+	private final int slowRate;
+
+	/**
+	 * Slow execution time, nanoseconds, zero if slow executions aren't tracked.
+	 */
+	private final long slowTime;
+
+	/**
+	 * Minimal executions amount in sliding window before rates are evaluated.
+	 */
+	private final int minExecutions;
+
+	/**
+	 * Open time, nanoseconds.
+	 */
+	private final long openTime;
+
+	/**
+	 * Trial executions amount in half open state.
+	 */
+	private final int halfOpenExecutions;
+
+	/**
+	 * Current {@link State}.
+	 */
+	private volatile State state = State.CLOSED;
+
+	/**
+	 * State generation, changed on each state change, guarded by this for writes.
+	 */
+	private volatile int generation;
+
+	/**
+	 * Time when open state expires, nanoseconds.
+	 */
+	private volatile long openUntil;
+
+	/**
+	 * Trial executions permits in half open state, state generation in high bits and permits amount in low bits.
+	 */
+	private final AtomicLong halfOpenPermits = new AtomicLong(0L);
+
+	/**
+	 * Sliding window with executions flags, guarded by this.
+	 */
+	private final byte[] window;
+
+	/**
+	 * Next position in sliding window, guarded by this.
+	 */
+	private int position;
+
+	/**
+	 * Recorded executions amount, guarded by this.
+	 */
+	private int recorded;
+
+	/**
+	 * Failed executions amount, guarded by this.
+	 */
+	private int failed;
+
+	/**
+	 * Slow executions amount, guarded by this.
+	 */
+	private int slow;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param config
+	 *            {@link CircuitBreakerConfig}
+	 */
+	public CircuitBreaker(final CircuitBreakerConfig config) {
+		checkArgument(config != null, "config argument is null");
+		checkArgument(config.getWindow() > 0, "config window should be greater than zero");
+		checkArgument(config.getHalfOpenExecutions() > 0, "config halfOpenExecutions should be greater than zero");
+		checkArgument(config.getFailureRate() >= 0 && config.getFailureRate() <= 100, "config failureRate should be in range [0, 100]");
+		checkArgument(config.getSlowRate() >= 0 && config.getSlowRate() <= 100, "config slowRate should be in range [0, 100]");
+
+		this.failureRate = config.getFailureRate();
+		this.slowRate = config.getSlowRate();
+		this.slowTime = config.getSlowTime() > 0 ? config.getSlowTimeUnit().toNanos(config.getSlowTime()) : 0L;
+		this.minExecutions = Math.max(1, Math.min(config.getMinExecutions(), config.getWindow()));
+		this.openTime = config.getOpenTimeUnit().toNanos(config.getOpenTime());
+		this.halfOpenExecutions = Math.min(config.getHalfOpenExecutions(), config.getWindow());
+		this.window = new byte[config.getWindow()];
+	}
+
+	/**
+	 * Try to acquire execution permit.<br>
+	 * Each acquired permit should be completed with {@link #onExecution(long, long, boolean)} or {@link #onIgnored(long)}.
+	 * 
+	 * @return execution permit or {@link #NO_PERMIT} if circuit is open
+	 */
+	public long tryAcquire() {
+		final int permit = generation;
+		final State current = state;
+		if (current == State.CLOSED)
+			return permit;
+
+		if (current == State.OPEN) {
+			if (System.nanoTime() - openUntil < 0)
+				return NO_PERMIT;
+
+			halfOpen();
+		}
+
+		for (;;) {
+			final long permits = halfOpenPermits.get();
+			if ((int) permits <= 0)
+				return NO_PERMIT;
+			if (halfOpenPermits.compareAndSet(permits, permits - 1))
+				return permits >>> 32;
+		}
+	}
+
+	/**
+	 * Record execution result.
+	 * 
+	 * @param permit
+	 *            execution permit
+	 * @param latency
+	 *            execution latency in nanoseconds
+	 * @param failure
+	 *            is execution failed
+	 */
+	public synchronized void onExecution(final long permit, final long latency, final boolean failure) {
+		if (state == State.OPEN || permit != generation) // late result of execution started before state change
+			return;
+
+		byte flags = 0;
+		if (failure)
+			flags |= FAILED;
+		if (slowTime > 0 && latency >= slowTime)
+			flags |= SLOW;
+
+		if (state == State.HALF_OPEN) {
+			record(flags);
+			if (recorded < halfOpenExecutions)
+				return;
+
+			if (isThresholdReached())
+				open();
+			else
+				close();
+			return;
+		}
+
+		record(flags);
+		if (recorded >= minExecutions && isThresholdReached())
+			open();
+	}
+
+	/**
+	 * Complete acquired execution without recording result, trial permit is returned in {@link State#HALF_OPEN} state.
+	 * 
+	 * @param permit
+	 *            execution permit
+	 */
+	public void onIgnored(final long permit) {
+		for (;;) {
+			final long permits = halfOpenPermits.get();
+			if (permits >>> 32 != permit || state != State.HALF_OPEN)
+				return;
+			if (halfOpenPermits.compareAndSet(permits, permits + 1))
+				return;
+		}
+	}
+
+	/**
+	 * Get current {@link State}.
+	 * 
+	 * @return {@link State}
+	 */
+	public State getState() {
+		final State current = state;
+		return current == State.OPEN && System.nanoTime() - openUntil >= 0 ? State.HALF_OPEN : current;
+	}
+
+	/**
+	 * Record execution flags to sliding window.
+	 * 
+	 * @param flags
+	 *            execution flags
+	 */
+	private void record(final byte flags) {
+		if (recorded == window.length) { // evict oldest
+			final byte evicted = window[position];
+			if ((evicted & FAILED) != 0)
+				failed--;
+			if ((evicted & SLOW) != 0)
+				slow--;
+		} else {
+			recorded++;
+		}
+
+		window[position] = flags;
+		position = (position + 1) % window.length;
+		if ((flags & FAILED) != 0)
+			failed++;
+		if ((flags & SLOW) != 0)
+			slow++;
+	}
+
+	/**
+	 * Is failed or slow executions threshold reached.
+	 * 
+	 * @return <code>true</code> if reached or <code>false</code>
+	 */
+	private boolean isThresholdReached() {
+		return failureRate > 0 && failed * 100L >= (long) failureRate * recorded
+				|| slowRate > 0 && slowTime > 0 && slow * 100L >= (long) slowRate * recorded;
+	}
+
+	/**
+	 * Reset sliding window.
+	 */
+	private void reset() {
+		position = 0;
+		recorded = 0;
+		failed = 0;
+		slow = 0;
+	}
+
+	/**
+	 * Change state.
+	 * 
+	 * @param aState
+	 *            new {@link State}
+	 * @param permits
+	 *            trial executions permits amount
+	 */
+	private void changeState(final State aState, final int permits) {
+		reset();
+		final int next = (generation + 1) & Integer.MAX_VALUE;
+		halfOpenPermits.set((long) next << 32 | permits);
+		generation = next;
+		state = aState;
+	}
+
+	/**
+	 * Switch to {@link State#OPEN}.
+	 */
+	private void open() {
+		openUntil = System.nanoTime() + openTime;
+		changeState(State.OPEN, 0);
+	}
+
+	/**
+	 * Switch to {@link State#HALF_OPEN} if open time is passed.
+	 */
+	private synchronized void halfOpen() {
+		if (state != State.OPEN || System.nanoTime() - openUntil < 0)
+			return;
+
+		changeState(State.HALF_OPEN, halfOpenExecutions);
+	}
+
+	/**
+	 * Switch to {@link State#CLOSED}.
+	 */
+	private void close() {
+		changeState(State.CLOSED, 0);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [state=").append(getState());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Circuit breaker states.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public enum State {
+
+		/**
+		 * Executions are allowed.
+		 */
+		CLOSED,
+
+		/**
+		 * Executions are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * Limited amount of trial executions is allowed.
+		 */
+		HALF_OPEN
+
+	}
+
+}
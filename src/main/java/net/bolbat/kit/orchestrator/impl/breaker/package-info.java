@@ -0,0 +1,6 @@
+/**
+ * Circuit breaker functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.breaker;
@@ -0,0 +1,43 @@
+package net.bolbat.kit.orchestrator.impl.callable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+import net.bolbat.kit.orchestrator.impl.ExecutionCaches;
+import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+
+/**
+ * {@link CallableFactory} implementation based on {@link MethodHandle}.<br>
+ * Invoker for each method is created once and cached, so calls are dispatched without {@code Method.invoke} overhead.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class MethodHandleCallableFactory implements CallableFactory {
+
+	/**
+	 * {@link MethodHandleCallableFactory} instance.
+	 */
+	private static final MethodHandleCallableFactory INSTANCE = new MethodHandleCallableFactory();
+
+	/**
+	 * Private constructor.
+	 */
+	private MethodHandleCallableFactory() {
+	}
+
+	@Override
+	public Callable<Object> create(final Object impl, final Method method, final Object[] args) {
+		return ExecutionUtils.createCallable(impl, ExecutionCaches.getMethodHandle(method), args);
+	}
+
+	/**
+	 * Get {@link MethodHandleCallableFactory} instance.
+	 * 
+	 * @return {@link MethodHandleCallableFactory}
+	 */
+	public static MethodHandleCallableFactory getInstance() {
+		return INSTANCE;
+	}
+
+}
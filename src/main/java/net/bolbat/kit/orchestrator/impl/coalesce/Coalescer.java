@@ -0,0 +1,205 @@
+package net.bolbat.kit.orchestrator.impl.coalesce;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import net.bolbat.kit.orchestrator.impl.deadline.Deadline;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics;
+
+/**
+ * Single-flight calls coalescer.<br>
+ * First call with given arguments is executed, concurrent calls with equal arguments are waiting for it's completion and share it's result or
+ * error.<br>
+ * Calls are in flight until result is returned, for {@link CompletableFuture} results until returned future is completed. Each caller gets
+ * it's own copy of {@link CompletableFuture} result attached to it's deadline, so cancellation of one caller doesn't affect others.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class Coalescer {
+
+	/**
+	 * Calls in flight.
+	 */
+	private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * {@link ExecutionMetrics}.
+	 */
+	private final ExecutionMetrics metrics;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aMetrics
+	 *            {@link ExecutionMetrics}
+	 */
+	public Coalescer(final ExecutionMetrics aMetrics) {
+		checkArgument(aMetrics != null, "aMetrics argument is null");
+
+		this.metrics = aMetrics;
+	}
+
+	/**
+	 * Invoke callable or join the same call in flight.
+	 * 
+	 * @param args
+	 *            call arguments
+	 * @param callable
+	 *            {@link Callable}
+	 * @return call result
+	 * @throws Exception
+	 */
+	public Object invoke(final Object[] args, final Callable<Object> callable) throws Exception {
+		checkArgument(callable != null, "callable argument is null");
+
+		final Key key = new Key(args);
+		final CompletableFuture<Object> flight = new CompletableFuture<>();
+		final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			metrics.onCoalesce();
+			return join(existing);
+		}
+
+		try {
+			final Object result = callable.call();
+			flight.complete(result);
+			if (result instanceof CompletableFuture) { // asynchronous result is shared until completion
+				((CompletableFuture<?>) result).whenComplete(new BiConsumer<Object, Throwable>() {
+					@Override
+					public void accept(final Object value, final Throwable error) {
+						inFlight.remove(key, flight);
+					}
+				});
+				return copy((CompletableFuture<?>) result);
+			}
+
+			inFlight.remove(key, flight);
+			return result;
+			// CHECKSTYLE:OFF
+		} catch (final Exception | Error e) {
+			// CHECKSTYLE:ON
+			flight.completeExceptionally(e);
+			inFlight.remove(key, flight);
+			throw e;
+		}
+	}
+
+	/**
+	 * Get calls in flight amount.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public int getInFlight() {
+		return inFlight.size();
+	}
+
+	/**
+	 * Wait for call in flight and get it's result.
+	 * 
+	 * @param flight
+	 *            call in flight
+	 * @return call result
+	 * @throws Exception
+	 */
+	private static Object join(final CompletableFuture<Object> flight) throws Exception {
+		try {
+			final Object result = flight.get();
+			return result instanceof CompletableFuture ? copy((CompletableFuture<?>) result) : result;
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof Exception)
+				throw (Exception) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Create caller's copy of shared asynchronous result, copy is attached to the deadline bound to current thread.
+	 * 
+	 * @param shared
+	 *            shared {@link CompletableFuture}
+	 * @return {@link CompletableFuture}
+	 */
+	private static CompletableFuture<Object> copy(final CompletableFuture<?> shared) {
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+		shared.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(final Object value, final Throwable error) {
+				if (error == null)
+					result.complete(value);
+				else
+					result.completeExceptionally(error);
+			}
+		});
+		if (Deadline.current() != null)
+			Deadline.create(0L, TimeUnit.NANOSECONDS).attach(result);
+
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [inFlight=").append(inFlight.size());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Call key based on arguments equality.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class Key {
+
+		/**
+		 * Call arguments.
+		 */
+		private final Object[] args;
+
+		/**
+		 * Cached hash code.
+		 */
+		private final int hash;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aArgs
+		 *            call arguments
+		 */
+		private Key(final Object[] aArgs) {
+			this.args = aArgs != null ? aArgs : new Object[0];
+			this.hash = Arrays.deepHashCode(args);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+
+			final Key other = (Key) obj;
+			return hash == other.hash && Arrays.deepEquals(args, other.args);
+		}
+
+	}
+
+}
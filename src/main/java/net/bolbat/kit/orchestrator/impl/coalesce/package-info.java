@@ -0,0 +1,6 @@
+/**
+ * Concurrent identical calls coalescing functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.coalesce;
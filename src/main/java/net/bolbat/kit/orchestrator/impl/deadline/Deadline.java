@@ -0,0 +1,302 @@
+package net.bolbat.kit.orchestrator.impl.deadline;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
+
+/**
+ * Deadline of orchestrated execution, propagated to nested orchestrated executions.<br>
+ * Deadline is bound to the thread performing execution, nested execution started from it gets time limit not greater than remaining time of
+ * the parent deadline and fails fast if it's already expired.<br>
+ * Futures of nested executions are attached to the parent deadline and cancelled when parent execution is cancelled or timed out. Nested
+ * executions waiting in the parent execution thread are cancelled by it's interruption.
+ * 
+ * @author Alexandr Bolbat
+ */
+public final class Deadline {
+
+	/**
+	 * Deadline bound to current thread.
+	 */
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Parent deadline, can be <code>null</code>.
+	 */
+	private final Deadline parent;
+
+	/**
+	 * Deadline time based on {@link System#nanoTime()}.
+	 */
+	private final long deadline;
+
+	/**
+	 * Execution time limit in nanoseconds, zero if unlimited.
+	 */
+	private final long timeout;
+
+	/**
+	 * Attached futures of nested executions, guarded by this instance.
+	 */
+	private Set<Future<?>> dependents;
+
+	/**
+	 * Is execution finished.
+	 */
+	private boolean released;
+
+	/**
+	 * Is execution cancelled or timed out.
+	 */
+	private boolean cancelled;
+
+	/**
+	 * Private constructor.
+	 * 
+	 * @param aParent
+	 *            parent deadline, can be <code>null</code>
+	 * @param aTimeout
+	 *            execution time limit in nanoseconds, zero if unlimited
+	 */
+	private Deadline(final Deadline aParent, final long aTimeout) {
+		this.parent = aParent;
+		this.timeout = aTimeout;
+		this.deadline = System.nanoTime() + aTimeout;
+	}
+
+	/**
+	 * Get deadline bound to current thread.
+	 * 
+	 * @return {@link Deadline} or <code>null</code>
+	 */
+	public static Deadline current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Create deadline for execution started from current thread.<br>
+	 * Time limit is reduced to remaining time of the deadline bound to current thread.
+	 * 
+	 * @param time
+	 *            execution time limit, unlimited if not greater than zero
+	 * @param timeUnit
+	 *            execution time limit unit
+	 * @return {@link Deadline}
+	 */
+	public static Deadline create(final long time, final TimeUnit timeUnit) {
+		checkArgument(timeUnit != null, "timeUnit argument is null");
+
+		final Deadline current = CURRENT.get();
+		long result = time > 0 ? timeUnit.toNanos(time) : 0L;
+		if (current != null && current.isBounded()) {
+			final long remaining = Math.max(current.getRemaining(), 1L); // expired deadline should time out immediately
+			if (result <= 0 || remaining < result)
+				result = remaining;
+		}
+
+		return new Deadline(current, result);
+	}
+
+	/**
+	 * Is execution time limited.
+	 * 
+	 * @return <code>boolean</code>
+	 */
+	public boolean isBounded() {
+		return timeout > 0;
+	}
+
+	/**
+	 * Get execution time limit.
+	 * 
+	 * @return time limit in nanoseconds, zero if unlimited
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Get remaining time.
+	 * 
+	 * @return remaining time in nanoseconds, {@link Long#MAX_VALUE} if unlimited
+	 */
+	public long getRemaining() {
+		return isBounded() ? deadline - System.nanoTime() : Long.MAX_VALUE;
+	}
+
+	/**
+	 * Is deadline expired.
+	 * 
+	 * @return <code>boolean</code>
+	 */
+	public boolean isExpired() {
+		return getRemaining() <= 0;
+	}
+
+	/**
+	 * Bind deadline to the thread performing given {@link Callable}.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @return {@link Callable}
+	 */
+	public <T> Callable<T> bind(final Callable<T> callable) {
+		checkArgument(callable != null, "callable argument is null");
+
+		return new Callable<T>() {
+			@Override
+			public T call() throws Exception {
+				final Deadline previous = CURRENT.get();
+				CURRENT.set(Deadline.this);
+				try {
+					return callable.call();
+				} finally {
+					if (previous != null)
+						CURRENT.set(previous);
+					else
+						CURRENT.remove();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Unbind deadline from the thread performing given {@link Callable}, so execution started by it isn't nested to the current execution.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @return {@link Callable}
+	 */
+	public static <T> Callable<T> unbind(final Callable<T> callable) {
+		checkArgument(callable != null, "callable argument is null");
+
+		return new Callable<T>() {
+			@Override
+			public T call() throws Exception {
+				final Deadline previous = CURRENT.get();
+				CURRENT.remove();
+				try {
+					return callable.call();
+				} finally {
+					if (previous != null)
+						CURRENT.set(previous);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Attach future of the execution.<br>
+	 * Future is cancelled when parent execution is cancelled, deadline is released when future is completed.
+	 * 
+	 * @param future
+	 *            {@link CompletableFuture}
+	 */
+	public void attach(final CompletableFuture<?> future) {
+		checkArgument(future != null, "future argument is null");
+
+		final boolean registered = parent == null || parent.register(future);
+		future.whenComplete(new BiConsumer<Object, Throwable>() {
+			@Override
+			public void accept(final Object value, final Throwable error) {
+				if (parent != null)
+					parent.unregister(future);
+
+				release(error);
+			}
+		});
+
+		if (!registered) // parent execution is already cancelled
+			future.cancel(true);
+	}
+
+	/**
+	 * Release deadline when execution is finished.<br>
+	 * Attached futures of nested executions are cancelled if execution is cancelled or timed out.
+	 * 
+	 * @param error
+	 *            execution error, <code>null</code> if execution is successful
+	 */
+	public void release(final Throwable error) {
+		final List<Future<?>> toCancel;
+		synchronized (this) {
+			if (released)
+				return;
+
+			released = true;
+			cancelled = isCancellation(error);
+			toCancel = dependents != null && cancelled ? new ArrayList<>(dependents) : Collections.<Future<?>> emptyList();
+			dependents = null;
+		}
+
+		for (final Future<?> dependent : toCancel)
+			dependent.cancel(true);
+	}
+
+	/**
+	 * Register future of nested execution.
+	 * 
+	 * @param future
+	 *            {@link Future}
+	 * @return <code>false</code> if execution is already cancelled
+	 */
+	private synchronized boolean register(final Future<?> future) {
+		if (released)
+			return !cancelled;
+
+		if (dependents == null)
+			dependents = Collections.newSetFromMap(new IdentityHashMap<Future<?>, Boolean>());
+
+		dependents.add(future);
+		return true;
+	}
+
+	/**
+	 * Unregister future of nested execution.
+	 * 
+	 * @param future
+	 *            {@link Future}
+	 */
+	private synchronized void unregister(final Future<?> future) {
+		if (dependents != null)
+			dependents.remove(future);
+	}
+
+	/**
+	 * Is execution error means that execution is cancelled.
+	 * 
+	 * @param error
+	 *            execution error
+	 * @return <code>true</code> for cancellation, interruption and timeout errors
+	 */
+	private static boolean isCancellation(final Throwable error) {
+		final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		return cause instanceof CancellationException || cause instanceof InterruptedException || cause instanceof TimeoutException
+				|| cause instanceof ExecutionTimeoutException;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [timeout=").append(timeout);
+		builder.append(", remaining=").append(isBounded() ? getRemaining() : "unlimited");
+		builder.append(", parent=").append(parent != null);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Deadline propagation across nested orchestrated executions functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.deadline;
@@ -7,7 +7,7 @@ import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
 import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
 
 /**
- * {@link ExecutorServiceFactory} implementation for 'ASYNC' executions.<br>
+ * {@link ExecutorServiceFactory} implementation with shared {@link ExecutorService} for 'ASYNC' executions.<br>
  * They use system {@link OrchestrationConfig}.
  * 
  * @author Alexandr Bolbat
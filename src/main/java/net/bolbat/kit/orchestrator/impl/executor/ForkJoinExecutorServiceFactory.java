@@ -0,0 +1,154 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import static net.bolbat.utils.lang.StringUtils.isNotEmpty;
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+
+/**
+ * {@link ExecutorServiceFactory} implementation based on work-stealing {@link ForkJoinPool} in async (FIFO) mode, intended for CPU-bound
+ * executions.<br>
+ * {@link ExecutorConfig} is applied in next way:<br>
+ * - core size is used as parallelism, available processors amount is used if it's not configured;<br>
+ * - queue size limits queued tasks, {@link RejectedExecutionException} is thrown when it's reached;<br>
+ * - max size and keep alive are ignored.<br>
+ * Submitted tasks are wrapped with {@link FutureTask}, so their cancellation interrupts running execution like in thread pool executors.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ForkJoinExecutorServiceFactory implements ExecutorServiceFactory {
+
+	/**
+	 * {@link ForkJoinExecutorServiceFactory} instance.
+	 */
+	private static final ForkJoinExecutorServiceFactory INSTANCE = new ForkJoinExecutorServiceFactory();
+
+	/**
+	 * Private constructor.
+	 */
+	private ForkJoinExecutorServiceFactory() {
+	}
+
+	@Override
+	public ExecutorService create(final ExecutorConfig config, final Object... nameFormatArgs) {
+		checkArgument(config != null, "config argument is null");
+
+		final String nameFormat = isNotEmpty(config.getNameFormat()) ? config.getNameFormat() : OrchestrationConstants.THREAD_NAME_FORMAT;
+		final Object[] formatArgs = nameFormatArgs != null ? nameFormatArgs : new Object[0];
+		final AtomicLong counter = new AtomicLong();
+		final ForkJoinWorkerThreadFactory factory = new ForkJoinWorkerThreadFactory() {
+			@Override
+			public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+				final ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {
+				};
+				final Object[] args = Arrays.copyOf(formatArgs, formatArgs.length + 1);
+				args[formatArgs.length] = counter.incrementAndGet();
+				thread.setName(String.format(nameFormat, args));
+				return thread;
+			}
+		};
+
+		final int parallelism = config.getCoreSize() > 0 ? config.getCoreSize() : Runtime.getRuntime().availableProcessors();
+		return new ForkJoinExecutorService(parallelism, factory, config.getQueueSize());
+	}
+
+	/**
+	 * Get {@link ForkJoinExecutorServiceFactory} instance.
+	 * 
+	 * @return {@link ForkJoinExecutorServiceFactory}
+	 */
+	public static ForkJoinExecutorServiceFactory getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * {@link ExecutorService} backed by {@link ForkJoinPool} with limited amount of queued tasks.<br>
+	 * Tasks are submitted as {@link FutureTask}, so their cancellation interrupts running execution.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class ForkJoinExecutorService extends AbstractExecutorService {
+
+		/**
+		 * {@link ForkJoinPool}.
+		 */
+		private final ForkJoinPool pool;
+
+		/**
+		 * Queued tasks limit, unlimited if not greater than zero.
+		 */
+		private final int queueSize;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param parallelism
+		 *            parallelism level
+		 * @param factory
+		 *            {@link ForkJoinWorkerThreadFactory}
+		 * @param aQueueSize
+		 *            queued tasks limit, unlimited if not greater than zero
+		 */
+		private ForkJoinExecutorService(final int parallelism, final ForkJoinWorkerThreadFactory factory, final int aQueueSize) {
+			this.pool = new ForkJoinPool(parallelism, factory, null, true);
+			this.queueSize = aQueueSize;
+		}
+
+		@Override
+		public void execute(final Runnable task) {
+			if (queueSize > 0 && pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount() >= queueSize)
+				throw new RejectedExecutionException("Executor queue limit[" + queueSize + "] is reached");
+
+			pool.execute(task);
+		}
+
+		@Override
+		public void shutdown() {
+			pool.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return pool.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return pool.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return pool.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+			return pool.awaitTermination(timeout, unit);
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+			builder.append(" [pool=").append(pool);
+			builder.append(", queueSize=").append(queueSize);
+			builder.append("]");
+			return builder.toString();
+		}
+
+	}
+
+}
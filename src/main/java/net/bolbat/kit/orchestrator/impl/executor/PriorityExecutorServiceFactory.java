@@ -0,0 +1,67 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import static net.bolbat.utils.lang.StringUtils.isNotEmpty;
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.concurrent.ExecutorService;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.utils.concurrency.ThreadFactoryBuilder;
+
+/**
+ * {@link ExecutorServiceFactory} implementation based on {@link PriorityThreadPoolExecutor}.<br>
+ * Queued tasks are dequeued by execution priority with aging, {@link ExecutorConfig} is applied in next way:<br>
+ * - pool has fixed size equal to max size, or to core size but not less than available processors amount if max size is unlimited;<br>
+ * - idle threads are terminated after keep alive time;<br>
+ * - queue size limits waiting tasks, queue is unbounded if it's not configured.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class PriorityExecutorServiceFactory implements ExecutorServiceFactory {
+
+	/**
+	 * {@link PriorityExecutorServiceFactory} instance.
+	 */
+	private static final PriorityExecutorServiceFactory INSTANCE = new PriorityExecutorServiceFactory();
+
+	/**
+	 * Private constructor.
+	 */
+	private PriorityExecutorServiceFactory() {
+	}
+
+	@Override
+	public ExecutorService create(final ExecutorConfig config, final Object... nameFormatArgs) {
+		checkArgument(config != null, "config argument is null");
+
+		final String nameFormat = isNotEmpty(config.getNameFormat()) ? config.getNameFormat() : OrchestrationConstants.THREAD_NAME_FORMAT;
+		final ThreadFactoryBuilder factoryBuilder = new ThreadFactoryBuilder() //
+				.setDaemon(true) // move me to configuration if needed
+				.setPriority(Thread.NORM_PRIORITY) // move me to configuration if needed
+				.setNameFormat(nameFormat) //
+				.setNameFormatArgs(nameFormatArgs);
+
+		final int poolSize = config.getMaxSize() != OrchestrationConstants.POOL_MAX_SIZE //
+				? config.getMaxSize() //
+				: Math.max(config.getCoreSize(), Runtime.getRuntime().availableProcessors());
+
+		return new PriorityThreadPoolExecutor( //
+				poolSize, //
+				config.getKeepAlive(), //
+				config.getKeepAliveUnit(), //
+				config.getQueueSize(), //
+				config.getPriorityAgingUnit().toNanos(config.getPriorityAging()), //
+				factoryBuilder.build());
+	}
+
+	/**
+	 * Get {@link PriorityExecutorServiceFactory} instance.
+	 * 
+	 * @return {@link PriorityExecutorServiceFactory}
+	 */
+	public static PriorityExecutorServiceFactory getInstance() {
+		return INSTANCE;
+	}
+
+}
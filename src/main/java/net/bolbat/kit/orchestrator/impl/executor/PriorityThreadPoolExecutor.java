@@ -0,0 +1,314 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ThreadPoolExecutor} with queue ordered by task priority.<br>
+ * Tasks implementing {@link Prioritized} are dequeued by priority, other tasks have default priority.<br>
+ * Starvation of low priority tasks is prevented by aging: task is ordered by it's submission time shifted back by priority multiplied by aging
+ * time, so low priority task waiting longer than priority difference multiplied by aging time is dequeued before newly submitted high priority
+ * tasks. Tasks with equal order are dequeued in submission order.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class PriorityThreadPoolExecutor extends ThreadPoolExecutor {
+
+	/**
+	 * Tasks order.
+	 */
+	private static final Comparator<Runnable> ORDER = new Comparator<Runnable>() {
+		@Override
+		public int compare(final Runnable first, final Runnable second) {
+			final PriorityTask<?> a = (PriorityTask<?>) first;
+			final PriorityTask<?> b = (PriorityTask<?>) second;
+			final long diff = a.order - b.order; // overflow safe for 'System.nanoTime()' based values
+			if (diff != 0)
+				return diff < 0 ? -1 : 1;
+
+			return Long.compare(a.sequence, b.sequence);
+		}
+	};
+
+	/**
+	 * Time of waiting in queue what is equal to one priority level in nanoseconds.
+	 */
+	private final long aging;
+
+	/**
+	 * Submitted tasks sequence.
+	 */
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param poolSize
+	 *            pool size
+	 * @param keepAlive
+	 *            idle threads keep alive time
+	 * @param keepAliveUnit
+	 *            idle threads keep alive time unit
+	 * @param queueSize
+	 *            queue size, unbounded if not greater than zero
+	 * @param agingNanos
+	 *            time of waiting in queue what is equal to one priority level in nanoseconds
+	 * @param threadFactory
+	 *            {@link ThreadFactory}
+	 */
+	public PriorityThreadPoolExecutor(final int poolSize, final long keepAlive, final TimeUnit keepAliveUnit, final int queueSize, final long agingNanos,
+			final ThreadFactory threadFactory) {
+		super(poolSize, poolSize, keepAlive, keepAliveUnit, new BoundedPriorityQueue(queueSize), threadFactory, new AbortPolicy());
+		checkArgument(agingNanos > 0, "agingNanos argument should be greater than zero");
+
+		this.aging = agingNanos;
+		if (keepAlive > 0)
+			allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		super.execute(command instanceof PriorityTask ? command : newTaskFor(command, null));
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+		return new PriorityTask<>(callable, order(callable), sequence.incrementAndGet());
+	}
+
+	@Override
+	protected <T> RunnableFuture<T> newTaskFor(final Runnable runnable, final T value) {
+		return new PriorityTask<>(Executors.callable(runnable, value), order(runnable), sequence.incrementAndGet());
+	}
+
+	/**
+	 * Calculate task order.
+	 * 
+	 * @param task
+	 *            task
+	 * @return task order, lower value is dequeued first
+	 */
+	private long order(final Object task) {
+		final int priority = task instanceof Prioritized ? ((Prioritized) task).getPriority() : 0;
+		return System.nanoTime() - priority * aging;
+	}
+
+	/**
+	 * Wrap {@link Callable} with given priority.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @param priority
+	 *            priority
+	 * @return {@link Callable}
+	 */
+	public static <T> Callable<T> prioritize(final Callable<T> callable, final int priority) {
+		checkArgument(callable != null, "callable argument is null");
+
+		return new PrioritizedCallable<>(callable, priority);
+	}
+
+	/**
+	 * Wrap {@link Runnable} with given priority.
+	 * 
+	 * @param runnable
+	 *            {@link Runnable}
+	 * @param priority
+	 *            priority
+	 * @return {@link Runnable}
+	 */
+	public static Runnable prioritize(final Runnable runnable, final int priority) {
+		checkArgument(runnable != null, "runnable argument is null");
+
+		return new PrioritizedRunnable(runnable, priority);
+	}
+
+	/**
+	 * Task with priority.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public interface Prioritized {
+
+		/**
+		 * Get task priority, higher priority tasks are executed first.
+		 * 
+		 * @return <code>int</code>
+		 */
+		int getPriority();
+
+	}
+
+	/**
+	 * {@link Callable} with priority.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class PrioritizedCallable<T> implements Callable<T>, Prioritized {
+
+		/**
+		 * Wrapped {@link Callable}.
+		 */
+		private final Callable<T> callable;
+
+		/**
+		 * Priority.
+		 */
+		private final int priority;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aCallable
+		 *            {@link Callable}
+		 * @param aPriority
+		 *            priority
+		 */
+		private PrioritizedCallable(final Callable<T> aCallable, final int aPriority) {
+			this.callable = aCallable;
+			this.priority = aPriority;
+		}
+
+		@Override
+		public T call() throws Exception {
+			return callable.call();
+		}
+
+		@Override
+		public int getPriority() {
+			return priority;
+		}
+
+	}
+
+	/**
+	 * {@link Runnable} with priority.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class PrioritizedRunnable implements Runnable, Prioritized {
+
+		/**
+		 * Wrapped {@link Runnable}.
+		 */
+		private final Runnable runnable;
+
+		/**
+		 * Priority.
+		 */
+		private final int priority;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aRunnable
+		 *            {@link Runnable}
+		 * @param aPriority
+		 *            priority
+		 */
+		private PrioritizedRunnable(final Runnable aRunnable, final int aPriority) {
+			this.runnable = aRunnable;
+			this.priority = aPriority;
+		}
+
+		@Override
+		public void run() {
+			runnable.run();
+		}
+
+		@Override
+		public int getPriority() {
+			return priority;
+		}
+
+	}
+
+	/**
+	 * Queued task.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class PriorityTask<T> extends FutureTask<T> {
+
+		/**
+		 * Task order.
+		 */
+		private final long order;
+
+		/**
+		 * Task sequence number.
+		 */
+		private final long sequence;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param callable
+		 *            {@link Callable}
+		 * @param aOrder
+		 *            task order
+		 * @param aSequence
+		 *            task sequence number
+		 */
+		private PriorityTask(final Callable<T> callable, final long aOrder, final long aSequence) {
+			super(callable);
+			this.order = aOrder;
+			this.sequence = aSequence;
+		}
+
+	}
+
+	/**
+	 * {@link PriorityBlockingQueue} with bounded size.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class BoundedPriorityQueue extends PriorityBlockingQueue<Runnable> {
+
+		/**
+		 * Generated SerialVersionUID.
+		 */
+		private static final long serialVersionUID = 4383525826526592012L;
+
+		/**
+		 * Queue capacity, unbounded if not greater than zero.
+		 */
+		private final int capacity;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aCapacity
+		 *            queue capacity, unbounded if not greater than zero
+		 */
+		private BoundedPriorityQueue(final int aCapacity) {
+			super(11, ORDER);
+			this.capacity = aCapacity;
+		}
+
+		@Override
+		public synchronized boolean offer(final Runnable task) {
+			if (capacity > 0 && size() >= capacity)
+				return false;
+
+			return super.offer(task);
+		}
+
+		@Override
+		public int remainingCapacity() {
+			return capacity > 0 ? Math.max(0, capacity - size()) : Integer.MAX_VALUE;
+		}
+
+	}
+
+}
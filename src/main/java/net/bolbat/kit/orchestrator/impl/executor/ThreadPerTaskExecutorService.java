@@ -0,0 +1,276 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+
+/**
+ * {@link ExecutorService} implementation what starts new thread for each task.<br>
+ * Designed for cheap (virtual) threads, pool limits are emulated with semaphores:<br>
+ * - max size: maximum amount of concurrently running tasks, zero (unlimited) by default;<br>
+ * - queue size: maximum amount of tasks waiting for running permit, tasks over this limit are rejected with {@link RejectedExecutionException}.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+	/**
+	 * {@link ThreadFactory} instance.
+	 */
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Running permits, <code>null</code> if not limited.
+	 */
+	private final Semaphore runPermits;
+
+	/**
+	 * Admission permits (running and waiting), <code>null</code> if not limited.
+	 */
+	private final Semaphore admitPermits;
+
+	/**
+	 * Started and not finished threads.
+	 */
+	private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Tasks what wasn't started because of {@code shutdownNow()}.
+	 */
+	private final List<Runnable> notStarted = new ArrayList<>();
+
+	/**
+	 * State lock.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Termination condition.
+	 */
+	private final Condition terminated = lock.newCondition();
+
+	/**
+	 * Is shut down.
+	 */
+	private volatile boolean shutdown;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aThreadFactory
+	 *            {@link ThreadFactory}
+	 * @param maxSize
+	 *            maximum amount of concurrently running tasks, zero for unlimited
+	 * @param queueSize
+	 *            maximum amount of tasks waiting for running permit
+	 */
+	public ThreadPerTaskExecutorService(final ThreadFactory aThreadFactory, final int maxSize, final int queueSize) {
+		checkArgument(aThreadFactory != null, "aThreadFactory argument is null");
+		checkArgument(maxSize >= 0, "maxSize argument is negative");
+		checkArgument(queueSize >= 0, "queueSize argument is negative");
+
+		this.threadFactory = aThreadFactory;
+		final boolean limited = maxSize != OrchestrationConstants.POOL_MAX_SIZE;
+		this.runPermits = limited ? new Semaphore(maxSize) : null;
+		this.admitPermits = limited ? new Semaphore(maxSize + queueSize) : null;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		checkArgument(command != null, "command argument is null");
+
+		final Thread thread;
+		lock.lock();
+		try {
+			if (shutdown)
+				throw new RejectedExecutionException("Executor is shut down");
+			if (admitPermits != null && !admitPermits.tryAcquire())
+				throw new RejectedExecutionException("Executor limits are reached");
+
+			try {
+				thread = threadFactory.newThread(new Worker(command));
+			} catch (final RuntimeException e) {
+				release(admitPermits);
+				throw e;
+			}
+			if (thread == null) {
+				release(admitPermits);
+				throw new RejectedExecutionException("Thread factory failed to create thread");
+			}
+
+			threads.add(thread);
+		} finally {
+			lock.unlock();
+		}
+
+		thread.start();
+	}
+
+	@Override
+	public void shutdown() {
+		lock.lock();
+		try {
+			shutdown = true;
+			if (threads.isEmpty())
+				terminated.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown();
+		for (final Thread thread : threads)
+			thread.interrupt();
+
+		lock.lock();
+		try {
+			final List<Runnable> result = new ArrayList<>(notStarted);
+			notStarted.clear();
+			return result;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && threads.isEmpty();
+	}
+
+	@Override
+	public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lock();
+		try {
+			while (!isTerminated()) {
+				if (nanos <= 0L)
+					return false;
+
+				nanos = terminated.awaitNanos(nanos);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Get amount of started and not finished tasks.
+	 * 
+	 * @return <code>int</code>
+	 */
+	public int getActiveCount() {
+		return threads.size();
+	}
+
+	/**
+	 * Release permit.
+	 * 
+	 * @param permits
+	 *            {@link Semaphore}, can be <code>null</code>
+	 */
+	private static void release(final Semaphore permits) {
+		if (permits != null)
+			permits.release();
+	}
+
+	/**
+	 * Task wrapper, waiting for running permit and cleaning up executor state after execution.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private final class Worker implements Runnable {
+
+		/**
+		 * Task.
+		 */
+		private final Runnable task;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aTask
+		 *            task
+		 */
+		private Worker(final Runnable aTask) {
+			this.task = aTask;
+		}
+
+		@Override
+		public void run() {
+			try {
+				if (runPermits != null)
+					runPermits.acquire();
+
+				try {
+					task.run();
+				} finally {
+					release(runPermits);
+				}
+			} catch (final InterruptedException e) {
+				notStarted(task);
+				Thread.currentThread().interrupt();
+			} finally {
+				release(admitPermits);
+				finished();
+			}
+		}
+
+		/**
+		 * Register task what wasn't started because thread was interrupted while waiting for running permit.
+		 * 
+		 * @param aTask
+		 *            task
+		 */
+		private void notStarted(final Runnable aTask) {
+			if (aTask instanceof Future) { // nobody will run it, waiters shouldn't hang
+				((Future<?>) aTask).cancel(false);
+				return;
+			}
+
+			lock.lock();
+			try {
+				notStarted.add(aTask);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Unregister current thread and signal termination if required.
+		 */
+		private void finished() {
+			lock.lock();
+			try {
+				threads.remove(Thread.currentThread());
+				if (shutdown && threads.isEmpty())
+					terminated.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+import net.bolbat.utils.concurrency.ThreadFactoryBuilder;
+
+/**
+ * {@link ExecutorServiceFactory} implementation for execution time limits control.<br>
+ * They provide shared {@link ScheduledExecutorService} used only for scheduling timeouts, scheduled tasks should be short and non blocking.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class TimerExecutorServiceFactory implements ExecutorServiceFactory {
+
+	/**
+	 * Timer {@link ExecutorService} core pool size.
+	 */
+	public static final int POOL_CORE_SIZE = 1;
+
+	/**
+	 * Timer {@link ExecutorService} thread name format.<br>
+	 * Format arguments:<br>
+	 * - thread number.<br>
+	 * Example: Orchestrator[timer]-thread[1].
+	 */
+	public static final String THREAD_NAME_FORMAT = "Orchestrator[timer]-thread[%1$d]";
+
+	/**
+	 * {@link TimerExecutorServiceFactory} instance.
+	 */
+	private static final TimerExecutorServiceFactory INSTANCE = new TimerExecutorServiceFactory();
+
+	/**
+	 * Lock for timer {@link ScheduledExecutorService} creation.
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Timer {@link ScheduledExecutorService}.
+	 */
+	private volatile ScheduledExecutorService executor;
+
+	/**
+	 * Private constructor.
+	 */
+	private TimerExecutorServiceFactory() {
+	}
+
+	@Override
+	public ScheduledExecutorService create(final ExecutorConfig config, final Object... nameFormatArgs) {
+		if (executor == null)
+			synchronized (LOCK) {
+				if (executor == null) {
+					final ThreadFactoryBuilder factoryBuilder = new ThreadFactoryBuilder() //
+							.setDaemon(true) //
+							.setPriority(Thread.NORM_PRIORITY) //
+							.setNameFormat(THREAD_NAME_FORMAT);
+					final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(POOL_CORE_SIZE, factoryBuilder.build());
+					timer.setRemoveOnCancelPolicy(true); // cancelled timeouts shouldn't be retained till their delay is elapsed
+					executor = timer;
+				}
+			}
+
+		return executor;
+	}
+
+	/**
+	 * Get {@link TimerExecutorServiceFactory} instance.
+	 * 
+	 * @return {@link TimerExecutorServiceFactory}
+	 */
+	public static TimerExecutorServiceFactory getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Get timer {@link ScheduledExecutorService}, would be created if not exist.
+	 * 
+	 * @return {@link ScheduledExecutorService}
+	 */
+	public static ScheduledExecutorService getExecutorService() {
+		return getInstance().create(null);
+	}
+
+	/**
+	 * Tear down timer {@link ExecutorService} instance.
+	 */
+	public static void tearDown() {
+		synchronized (LOCK) {
+			if (getInstance().executor != null) {
+				final ExecutorService toTerminate = getInstance().executor;
+				getInstance().executor = null;
+				ExecutionUtils.terminate(toTerminate);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import static net.bolbat.utils.lang.StringUtils.isNotEmpty;
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+
+/**
+ * {@link ExecutorServiceFactory} implementation based on virtual threads.<br>
+ * Each task is executed in new virtual thread, {@link ExecutorConfig} limits are applied by {@link ThreadPerTaskExecutorService}:<br>
+ * - core size and keep alive are ignored;<br>
+ * - max size limits concurrently running tasks;<br>
+ * - queue size limits tasks waiting for running permit.<br>
+ * Virtual threads are resolved reflectively, on runtime without virtual threads support {@link DefaultExecutorServiceFactory} is used.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class VirtualThreadExecutorServiceFactory implements ExecutorServiceFactory {
+
+	/**
+	 * {@link Logger} instance.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadExecutorServiceFactory.class);
+
+	/**
+	 * {@link VirtualThreadExecutorServiceFactory} instance.
+	 */
+	private static final VirtualThreadExecutorServiceFactory INSTANCE = new VirtualThreadExecutorServiceFactory();
+
+	/**
+	 * Virtual threads {@link ThreadFactory}, <code>null</code> if virtual threads not supported.
+	 */
+	private static final ThreadFactory VIRTUAL_THREAD_FACTORY = virtualThreadFactory();
+
+	/**
+	 * Private constructor.
+	 */
+	private VirtualThreadExecutorServiceFactory() {
+	}
+
+	@Override
+	public ExecutorService create(final ExecutorConfig config, final Object... nameFormatArgs) {
+		checkArgument(config != null, "config argument is null");
+
+		if (!isSupported()) {
+			LOGGER.warn("Virtual threads are not supported by current runtime, using " + DefaultExecutorServiceFactory.class.getSimpleName());
+			return DefaultExecutorServiceFactory.getInstance().create(config, nameFormatArgs);
+		}
+
+		final String nameFormat = isNotEmpty(config.getNameFormat()) ? config.getNameFormat() : OrchestrationConstants.THREAD_NAME_FORMAT;
+		final Object[] formatArgs = nameFormatArgs != null ? nameFormatArgs : new Object[0];
+		final AtomicLong counter = new AtomicLong();
+		final ThreadFactory factory = new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable r) {
+				final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(r);
+				final Object[] args = Arrays.copyOf(formatArgs, formatArgs.length + 1);
+				args[formatArgs.length] = counter.incrementAndGet();
+				thread.setName(String.format(nameFormat, args));
+				return thread;
+			}
+		};
+
+		return new ThreadPerTaskExecutorService(factory, config.getMaxSize(), config.getQueueSize());
+	}
+
+	/**
+	 * Get {@link VirtualThreadExecutorServiceFactory} instance.
+	 * 
+	 * @return {@link VirtualThreadExecutorServiceFactory}
+	 */
+	public static VirtualThreadExecutorServiceFactory getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Is virtual threads supported by current runtime.
+	 * 
+	 * @return <code>boolean</code>
+	 */
+	public static boolean isSupported() {
+		return VIRTUAL_THREAD_FACTORY != null;
+	}
+
+	/**
+	 * Resolve virtual threads {@link ThreadFactory} using {@code Thread.ofVirtual().factory()}.
+	 * 
+	 * @return {@link ThreadFactory} or <code>null</code> if virtual threads not supported
+	 */
+	private static ThreadFactory virtualThreadFactory() {
+		try {
+			final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+			return (ThreadFactory) factory.invoke(builder);
+			// CHECKSTYLE:OFF
+		} catch (final Exception e) {
+			// CHECKSTYLE:ON
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base {@link ConcurrentLimiter} for adaptive limits.<br>
+ * Executions are admitted lock free, limit estimation updates are serialized.
+ * 
+ * @author Alexandr Bolbat
+ */
+public abstract class AbstractConcurrentLimiter implements ConcurrentLimiter {
+
+	/**
+	 * Minimal limit.
+	 */
+	public static final int MIN_LIMIT = 1;
+
+	/**
+	 * Current executions amount.
+	 */
+	private final AtomicInteger inFlight = new AtomicInteger(0);
+
+	/**
+	 * Limit upper bound.
+	 */
+	private final int maxLimit;
+
+	/**
+	 * Limit estimation, guarded by this.
+	 */
+	private double estimation;
+
+	/**
+	 * Current limit.
+	 */
+	private volatile int limit;
+
+	/**
+	 * Protected constructor.
+	 * 
+	 * @param initialLimit
+	 *            initial limit
+	 * @param aMaxLimit
+	 *            limit upper bound
+	 */
+	protected AbstractConcurrentLimiter(final int initialLimit, final int aMaxLimit) {
+		checkArgument(aMaxLimit >= MIN_LIMIT, "aMaxLimit argument should be greater than zero");
+
+		this.maxLimit = aMaxLimit;
+		this.estimation = bound(initialLimit);
+		this.limit = (int) estimation;
+	}
+
+	@Override
+	public boolean tryAcquire() {
+		for (;;) {
+			final int current = inFlight.get();
+			if (current >= limit)
+				return false;
+			if (inFlight.compareAndSet(current, current + 1))
+				return true;
+		}
+	}
+
+	@Override
+	public void onSuccess(final long latency) {
+		adjust(latency, inFlight.getAndDecrement(), false);
+	}
+
+	@Override
+	public void onDropped() {
+		adjust(0L, inFlight.getAndDecrement(), true);
+	}
+
+	@Override
+	public void onIgnored() {
+		inFlight.decrementAndGet();
+	}
+
+	@Override
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	/**
+	 * Estimate new limit.
+	 * 
+	 * @param current
+	 *            current limit estimation
+	 * @param latency
+	 *            execution latency in nanoseconds, zero for dropped execution
+	 * @param executions
+	 *            current executions amount including completed one
+	 * @param dropped
+	 *            is execution dropped
+	 * @return new limit estimation
+	 */
+	protected abstract double estimate(double current, long latency, int executions, boolean dropped);
+
+	/**
+	 * Adjust limit.
+	 * 
+	 * @param latency
+	 *            execution latency in nanoseconds
+	 * @param executions
+	 *            current executions amount including completed one
+	 * @param dropped
+	 *            is execution dropped
+	 */
+	private synchronized void adjust(final long latency, final int executions, final boolean dropped) {
+		estimation = bound(estimate(estimation, latency, executions, dropped));
+		limit = (int) estimation;
+	}
+
+	/**
+	 * Bound limit estimation to allowed range.
+	 * 
+	 * @param value
+	 *            limit estimation
+	 * @return bounded limit estimation
+	 */
+	private double bound(final double value) {
+		return Math.max(MIN_LIMIT, Math.min(maxLimit, value));
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [limit=").append(limit);
+		builder.append(", maxLimit=").append(maxLimit);
+		builder.append(", inFlight=").append(inFlight.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,60 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+/**
+ * Additive increase multiplicative decrease {@link ConcurrentLimiter}.<br>
+ * Limit grows by one on successful execution if at least half of it is used and backs off on dropped execution.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class AimdConcurrentLimiter extends AbstractConcurrentLimiter {
+
+	/**
+	 * Default back off ratio.
+	 */
+	public static final double BACKOFF_RATIO = 0.9d;
+
+	/**
+	 * Back off ratio.
+	 */
+	private final double backoffRatio;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param initialLimit
+	 *            initial limit
+	 * @param maxLimit
+	 *            limit upper bound
+	 */
+	public AimdConcurrentLimiter(final int initialLimit, final int maxLimit) {
+		this(initialLimit, maxLimit, BACKOFF_RATIO);
+	}
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param initialLimit
+	 *            initial limit
+	 * @param maxLimit
+	 *            limit upper bound
+	 * @param aBackoffRatio
+	 *            back off ratio, should be in range (0, 1)
+	 */
+	public AimdConcurrentLimiter(final int initialLimit, final int maxLimit, final double aBackoffRatio) {
+		super(initialLimit, maxLimit);
+		checkArgument(aBackoffRatio > 0d && aBackoffRatio < 1d, "aBackoffRatio argument should be in range (0, 1)");
+
+		this.backoffRatio = aBackoffRatio;
+	}
+
+	@Override
+	protected double estimate(final double current, final long latency, final int executions, final boolean dropped) {
+		if (dropped)
+			return Math.floor(current * backoffRatio);
+
+		return executions * 2 >= current ? current + 1 : current;
+	}
+
+}
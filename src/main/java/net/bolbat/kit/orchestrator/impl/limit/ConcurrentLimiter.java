@@ -0,0 +1,50 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+/**
+ * Concurrent executions limiter.<br>
+ * Each successfully acquired execution should be completed with one of: {@link #onSuccess(long)}, {@link #onDropped()}, {@link #onIgnored()}.
+ * 
+ * @author Alexandr Bolbat
+ */
+public interface ConcurrentLimiter {
+
+	/**
+	 * Try to acquire execution.
+	 * 
+	 * @return <code>true</code> if execution allowed or <code>false</code> if limit is reached
+	 */
+	boolean tryAcquire();
+
+	/**
+	 * Complete execution what finished successfully.
+	 * 
+	 * @param latency
+	 *            execution latency in nanoseconds
+	 */
+	void onSuccess(long latency);
+
+	/**
+	 * Complete execution what was dropped because of overload (timed out or rejected by executor).
+	 */
+	void onDropped();
+
+	/**
+	 * Complete execution what result shouldn't affect the limit (failed with business error).
+	 */
+	void onIgnored();
+
+	/**
+	 * Get current limit.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int getLimit();
+
+	/**
+	 * Get current executions amount.
+	 * 
+	 * @return <code>int</code>
+	 */
+	int getInFlight();
+
+}
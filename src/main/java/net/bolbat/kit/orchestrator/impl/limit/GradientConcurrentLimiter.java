@@ -0,0 +1,113 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+/**
+ * Latency gradient based {@link ConcurrentLimiter}.<br>
+ * Compares long term (no load) latency with recent latency, the ratio between them is applied to the limit:<br>
+ * - latency is stable: limit grows by square root of the limit (allowed queueing);<br>
+ * - latency grows: limit shrinks proportionally, but not more than by half per execution;<br>
+ * - execution is dropped: limit is halved.<br>
+ * Changes are smoothed to avoid oscillation.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class GradientConcurrentLimiter extends AbstractConcurrentLimiter {
+
+	/**
+	 * Recent latency averaging window.
+	 */
+	private static final int SHORT_WINDOW = 10;
+
+	/**
+	 * Long term latency averaging window.
+	 */
+	private static final int LONG_WINDOW = 600;
+
+	/**
+	 * Tolerated latency growth before limit is decreased.
+	 */
+	private static final double TOLERANCE = 1.5d;
+
+	/**
+	 * Smoothing factor for limit changes.
+	 */
+	private static final double SMOOTHING = 0.2d;
+
+	/**
+	 * Minimal gradient.
+	 */
+	private static final double MIN_GRADIENT = 0.5d;
+
+	/**
+	 * Recent latency average, <code>0</code> if there is no samples yet.
+	 */
+	private double shortLatency;
+
+	/**
+	 * Long term latency average, <code>0</code> if there is no samples yet.
+	 */
+	private double longLatency;
+
+	/**
+	 * Public constructor.
+	 * 
+	 * @param initialLimit
+	 *            initial limit
+	 * @param maxLimit
+	 *            limit upper bound
+	 */
+	public GradientConcurrentLimiter(final int initialLimit, final int maxLimit) {
+		super(initialLimit, maxLimit);
+	}
+
+	@Override
+	protected double estimate(final double current, final long latency, final int executions, final boolean dropped) {
+		if (dropped)
+			return smooth(current, current * MIN_GRADIENT);
+
+		shortLatency = average(shortLatency, latency, SHORT_WINDOW);
+		longLatency = average(longLatency, latency, LONG_WINDOW);
+		// long term latency shouldn't hold limit low forever after load change
+		if (longLatency / shortLatency > 2d)
+			longLatency = longLatency * 0.95d;
+
+		// limit not used, nothing to learn from latency
+		if (executions * 2 < current)
+			return current;
+
+		final double gradient = Math.max(MIN_GRADIENT, Math.min(1d, TOLERANCE * longLatency / shortLatency));
+		return smooth(current, current * gradient + Math.sqrt(current));
+	}
+
+	/**
+	 * Exponential moving average.
+	 * 
+	 * @param average
+	 *            current average, <code>0</code> if there is no samples yet
+	 * @param sample
+	 *            new sample
+	 * @param window
+	 *            averaging window
+	 * @return new average
+	 */
+	private static double average(final double average, final long sample, final int window) {
+		if (average == 0d)
+			return Math.max(1d, sample);
+
+		final double factor = 2d / (window + 1);
+		return average * (1 - factor) + Math.max(1d, sample) * factor;
+	}
+
+	/**
+	 * Smooth limit change.
+	 * 
+	 * @param current
+	 *            current limit estimation
+	 * @param target
+	 *            target limit estimation
+	 * @return smoothed limit estimation
+	 */
+	private static double smooth(final double current, final double target) {
+		return current * (1 - SMOOTHING) + target * SMOOTHING;
+	}
+
+}
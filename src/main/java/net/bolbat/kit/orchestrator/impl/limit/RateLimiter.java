@@ -0,0 +1,103 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free executions rate limiter based on token bucket.<br>
+ * Bucket is represented by the theoretical time of the next execution, so permits are refilled continuously without background work and
+ * each acquisition is a single compare-and-set.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class RateLimiter {
+
+	/**
+	 * Time interval between permits in nanoseconds.
+	 */
+	private final long interval;
+
+	/**
+	 * Time what could be borrowed from the future for burst executions in nanoseconds.
+	 */
+	private final long tolerance;
+
+	/**
+	 * Theoretical time of the next execution based on {@link System#nanoTime()} if executions are evenly spaced, permit is available while it's
+	 * not later than current time plus tolerance.
+	 */
+	private final AtomicLong next;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param permits
+	 *            permits per period
+	 * @param period
+	 *            period
+	 * @param periodUnit
+	 *            period unit
+	 * @param burst
+	 *            maximum permits available at once, equal to permits per period if not greater than zero
+	 */
+	public RateLimiter(final int permits, final long period, final TimeUnit periodUnit, final int burst) {
+		checkArgument(permits > 0, "permits argument should be greater than zero");
+		checkArgument(period > 0, "period argument should be greater than zero");
+		checkArgument(periodUnit != null, "periodUnit argument is null");
+
+		this.interval = Math.max(periodUnit.toNanos(period) / permits, 1L);
+		this.tolerance = interval * ((burst > 0 ? burst : permits) - 1);
+		this.next = new AtomicLong(System.nanoTime()); // bucket is full
+	}
+
+	/**
+	 * Try to acquire permit without waiting.
+	 * 
+	 * @return <code>true</code> if permit is acquired or <code>false</code> if rate limit is reached
+	 */
+	public boolean tryAcquire() {
+		return tryReserve(0L) == 0L;
+	}
+
+	/**
+	 * Try to reserve permit what would be available not later than given time.<br>
+	 * Caller should wait returned time before execution.
+	 * 
+	 * @param maxWait
+	 *            maximum waiting time in nanoseconds
+	 * @return waiting time in nanoseconds or <code>-1</code> if permit couldn't be available in time
+	 */
+	public long tryReserve(final long maxWait) {
+		while (true) {
+			final long now = System.nanoTime();
+			final long current = next.get();
+			final long wait = Math.max(current - tolerance - now, 0L);
+			if (wait > maxWait)
+				return -1L;
+
+			if (next.compareAndSet(current, Math.max(current, now) + interval)) // bucket couldn't store more than burst
+				return wait;
+		}
+	}
+
+	/**
+	 * Get time interval between permits.
+	 * 
+	 * @return interval in nanoseconds
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [interval=").append(interval);
+		builder.append(", tolerance=").append(tolerance);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Concurrent executions limits functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.limit;
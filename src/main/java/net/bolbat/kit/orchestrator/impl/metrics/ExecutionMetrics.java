@@ -0,0 +1,394 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.bolbat.kit.orchestrator.exception.CircuitBreakerOpenException;
+import net.bolbat.kit.orchestrator.exception.ConcurrentOverflowException;
+import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
+import net.bolbat.kit.orchestrator.exception.ExecutorOverflowException;
+import net.bolbat.kit.orchestrator.exception.RateOverflowException;
+import net.bolbat.kit.orchestrator.impl.ExecutionInfo;
+
+/**
+ * Orchestrated execution metrics.<br>
+ * Outcomes are counted with {@link LongAdder} and latencies are recorded to {@link LatencyHistogram}, split to time spent in executor queue and
+ * execution time. Recording is lock free and always on, optional {@link MetricsSink} is notified on each recording.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ExecutionMetrics {
+
+	/**
+	 * {@link Logger} instance.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionMetrics.class);
+
+	/**
+	 * Interval for recalculation of cached execution time percentile, nanoseconds.
+	 */
+	private static final long PERCENTILE_REFRESH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * Shared {@link MetricsSink}, <code>null</code> if not configured.
+	 */
+	private static volatile MetricsSink sink;
+
+	/**
+	 * Metrics owner.
+	 */
+	private final ExecutionInfo info;
+
+	/**
+	 * Outcomes counters indexed by {@link Outcome} ordinal.
+	 */
+	private final LongAdder[] outcomes = new LongAdder[Outcome.values().length];
+
+	/**
+	 * Retried attempts counter.
+	 */
+	private final LongAdder retries = new LongAdder();
+
+	/**
+	 * Hedged attempts counter.
+	 */
+	private final LongAdder hedges = new LongAdder();
+
+	/**
+	 * Coalesced calls counter.
+	 */
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Executions delayed by rate limit counter.
+	 */
+	private final LongAdder throttled = new LongAdder();
+
+	/**
+	 * Cached execution time percentile.
+	 */
+	private volatile CachedPercentile cachedPercentile;
+
+	/**
+	 * Queue wait time {@link LatencyHistogram}.
+	 */
+	private final LatencyHistogram queueWait = new LatencyHistogram();
+
+	/**
+	 * Execution time {@link LatencyHistogram}.
+	 */
+	private final LatencyHistogram execution = new LatencyHistogram();
+
+	/**
+	 * Outcome recorder for future based executions.
+	 */
+	private final BiConsumer<Object, Throwable> outcomeRecorder = new BiConsumer<Object, Throwable>() {
+		@Override
+		public void accept(final Object value, final Throwable error) {
+			onOutcome(error);
+		}
+	};
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aInfo
+	 *            metrics owner
+	 */
+	public ExecutionMetrics(final ExecutionInfo aInfo) {
+		this.info = aInfo;
+		for (int i = 0; i < outcomes.length; i++)
+			outcomes[i] = new LongAdder();
+	}
+
+	/**
+	 * Get shared {@link MetricsSink}.
+	 * 
+	 * @return {@link MetricsSink} or <code>null</code>
+	 */
+	public static MetricsSink getSink() {
+		return sink;
+	}
+
+	/**
+	 * Set shared {@link MetricsSink}, it is global for all orchestrators.
+	 * 
+	 * @param aSink
+	 *            {@link MetricsSink}, <code>null</code> to disable
+	 */
+	public static void setSink(final MetricsSink aSink) {
+		sink = aSink;
+	}
+
+	/**
+	 * Record latency.
+	 * 
+	 * @param queueWaitTime
+	 *            time spent in executor queue in nanoseconds
+	 * @param executionTime
+	 *            execution time in nanoseconds
+	 */
+	public void onLatency(final long queueWaitTime, final long executionTime) {
+		queueWait.record(queueWaitTime);
+		execution.record(executionTime);
+
+		final MetricsSink current = sink;
+		if (current == null)
+			return;
+
+		try {
+			current.onLatency(info, queueWaitTime, executionTime);
+			// CHECKSTYLE:OFF
+		} catch (final RuntimeException e) {
+			// CHECKSTYLE:ON
+			LOGGER.warn("onLatency(" + queueWaitTime + ", " + executionTime + ") sink fail", e);
+		}
+	}
+
+	/**
+	 * Record outcome.
+	 * 
+	 * @param error
+	 *            execution error, <code>null</code> for successful execution
+	 */
+	public void onOutcome(final Throwable error) {
+		final Outcome outcome = Outcome.of(error);
+		outcomes[outcome.ordinal()].increment();
+
+		final MetricsSink current = sink;
+		if (current == null)
+			return;
+
+		try {
+			current.onOutcome(info, outcome);
+			// CHECKSTYLE:OFF
+		} catch (final RuntimeException e) {
+			// CHECKSTYLE:ON
+			LOGGER.warn("onOutcome(" + outcome + ") sink fail", e);
+		}
+	}
+
+	/**
+	 * Record retried attempt.
+	 */
+	public void onRetry() {
+		retries.increment();
+	}
+
+	/**
+	 * Record hedged attempt.
+	 */
+	public void onHedge() {
+		hedges.increment();
+	}
+
+	/**
+	 * Record call coalesced with identical call in flight.
+	 */
+	public void onCoalesce() {
+		coalesced.increment();
+	}
+
+	/**
+	 * Record execution delayed by rate limit.
+	 */
+	public void onThrottle() {
+		throttled.increment();
+	}
+
+	/**
+	 * Get execution time at given percentile.<br>
+	 * Value is cached and recalculated not more often than once per second, until enough executions are measured only executions amount is
+	 * checked on each call.
+	 * 
+	 * @param percentile
+	 *            percentile in range [0, 100]
+	 * @param minExecutions
+	 *            minimal measured executions amount
+	 * @return execution time in nanoseconds or <code>-1</code> if not enough executions are measured
+	 */
+	public long getExecutionTimeAtPercentile(final double percentile, final long minExecutions) {
+		final long now = System.nanoTime();
+		final CachedPercentile cached = cachedPercentile;
+		if (cached != null && cached.percentile == percentile && now - cached.calculated <= PERCENTILE_REFRESH_INTERVAL)
+			return cached.value;
+		if (execution.getCount() < minExecutions) // snapshot isn't needed
+			return -1L;
+
+		final long value = execution.snapshot().getValueAtPercentile(percentile);
+		cachedPercentile = new CachedPercentile(percentile, value, now);
+		return value;
+	}
+
+	/**
+	 * Get outcome recorder for future based executions.
+	 * 
+	 * @return {@link BiConsumer}
+	 */
+	public BiConsumer<Object, Throwable> getOutcomeRecorder() {
+		return outcomeRecorder;
+	}
+
+	/**
+	 * Wrap {@link Callable} for recording queue wait and execution time.<br>
+	 * Queue wait time is measured from wrapping moment, so wrapping should be done right before submitting to executor.
+	 * 
+	 * @param callable
+	 *            {@link Callable}
+	 * @return {@link Callable}
+	 */
+	public <T> Callable<T> meter(final Callable<T> callable) {
+		final long submitted = System.nanoTime();
+		return new Callable<T>() {
+			@Override
+			public T call() throws Exception {
+				final long started = System.nanoTime();
+				try {
+					return callable.call();
+				} finally {
+					onLatency(started - submitted, System.nanoTime() - started);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Get metrics snapshot.
+	 * 
+	 * @return {@link MetricsSnapshot}
+	 */
+	public MetricsSnapshot snapshot() {
+		final long[] counts = new long[outcomes.length];
+		for (int i = 0; i < outcomes.length; i++)
+			counts[i] = outcomes[i].sum();
+
+		return new MetricsSnapshot(info.getId(), info.getName(), counts, retries.sum(), hedges.sum(), coalesced.sum(), throttled.sum(),
+				queueWait.snapshot(), execution.snapshot());
+	}
+
+	/**
+	 * Tear down {@link ExecutionMetrics} internals.
+	 */
+	public static void tearDown() {
+		sink = null;
+	}
+
+	/**
+	 * Cached percentile value.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class CachedPercentile {
+
+		/**
+		 * Percentile.
+		 */
+		private final double percentile;
+
+		/**
+		 * Value at percentile.
+		 */
+		private final long value;
+
+		/**
+		 * Calculation timestamp, nanoseconds.
+		 */
+		private final long calculated;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aPercentile
+		 *            percentile
+		 * @param aValue
+		 *            value at percentile
+		 * @param aCalculated
+		 *            calculation timestamp
+		 */
+		private CachedPercentile(final double aPercentile, final long aValue, final long aCalculated) {
+			this.percentile = aPercentile;
+			this.value = aValue;
+			this.calculated = aCalculated;
+		}
+
+	}
+
+	/**
+	 * Execution outcomes.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public enum Outcome {
+
+		/**
+		 * Executed successfully.
+		 */
+		SUCCESS,
+
+		/**
+		 * Failed with execution error.
+		 */
+		FAILURE,
+
+		/**
+		 * Execution time limit is reached.
+		 */
+		TIMEOUT,
+
+		/**
+		 * Rejected by concurrent executions limit.
+		 */
+		CONCURRENT_OVERFLOW,
+
+		/**
+		 * Rejected by executor.
+		 */
+		EXECUTOR_OVERFLOW,
+
+		/**
+		 * Rejected by open circuit breaker.
+		 */
+		CIRCUIT_OPEN,
+
+		/**
+		 * Rejected by executions rate limit.
+		 */
+		RATE_OVERFLOW;
+
+		/**
+		 * Resolve {@link Outcome} from execution error.
+		 * 
+		 * @param error
+		 *            execution error, <code>null</code> for successful execution
+		 * @return {@link Outcome}
+		 */
+		public static Outcome of(final Throwable error) {
+			if (error == null)
+				return SUCCESS;
+
+			final Throwable actual = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+			if (actual instanceof ExecutionTimeoutException || actual instanceof TimeoutException)
+				return TIMEOUT;
+			if (actual instanceof ConcurrentOverflowException)
+				return CONCURRENT_OVERFLOW;
+			if (actual instanceof ExecutorOverflowException || actual instanceof RejectedExecutionException)
+				return EXECUTOR_OVERFLOW;
+			if (actual instanceof CircuitBreakerOpenException)
+				return CIRCUIT_OPEN;
+			if (actual instanceof RateOverflowException)
+				return RATE_OVERFLOW;
+
+			return FAILURE;
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with logarithmic buckets.<br>
+ * Each power of two range is split to {@value #SUB_BUCKETS} linear sub buckets, so recorded values are kept with relative error below 12.5%.<br>
+ * Recording costs a few atomic increments without allocations, histogram is never reset.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Sub buckets per power of two, bits.
+	 */
+	private static final int SUB_BUCKET_BITS = 3;
+
+	/**
+	 * Sub buckets per power of two.
+	 */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Buckets amount, covers all positive <code>long</code> values.
+	 */
+	static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/**
+	 * Buckets counts.
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	/**
+	 * Recorded values amount.
+	 */
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Recorded values sum.
+	 */
+	private final LongAdder sum = new LongAdder();
+
+	/**
+	 * Maximum recorded value.
+	 */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record value.
+	 * 
+	 * @param value
+	 *            value, negative values are recorded as zero
+	 */
+	public void record(final long value) {
+		final long actual = Math.max(0L, value);
+		counts.incrementAndGet(bucket(actual));
+		count.increment();
+		sum.add(actual);
+
+		long current = max.get();
+		while (actual > current && !max.compareAndSet(current, actual))
+			current = max.get();
+	}
+
+	/**
+	 * Get recorded values amount.
+	 * 
+	 * @return amount
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Get snapshot of current state.<br>
+	 * Snapshot isn't atomic, values recorded during snapshot could be partially reflected.
+	 * 
+	 * @return {@link LatencySnapshot}
+	 */
+	public LatencySnapshot snapshot() {
+		final long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++)
+			snapshot[i] = counts.get(i);
+
+		return new LatencySnapshot(snapshot, count.sum(), sum.sum(), max.get());
+	}
+
+	/**
+	 * Get bucket index for value.
+	 * 
+	 * @param value
+	 *            not negative value
+	 * @return bucket index
+	 */
+	static int bucket(final long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Get lowest value of bucket.
+	 * 
+	 * @param bucket
+	 *            bucket index
+	 * @return <code>long</code>
+	 */
+	static long lowest(final int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+
+		final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long subBucket = bucket % SUB_BUCKETS;
+		return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * Get highest value of bucket.
+	 * 
+	 * @param bucket
+	 *            bucket index
+	 * @return <code>long</code>
+	 */
+	static long highest(final int bucket) {
+		return bucket + 1 < BUCKETS ? lowest(bucket + 1) - 1 : Long.MAX_VALUE;
+	}
+
+}
@@ -0,0 +1,137 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.io.Serializable;
+
+/**
+ * Immutable {@link LatencyHistogram} snapshot.<br>
+ * All values are in nanoseconds.
+ * 
+ * @author Alexandr Bolbat
+ */
+public final class LatencySnapshot implements Serializable {
+
+	/**
+	 * Generated SerialVersionUID.
+	 */
+	private static final long serialVersionUID = -2693585377254813316L;
+
+	/**
+	 * Buckets counts.
+	 */
+	private final long[] counts;
+
+	/**
+	 * Recorded values amount.
+	 */
+	private final long count;
+
+	/**
+	 * Recorded values sum.
+	 */
+	private final long sum;
+
+	/**
+	 * Maximum recorded value.
+	 */
+	private final long max;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aCounts
+	 *            buckets counts
+	 * @param aCount
+	 *            recorded values amount
+	 * @param aSum
+	 *            recorded values sum
+	 * @param aMax
+	 *            maximum recorded value
+	 */
+	LatencySnapshot(final long[] aCounts, final long aCount, final long aSum, final long aMax) {
+		this.counts = aCounts;
+		this.count = aCount;
+		this.sum = aSum;
+		this.max = aMax;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getSum() {
+		return sum;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Get mean value.
+	 * 
+	 * @return <code>double</code> or <code>0</code> if nothing recorded
+	 */
+	public double getMean() {
+		return count > 0 ? (double) sum / count : 0d;
+	}
+
+	/**
+	 * Get value at given percentile.<br>
+	 * Value is reported as highest value of matched bucket, but not more than maximum recorded value.
+	 * 
+	 * @param percentile
+	 *            percentile in range [0, 100]
+	 * @return <code>long</code> or <code>0</code> if nothing recorded
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		checkArgument(percentile >= 0d && percentile <= 100d, "percentile argument should be in range [0, 100]");
+
+		long total = 0;
+		for (final long bucketCount : counts)
+			total += bucketCount;
+		if (total == 0)
+			return 0L;
+
+		final long rank = Math.max(1L, (long) Math.ceil(percentile / 100d * total));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.min(LatencyHistogram.highest(i), max);
+		}
+
+		return max;
+	}
+
+	public long getP50() {
+		return getValueAtPercentile(50d);
+	}
+
+	public long getP90() {
+		return getValueAtPercentile(90d);
+	}
+
+	public long getP99() {
+		return getValueAtPercentile(99d);
+	}
+
+	public long getP999() {
+		return getValueAtPercentile(99.9d);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("count=").append(count);
+		builder.append(", mean=").append((long) getMean());
+		builder.append(", p50=").append(getP50());
+		builder.append(", p90=").append(getP90());
+		builder.append(", p99=").append(getP99());
+		builder.append(", p999=").append(getP999());
+		builder.append(", max=").append(max);
+		return builder.toString();
+	}
+
+}
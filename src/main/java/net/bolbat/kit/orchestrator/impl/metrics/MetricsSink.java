@@ -0,0 +1,36 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import net.bolbat.kit.orchestrator.impl.ExecutionInfo;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics.Outcome;
+
+/**
+ * Orchestrated executions metrics sink.<br>
+ * Called from executing threads on each orchestrated execution, so implementation should be fast and shouldn't block.
+ * 
+ * @author Alexandr Bolbat
+ */
+public interface MetricsSink {
+
+	/**
+	 * Execution latency is recorded.
+	 * 
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param queueWait
+	 *            time spent in executor queue in nanoseconds, <code>0</code> for executions without executor hand off
+	 * @param execution
+	 *            execution time in nanoseconds
+	 */
+	void onLatency(ExecutionInfo info, long queueWait, long execution);
+
+	/**
+	 * Execution outcome is recorded.
+	 * 
+	 * @param info
+	 *            {@link ExecutionInfo}
+	 * @param outcome
+	 *            {@link Outcome}
+	 */
+	void onOutcome(ExecutionInfo info, Outcome outcome);
+
+}
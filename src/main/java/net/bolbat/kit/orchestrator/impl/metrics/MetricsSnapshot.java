@@ -0,0 +1,224 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import java.io.Serializable;
+
+/**
+ * Immutable {@link ExecutionMetrics} snapshot.
+ * 
+ * @author Alexandr Bolbat
+ */
+public final class MetricsSnapshot implements Serializable {
+
+	/**
+	 * Generated SerialVersionUID.
+	 */
+	private static final long serialVersionUID = 4107264535917453958L;
+
+	/**
+	 * Execution unique identifier.
+	 */
+	private final String id;
+
+	/**
+	 * Execution name.
+	 */
+	private final String name;
+
+	/**
+	 * Successful executions amount.
+	 */
+	private final long successful;
+
+	/**
+	 * Failed executions amount.
+	 */
+	private final long failed;
+
+	/**
+	 * Timed out executions amount.
+	 */
+	private final long timedOut;
+
+	/**
+	 * Executions rejected by concurrent executions limit amount.
+	 */
+	private final long concurrentOverflows;
+
+	/**
+	 * Executions rejected by executor amount.
+	 */
+	private final long executorOverflows;
+
+	/**
+	 * Executions rejected by open circuit breaker amount.
+	 */
+	private final long circuitOpen;
+
+	/**
+	 * Executions rejected by rate limit amount.
+	 */
+	private final long rateOverflows;
+
+	/**
+	 * Retried attempts amount.
+	 */
+	private final long retries;
+
+	/**
+	 * Hedged attempts amount.
+	 */
+	private final long hedges;
+
+	/**
+	 * Coalesced calls amount.
+	 */
+	private final long coalesced;
+
+	/**
+	 * Executions delayed by rate limit amount.
+	 */
+	private final long throttled;
+
+	/**
+	 * Queue wait time {@link LatencySnapshot}.
+	 */
+	private final LatencySnapshot queueWait;
+
+	/**
+	 * Execution time {@link LatencySnapshot}.
+	 */
+	private final LatencySnapshot execution;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aId
+	 *            execution unique identifier
+	 * @param aName
+	 *            execution name
+	 * @param outcomes
+	 *            outcomes amounts indexed by {@link ExecutionMetrics.Outcome} ordinal
+	 * @param aRetries
+	 *            retried attempts amount
+	 * @param aHedges
+	 *            hedged attempts amount
+	 * @param aCoalesced
+	 *            coalesced calls amount
+	 * @param aThrottled
+	 *            executions delayed by rate limit amount
+	 * @param aQueueWait
+	 *            queue wait time {@link LatencySnapshot}
+	 * @param aExecution
+	 *            execution time {@link LatencySnapshot}
+	 */
+	MetricsSnapshot(final String aId, final String aName, final long[] outcomes, final long aRetries, final long aHedges, final long aCoalesced,
+			final long aThrottled, final LatencySnapshot aQueueWait, final LatencySnapshot aExecution) {
+		this.id = aId;
+		this.name = aName;
+		this.successful = outcomes[ExecutionMetrics.Outcome.SUCCESS.ordinal()];
+		this.failed = outcomes[ExecutionMetrics.Outcome.FAILURE.ordinal()];
+		this.timedOut = outcomes[ExecutionMetrics.Outcome.TIMEOUT.ordinal()];
+		this.concurrentOverflows = outcomes[ExecutionMetrics.Outcome.CONCURRENT_OVERFLOW.ordinal()];
+		this.executorOverflows = outcomes[ExecutionMetrics.Outcome.EXECUTOR_OVERFLOW.ordinal()];
+		this.circuitOpen = outcomes[ExecutionMetrics.Outcome.CIRCUIT_OPEN.ordinal()];
+		this.rateOverflows = outcomes[ExecutionMetrics.Outcome.RATE_OVERFLOW.ordinal()];
+		this.retries = aRetries;
+		this.hedges = aHedges;
+		this.coalesced = aCoalesced;
+		this.throttled = aThrottled;
+		this.queueWait = aQueueWait;
+		this.execution = aExecution;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getSuccessful() {
+		return successful;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public long getTimedOut() {
+		return timedOut;
+	}
+
+	public long getConcurrentOverflows() {
+		return concurrentOverflows;
+	}
+
+	public long getExecutorOverflows() {
+		return executorOverflows;
+	}
+
+	public long getCircuitOpen() {
+		return circuitOpen;
+	}
+
+	public long getRateOverflows() {
+		return rateOverflows;
+	}
+
+	/**
+	 * Get all executions amount.
+	 * 
+	 * @return <code>long</code>
+	 */
+	public long getTotal() {
+		return successful + failed + timedOut + concurrentOverflows + executorOverflows + circuitOpen + rateOverflows;
+	}
+
+	public long getRetries() {
+		return retries;
+	}
+
+	public long getHedges() {
+		return hedges;
+	}
+
+	public long getCoalesced() {
+		return coalesced;
+	}
+
+	public long getThrottled() {
+		return throttled;
+	}
+
+	public LatencySnapshot getQueueWait() {
+		return queueWait;
+	}
+
+	public LatencySnapshot getExecution() {
+		return execution;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+		builder.append(" [id=").append(id);
+		builder.append(", name=").append(name);
+		builder.append(", successful=").append(successful);
+		builder.append(", failed=").append(failed);
+		builder.append(", timedOut=").append(timedOut);
+		builder.append(", concurrentOverflows=").append(concurrentOverflows);
+		builder.append(", executorOverflows=").append(executorOverflows);
+		builder.append(", circuitOpen=").append(circuitOpen);
+		builder.append(", rateOverflows=").append(rateOverflows);
+		builder.append(", retries=").append(retries);
+		builder.append(", hedges=").append(hedges);
+		builder.append(", coalesced=").append(coalesced);
+		builder.append(", throttled=").append(throttled);
+		builder.append(", queueWait=[").append(queueWait).append("]");
+		builder.append(", execution=[").append(execution).append("]");
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * Orchestrated executions metrics functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.metrics;
@@ -0,0 +1,36 @@
+package net.bolbat.kit.orchestrator.impl.proxy;
+
+import net.bolbat.kit.orchestrator.impl.ExecutionHandler;
+
+/**
+ * Base class for proxies generated by {@link ProxyGenerator}.<br>
+ * Has no instance methods to avoid conflicts with proxied interfaces methods.
+ * 
+ * @author Alexandr Bolbat
+ */
+public abstract class GeneratedProxy {
+
+	/**
+	 * {@link ExecutionHandler}.
+	 */
+	protected final ExecutionHandler handler;
+
+	/**
+	 * Proxied target.
+	 */
+	protected final Object target;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param aHandler
+	 *            {@link ExecutionHandler}
+	 * @param aTarget
+	 *            proxied target
+	 */
+	protected GeneratedProxy(final ExecutionHandler aHandler, final Object aTarget) {
+		this.handler = aHandler;
+		this.target = aTarget;
+	}
+
+}
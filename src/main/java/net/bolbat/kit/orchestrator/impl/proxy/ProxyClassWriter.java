@@ -0,0 +1,757 @@
+package net.bolbat.kit.orchestrator.impl.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.impl.ExecutionHandler;
+
+/**
+ * Writer of {@link GeneratedProxy} class files.<br>
+ * Each proxied method is implemented in next way:
+ * 
+ * <pre>
+ * public final R method(A a, B b) {
+ * 	if (handler.isDirect(index))
+ * 		return ((Interface) target).method(a, b);
+ * 
+ * 	return (R) handler.invoke(index, new Object[] { a, b });
+ * }
+ * </pre>
+ * 
+ * So not orchestrated calls are typed calls to the target without arguments array allocation and primitives boxing.<br>
+ * Class files are written in version 49 format what is verified by type inference and doesn't require stack map frames.
+ * 
+ * @author Alexandr Bolbat
+ */
+final class ProxyClassWriter {
+
+	/**
+	 * Class file version.
+	 */
+	private static final int VERSION = 49;
+
+	/**
+	 * Class access flags: 'public final super'.
+	 */
+	private static final int CLASS_ACCESS = 0x0001 | 0x0010 | 0x0020;
+
+	/**
+	 * Method access flags: 'public final'.
+	 */
+	private static final int METHOD_ACCESS = 0x0001 | 0x0010;
+
+	/**
+	 * {@link GeneratedProxy} internal name.
+	 */
+	private static final String SUPER = internalName(GeneratedProxy.class);
+
+	/**
+	 * {@link ExecutionHandler} internal name.
+	 */
+	private static final String HANDLER = internalName(ExecutionHandler.class);
+
+	/**
+	 * {@link ExecutionHandler} descriptor.
+	 */
+	private static final String HANDLER_DESCRIPTOR = descriptor(ExecutionHandler.class);
+
+	/**
+	 * Constant pool.
+	 */
+	private final Bytes pool = new Bytes();
+
+	/**
+	 * Constant pool entries indexes by their keys.
+	 */
+	private final Map<String, Integer> poolIndexes = new HashMap<>();
+
+	/**
+	 * Constant pool entries count.
+	 */
+	private int poolCount = 1;
+
+	/**
+	 * Written methods.
+	 */
+	private final Bytes methods = new Bytes();
+
+	/**
+	 * Written methods count.
+	 */
+	private int methodsCount;
+
+	/**
+	 * Private constructor.
+	 */
+	private ProxyClassWriter() {
+	}
+
+	/**
+	 * Write proxy class file.
+	 * 
+	 * @param className
+	 *            proxy class name
+	 * @param interfaces
+	 *            proxied interfaces
+	 * @param proxiedMethods
+	 *            proxied methods, index in array is used as method index in {@link ExecutionHandler}
+	 * @return class file bytes
+	 */
+	static byte[] write(final String className, final Class<?>[] interfaces, final Method[] proxiedMethods) {
+		final ProxyClassWriter writer = new ProxyClassWriter();
+		final int thisClass = writer.classRef(className.replace('.', '/'));
+		final int superClass = writer.classRef(SUPER);
+		final int[] interfacesRefs = new int[interfaces.length];
+		for (int i = 0; i < interfaces.length; i++)
+			interfacesRefs[i] = writer.classRef(internalName(interfaces[i]));
+
+		writer.writeConstructor();
+		for (int i = 0; i < proxiedMethods.length; i++)
+			writer.writeMethod(proxiedMethods[i], i);
+
+		final Bytes result = new Bytes();
+		result.u4(0xCAFEBABE);
+		result.u2(0);
+		result.u2(VERSION);
+		result.u2(writer.poolCount);
+		result.bytes(writer.pool);
+		result.u2(CLASS_ACCESS);
+		result.u2(thisClass);
+		result.u2(superClass);
+		result.u2(interfacesRefs.length);
+		for (final int ref : interfacesRefs)
+			result.u2(ref);
+		result.u2(0); // fields
+		result.u2(writer.methodsCount);
+		result.bytes(writer.methods);
+		result.u2(0); // attributes
+		return result.toByteArray();
+	}
+
+	/**
+	 * Write constructor what is delegating to {@link GeneratedProxy} constructor.
+	 */
+	private void writeConstructor() {
+		final String descriptor = "(" + HANDLER_DESCRIPTOR + "Ljava/lang/Object;)V";
+		final Bytes code = new Bytes();
+		code.u1(0x2a); // aload_0
+		code.u1(0x2b); // aload_1
+		code.u1(0x2c); // aload_2
+		code.u1(0xb7); // invokespecial
+		code.u2(methodRef(SUPER, "<init>", descriptor, false));
+		code.u1(0xb1); // return
+		writeMethod(0x0001, "<init>", descriptor, 3, 3, code);
+	}
+
+	/**
+	 * Write proxied method.
+	 * 
+	 * @param method
+	 *            proxied {@link Method}
+	 * @param index
+	 *            method index
+	 */
+	private void writeMethod(final Method method, final int index) {
+		final Class<?>[] parameters = method.getParameterTypes();
+		final Class<?> result = method.getReturnType();
+		final String descriptor = descriptor(method);
+		int slots = 0;
+		for (final Class<?> parameter : parameters)
+			slots += slots(parameter);
+
+		final Bytes code = new Bytes();
+		// direct call if it's possible
+		code.u1(0x2a); // aload_0
+		code.u1(0xb4); // getfield
+		code.u2(fieldRef(SUPER, "handler", HANDLER_DESCRIPTOR));
+		pushInt(code, index);
+		code.u1(0xb6); // invokevirtual
+		code.u2(methodRef(HANDLER, "isDirect", "(I)Z", false));
+		code.u1(0x99); // ifeq
+		final int branch = code.length() - 1;
+		code.u2(0); // patched later
+
+		code.u1(0x2a); // aload_0
+		code.u1(0xb4); // getfield
+		code.u2(fieldRef(SUPER, "target", "Ljava/lang/Object;"));
+		final Class<?> owner = method.getDeclaringClass();
+		if (owner != Object.class) {
+			code.u1(0xc0); // checkcast
+			code.u2(classRef(internalName(owner)));
+		}
+		int slot = 1;
+		for (final Class<?> parameter : parameters) {
+			load(code, parameter, slot);
+			slot += slots(parameter);
+		}
+		if (owner.isInterface()) {
+			code.u1(0xb9); // invokeinterface
+			code.u2(methodRef(internalName(owner), method.getName(), descriptor, true));
+			code.u1(slots + 1);
+			code.u1(0);
+		} else {
+			code.u1(0xb6); // invokevirtual
+			code.u2(methodRef(internalName(owner), method.getName(), descriptor, false));
+		}
+		code.u1(returnOpcode(result));
+
+		// orchestrated call through the handler
+		code.patch(branch, code.length() - branch);
+		code.u1(0x2a); // aload_0
+		code.u1(0xb4); // getfield
+		code.u2(fieldRef(SUPER, "handler", HANDLER_DESCRIPTOR));
+		pushInt(code, index);
+		if (parameters.length == 0) {
+			code.u1(0x01); // aconst_null, like in java.lang.reflect.Proxy
+		} else {
+			pushInt(code, parameters.length);
+			code.u1(0xbd); // anewarray
+			code.u2(classRef("java/lang/Object"));
+			slot = 1;
+			for (int i = 0; i < parameters.length; i++) {
+				code.u1(0x59); // dup
+				pushInt(code, i);
+				load(code, parameters[i], slot);
+				box(code, parameters[i]);
+				code.u1(0x53); // aastore
+				slot += slots(parameters[i]);
+			}
+		}
+		code.u1(0xb6); // invokevirtual
+		code.u2(methodRef(HANDLER, "invoke", "(I[Ljava/lang/Object;)Ljava/lang/Object;", false));
+		unbox(code, result);
+		code.u1(returnOpcode(result));
+
+		writeMethod(METHOD_ACCESS, method.getName(), descriptor, Math.max(slots + 1, 7), slots + 1, code);
+	}
+
+	/**
+	 * Write method.
+	 * 
+	 * @param access
+	 *            access flags
+	 * @param name
+	 *            method name
+	 * @param descriptor
+	 *            method descriptor
+	 * @param maxStack
+	 *            maximum operand stack depth
+	 * @param maxLocals
+	 *            local variables amount
+	 * @param code
+	 *            method code
+	 */
+	private void writeMethod(final int access, final String name, final String descriptor, final int maxStack, final int maxLocals, final Bytes code) {
+		methods.u2(access);
+		methods.u2(utf8(name));
+		methods.u2(utf8(descriptor));
+		methods.u2(1); // attributes
+		methods.u2(utf8("Code"));
+		methods.u4(12 + code.length());
+		methods.u2(maxStack);
+		methods.u2(maxLocals);
+		methods.u4(code.length());
+		methods.bytes(code);
+		methods.u2(0); // exception table
+		methods.u2(0); // attributes
+		methodsCount++;
+	}
+
+	/**
+	 * Push <code>int</code> constant to the operand stack.
+	 * 
+	 * @param code
+	 *            method code
+	 * @param value
+	 *            value
+	 */
+	private void pushInt(final Bytes code, final int value) {
+		if (value >= -1 && value <= 5) {
+			code.u1(0x03 + value); // iconst_<n>
+		} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+			code.u1(0x10); // bipush
+			code.u1(value);
+		} else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+			code.u1(0x11); // sipush
+			code.u2(value);
+		} else {
+			code.u1(0x13); // ldc_w
+			code.u2(integer(value));
+		}
+	}
+
+	/**
+	 * Load local variable to the operand stack.
+	 * 
+	 * @param code
+	 *            method code
+	 * @param type
+	 *            variable type
+	 * @param slot
+	 *            variable slot
+	 */
+	private static void load(final Bytes code, final Class<?> type, final int slot) {
+		if (type == long.class)
+			code.u1(0x16); // lload
+		else if (type == float.class)
+			code.u1(0x17); // fload
+		else if (type == double.class)
+			code.u1(0x18); // dload
+		else if (type.isPrimitive())
+			code.u1(0x15); // iload
+		else
+			code.u1(0x19); // aload
+		code.u1(slot);
+	}
+
+	/**
+	 * Box primitive value on top of the operand stack.
+	 * 
+	 * @param code
+	 *            method code
+	 * @param type
+	 *            value type
+	 */
+	private void box(final Bytes code, final Class<?> type) {
+		if (!type.isPrimitive())
+			return;
+
+		final String wrapper = internalName(wrapper(type));
+		code.u1(0xb8); // invokestatic
+		code.u2(methodRef(wrapper, "valueOf", "(" + descriptor(type) + ")L" + wrapper + ";", false));
+	}
+
+	/**
+	 * Unbox or cast value on top of the operand stack to given type.
+	 * 
+	 * @param code
+	 *            method code
+	 * @param type
+	 *            result type
+	 */
+	private void unbox(final Bytes code, final Class<?> type) {
+		if (type == void.class) {
+			code.u1(0x57); // pop
+			return;
+		}
+		if (type == Object.class)
+			return;
+
+		if (!type.isPrimitive()) {
+			code.u1(0xc0); // checkcast
+			code.u2(classRef(internalName(type)));
+			return;
+		}
+
+		final String wrapper = internalName(wrapper(type));
+		code.u1(0xc0); // checkcast
+		code.u2(classRef(wrapper));
+		code.u1(0xb6); // invokevirtual
+		code.u2(methodRef(wrapper, type.getName() + "Value", "()" + descriptor(type), false));
+	}
+
+	/**
+	 * Get return opcode for given type.
+	 * 
+	 * @param type
+	 *            result type
+	 * @return opcode
+	 */
+	private static int returnOpcode(final Class<?> type) {
+		if (type == void.class)
+			return 0xb1; // return
+		if (type == long.class)
+			return 0xad; // lreturn
+		if (type == float.class)
+			return 0xae; // freturn
+		if (type == double.class)
+			return 0xaf; // dreturn
+		if (type.isPrimitive())
+			return 0xac; // ireturn
+
+		return 0xb0; // areturn
+	}
+
+	/**
+	 * Get amount of local variable slots used by given type.
+	 * 
+	 * @param type
+	 *            type
+	 * @return <code>int</code>
+	 */
+	private static int slots(final Class<?> type) {
+		return type == long.class || type == double.class ? 2 : 1;
+	}
+
+	/**
+	 * Get wrapper type for given primitive type.
+	 * 
+	 * @param type
+	 *            primitive type
+	 * @return wrapper type
+	 */
+	private static Class<?> wrapper(final Class<?> type) {
+		if (type == boolean.class)
+			return Boolean.class;
+		if (type == byte.class)
+			return Byte.class;
+		if (type == char.class)
+			return Character.class;
+		if (type == short.class)
+			return Short.class;
+		if (type == int.class)
+			return Integer.class;
+		if (type == long.class)
+			return Long.class;
+		if (type == float.class)
+			return Float.class;
+		if (type == double.class)
+			return Double.class;
+
+		throw new OrchestrationException("Type[" + type + "] isn't primitive");
+	}
+
+	/**
+	 * Get internal name of the type.
+	 * 
+	 * @param type
+	 *            type
+	 * @return {@link String}
+	 */
+	private static String internalName(final Class<?> type) {
+		return type.isArray() ? descriptor(type) : type.getName().replace('.', '/');
+	}
+
+	/**
+	 * Get type descriptor.
+	 * 
+	 * @param type
+	 *            type
+	 * @return {@link String}
+	 */
+	private static String descriptor(final Class<?> type) {
+		if (type == void.class)
+			return "V";
+		if (type == boolean.class)
+			return "Z";
+		if (type == byte.class)
+			return "B";
+		if (type == char.class)
+			return "C";
+		if (type == short.class)
+			return "S";
+		if (type == int.class)
+			return "I";
+		if (type == long.class)
+			return "J";
+		if (type == float.class)
+			return "F";
+		if (type == double.class)
+			return "D";
+		if (type.isArray())
+			return type.getName().replace('.', '/');
+
+		return "L" + type.getName().replace('.', '/') + ";";
+	}
+
+	/**
+	 * Get method descriptor.
+	 * 
+	 * @param method
+	 *            {@link Method}
+	 * @return {@link String}
+	 */
+	private static String descriptor(final Method method) {
+		final StringBuilder builder = new StringBuilder("(");
+		for (final Class<?> parameter : method.getParameterTypes())
+			builder.append(descriptor(parameter));
+		builder.append(')').append(descriptor(method.getReturnType()));
+		return builder.toString();
+	}
+
+	/**
+	 * Get or add 'Utf8' constant.
+	 * 
+	 * @param value
+	 *            value
+	 * @return constant index
+	 */
+	private int utf8(final String value) {
+		final String key = "utf8|" + value;
+		final Integer index = poolIndexes.get(key);
+		if (index != null)
+			return index;
+
+		pool.u1(1);
+		pool.utf(value);
+		return addConstant(key);
+	}
+
+	/**
+	 * Get or add 'Integer' constant.
+	 * 
+	 * @param value
+	 *            value
+	 * @return constant index
+	 */
+	private int integer(final int value) {
+		final String key = "integer|" + value;
+		final Integer index = poolIndexes.get(key);
+		if (index != null)
+			return index;
+
+		pool.u1(3);
+		pool.u4(value);
+		return addConstant(key);
+	}
+
+	/**
+	 * Get or add 'Class' constant.
+	 * 
+	 * @param internalName
+	 *            class internal name
+	 * @return constant index
+	 */
+	private int classRef(final String internalName) {
+		final String key = "class|" + internalName;
+		final Integer index = poolIndexes.get(key);
+		if (index != null)
+			return index;
+
+		final int name = utf8(internalName);
+		pool.u1(7);
+		pool.u2(name);
+		return addConstant(key);
+	}
+
+	/**
+	 * Get or add 'NameAndType' constant.
+	 * 
+	 * @param name
+	 *            member name
+	 * @param descriptor
+	 *            member descriptor
+	 * @return constant index
+	 */
+	private int nameAndType(final String name, final String descriptor) {
+		final String key = "nameAndType|" + name + "|" + descriptor;
+		final Integer index = poolIndexes.get(key);
+		if (index != null)
+			return index;
+
+		final int nameIndex = utf8(name);
+		final int descriptorIndex = utf8(descriptor);
+		pool.u1(12);
+		pool.u2(nameIndex);
+		pool.u2(descriptorIndex);
+		return addConstant(key);
+	}
+
+	/**
+	 * Get or add 'Fieldref' constant.
+	 * 
+	 * @param owner
+	 *            owner internal name
+	 * @param name
+	 *            field name
+	 * @param descriptor
+	 *            field descriptor
+	 * @return constant index
+	 */
+	private int fieldRef(final String owner, final String name, final String descriptor) {
+		return memberRef(9, owner, name, descriptor);
+	}
+
+	/**
+	 * Get or add 'Methodref' or 'InterfaceMethodref' constant.
+	 * 
+	 * @param owner
+	 *            owner internal name
+	 * @param name
+	 *            method name
+	 * @param descriptor
+	 *            method descriptor
+	 * @param ownerInterface
+	 *            is owner an interface
+	 * @return constant index
+	 */
+	private int methodRef(final String owner, final String name, final String descriptor, final boolean ownerInterface) {
+		return memberRef(ownerInterface ? 11 : 10, owner, name, descriptor);
+	}
+
+	/**
+	 * Get or add member reference constant.
+	 * 
+	 * @param tag
+	 *            constant tag
+	 * @param owner
+	 *            owner internal name
+	 * @param name
+	 *            member name
+	 * @param descriptor
+	 *            member descriptor
+	 * @return constant index
+	 */
+	private int memberRef(final int tag, final String owner, final String name, final String descriptor) {
+		final String key = tag + "|" + owner + "|" + name + "|" + descriptor;
+		final Integer index = poolIndexes.get(key);
+		if (index != null)
+			return index;
+
+		final int ownerIndex = classRef(owner);
+		final int nameAndTypeIndex = nameAndType(name, descriptor);
+		pool.u1(tag);
+		pool.u2(ownerIndex);
+		pool.u2(nameAndTypeIndex);
+		return addConstant(key);
+	}
+
+	/**
+	 * Register constant what was just written to the pool.
+	 * 
+	 * @param key
+	 *            constant key
+	 * @return constant index
+	 */
+	private int addConstant(final String key) {
+		final int index = poolCount++;
+		if (index > 0xFFFF)
+			throw new OrchestrationException("Proxy class constant pool limit is reached");
+
+		poolIndexes.put(key, index);
+		return index;
+	}
+
+	/**
+	 * Growable bytes buffer.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class Bytes {
+
+		/**
+		 * Buffer.
+		 */
+		private byte[] buffer = new byte[256];
+
+		/**
+		 * Written bytes amount.
+		 */
+		private int length;
+
+		/**
+		 * Get written bytes amount.
+		 * 
+		 * @return <code>int</code>
+		 */
+		private int length() {
+			return length;
+		}
+
+		/**
+		 * Write one byte.
+		 * 
+		 * @param value
+		 *            value
+		 */
+		private void u1(final int value) {
+			ensure(1);
+			buffer[length++] = (byte) value;
+		}
+
+		/**
+		 * Write two bytes.
+		 * 
+		 * @param value
+		 *            value
+		 */
+		private void u2(final int value) {
+			ensure(2);
+			buffer[length++] = (byte) (value >>> 8);
+			buffer[length++] = (byte) value;
+		}
+
+		/**
+		 * Write four bytes.
+		 * 
+		 * @param value
+		 *            value
+		 */
+		private void u4(final int value) {
+			u2(value >>> 16);
+			u2(value);
+		}
+
+		/**
+		 * Write string in modified UTF-8 format with length prefix.
+		 * 
+		 * @param value
+		 *            value
+		 */
+		private void utf(final String value) {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try {
+				new DataOutputStream(out).writeUTF(value);
+			} catch (final IOException e) {
+				throw new OrchestrationException("Unable to write constant[" + value + "]", e);
+			}
+			final byte[] bytes = out.toByteArray();
+			ensure(bytes.length);
+			System.arraycopy(bytes, 0, buffer, length, bytes.length);
+			length += bytes.length;
+		}
+
+		/**
+		 * Write other buffer content.
+		 * 
+		 * @param other
+		 *            {@link Bytes}
+		 */
+		private void bytes(final Bytes other) {
+			ensure(other.length);
+			System.arraycopy(other.buffer, 0, buffer, length, other.length);
+			length += other.length;
+		}
+
+		/**
+		 * Overwrite two bytes at given position.
+		 * 
+		 * @param position
+		 *            position
+		 * @param value
+		 *            value
+		 */
+		private void patch(final int position, final int value) {
+			buffer[position + 1] = (byte) (value >>> 8);
+			buffer[position + 2] = (byte) value;
+		}
+
+		/**
+		 * Ensure buffer capacity.
+		 * 
+		 * @param amount
+		 *            amount of bytes to write
+		 */
+		private void ensure(final int amount) {
+			if (length + amount > buffer.length)
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + amount));
+		}
+
+		/**
+		 * Get written bytes.
+		 * 
+		 * @return <code>byte[]</code>
+		 */
+		private byte[] toByteArray() {
+			return Arrays.copyOf(buffer, length);
+		}
+
+	}
+
+}
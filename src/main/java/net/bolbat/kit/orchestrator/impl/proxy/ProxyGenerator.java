@@ -0,0 +1,368 @@
+package net.bolbat.kit.orchestrator.impl.proxy;
+
+import static net.bolbat.utils.lang.Validations.checkArgument;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.impl.ExecutionHandler;
+
+/**
+ * Generator of {@link GeneratedProxy} classes, alternative to {@link java.lang.reflect.Proxy}.<br>
+ * Class is generated once per class loader and interfaces set and is cached weakly, so class loaders and generated classes could be unloaded
+ * when they are not used anymore. Generated proxy calls not orchestrated methods directly on the target with
+ * typed arguments, other calls are dispatched to {@link ExecutionHandler} by method index without {@link Method} lookup.<br>
+ * Interfaces what couldn't be implemented by generated class (not public or not visible from the class loader) are not supported, callers
+ * should use {@link java.lang.reflect.Proxy} for them.
+ * 
+ * @author Alexandr Bolbat
+ */
+public final class ProxyGenerator {
+
+	/**
+	 * Generated classes names prefix.
+	 */
+	private static final String CLASS_NAME_PREFIX = GeneratedProxy.class.getName() + "$";
+
+	/**
+	 * Generated classes sequence.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/**
+	 * Generated classes cache by class loader and interfaces names, guarded by itself.<br>
+	 * Class loaders are weak keys, generated classes are weak values kept alive by proxies of them. Interfaces are identified by names, which are
+	 * resolved to the same classes by the class loader for supported interfaces, so cache isn't holding class loaders strongly.
+	 */
+	private static final Map<ClassLoader, Map<List<String>, WeakReference<ProxyClass>>> CLASSES = new WeakHashMap<>();
+
+	/**
+	 * Default constructor with preventing instantiations of this class.
+	 */
+	private ProxyGenerator() {
+		throw new IllegalAccessError("Shouldn't be instantiated.");
+	}
+
+	/**
+	 * Get generated {@link ProxyClass} for given interfaces, class would be generated once and cached.
+	 * 
+	 * @param loader
+	 *            {@link ClassLoader} for the proxy class
+	 * @param interfaces
+	 *            proxied interfaces
+	 * @return {@link ProxyClass} or <code>null</code> if given interfaces are not supported
+	 */
+	public static ProxyClass getProxyClass(final ClassLoader loader, final Class<?>... interfaces) {
+		checkArgument(interfaces != null && interfaces.length > 0, "interfaces argument is empty");
+
+		final List<String> key = new ArrayList<>(interfaces.length);
+		for (final Class<?> type : interfaces)
+			key.add(type.getName());
+
+		synchronized (CLASSES) {
+			Map<List<String>, WeakReference<ProxyClass>> classes = CLASSES.get(loader);
+			if (classes == null) {
+				classes = new HashMap<>();
+				CLASSES.put(loader, classes);
+			}
+
+			final WeakReference<ProxyClass> cached = classes.get(key);
+			ProxyClass result = cached != null ? cached.get() : null;
+			if (result != null && Arrays.equals(result.interfaces, interfaces))
+				return result;
+
+			// interfaces with the same names but other classes aren't visible from the class loader and aren't supported
+			final Method[] methods = getProxiedMethods(interfaces);
+			if (methods == null || !isSupported(loader, interfaces, methods))
+				return null;
+
+			result = generate(loader, interfaces, methods);
+			classes.put(key, new WeakReference<>(result));
+			return result;
+		}
+	}
+
+	/**
+	 * Get {@link ExecutionHandler} of the generated proxy.
+	 * 
+	 * @param proxy
+	 *            proxy
+	 * @return {@link ExecutionHandler} or <code>null</code> if given object isn't a generated proxy
+	 */
+	public static ExecutionHandler getHandler(final Object proxy) {
+		return proxy instanceof GeneratedProxy ? ((GeneratedProxy) proxy).handler : null;
+	}
+
+	/**
+	 * Tear down {@link ProxyGenerator} internals.<br>
+	 * Already created proxies are working as before, classes for new proxies would be generated again.
+	 */
+	public static void tearDown() {
+		synchronized (CLASSES) {
+			CLASSES.clear();
+		}
+	}
+
+	/**
+	 * Get proxied methods: 'hashCode', 'equals' and 'toString' from {@link Object} and all interfaces methods, methods with same signature are
+	 * proxied once.
+	 * 
+	 * @param interfaces
+	 *            proxied interfaces
+	 * @return {@link Method} array or <code>null</code> if interfaces have methods with same signature and different results
+	 */
+	private static Method[] getProxiedMethods(final Class<?>[] interfaces) {
+		final Map<String, Method> methods = new LinkedHashMap<>();
+		try {
+			methods.put(signature(Object.class.getMethod("hashCode")), Object.class.getMethod("hashCode"));
+			methods.put(signature(Object.class.getMethod("equals", Object.class)), Object.class.getMethod("equals", Object.class));
+			methods.put(signature(Object.class.getMethod("toString")), Object.class.getMethod("toString"));
+		} catch (final NoSuchMethodException e) {
+			throw new OrchestrationException(e);
+		}
+
+		for (final Class<?> type : interfaces)
+			for (final Method method : type.getMethods()) {
+				if (Modifier.isStatic(method.getModifiers()))
+					continue;
+
+				final Method existing = methods.get(signature(method));
+				if (existing == null)
+					methods.put(signature(method), method);
+				else if (existing.getReturnType() != method.getReturnType())
+					return null;
+			}
+
+		return methods.values().toArray(new Method[methods.size()]);
+	}
+
+	/**
+	 * Is generated class could implement given interfaces and methods.
+	 * 
+	 * @param loader
+	 *            {@link ClassLoader} for the proxy class
+	 * @param interfaces
+	 *            proxied interfaces
+	 * @param methods
+	 *            proxied methods
+	 * @return <code>true</code> if all interfaces and types used in methods are public and visible from the class loader
+	 */
+	private static boolean isSupported(final ClassLoader loader, final Class<?>[] interfaces, final Method[] methods) {
+		for (final Class<?> type : interfaces)
+			if (!type.isInterface() || !isAccessible(loader, type))
+				return false;
+
+		for (final Method method : methods) {
+			if (!isAccessible(loader, method.getDeclaringClass()) || !isAccessible(loader, method.getReturnType()))
+				return false;
+
+			for (final Class<?> parameter : method.getParameterTypes())
+				if (!isAccessible(loader, parameter))
+					return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Is type public and resolved to the same class by given class loader.
+	 * 
+	 * @param loader
+	 *            {@link ClassLoader}
+	 * @param type
+	 *            type
+	 * @return <code>boolean</code>
+	 */
+	private static boolean isAccessible(final ClassLoader loader, final Class<?> type) {
+		Class<?> component = type;
+		while (component.isArray())
+			component = component.getComponentType();
+
+		if (component.isPrimitive())
+			return true;
+
+		if (!Modifier.isPublic(component.getModifiers()))
+			return false;
+
+		try {
+			return Class.forName(component.getName(), false, loader) == component;
+		} catch (final ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Generate proxy class.
+	 * 
+	 * @param loader
+	 *            {@link ClassLoader} for the proxy class
+	 * @param interfaces
+	 *            proxied interfaces
+	 * @param methods
+	 *            proxied methods
+	 * @return {@link ProxyClass}
+	 */
+	private static ProxyClass generate(final ClassLoader loader, final Class<?>[] interfaces, final Method[] methods) {
+		final String name = CLASS_NAME_PREFIX + SEQUENCE.incrementAndGet();
+		final byte[] bytes = ProxyClassWriter.write(name, interfaces, methods);
+		try {
+			final ProxyClassLoader proxyLoader = new ProxyClassLoader(loader);
+			final Class<?> type = proxyLoader.define(name, bytes);
+			proxyLoader.proxyClass = new ProxyClass(type.getConstructor(ExecutionHandler.class, Object.class), interfaces.clone(), methods);
+			return proxyLoader.proxyClass;
+		} catch (final NoSuchMethodException | LinkageError e) {
+			throw new OrchestrationException("Unable to generate proxy for interfaces" + Arrays.toString(interfaces), e);
+		}
+	}
+
+	/**
+	 * Get method signature: name and parameters types.
+	 * 
+	 * @param method
+	 *            {@link Method}
+	 * @return {@link String}
+	 */
+	private static String signature(final Method method) {
+		return method.getName() + Arrays.toString(method.getParameterTypes());
+	}
+
+	/**
+	 * Generated proxy class.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	public static final class ProxyClass {
+
+		/**
+		 * Proxy class constructor.
+		 */
+		private final Constructor<?> constructor;
+
+		/**
+		 * Proxied interfaces.
+		 */
+		private final Class<?>[] interfaces;
+
+		/**
+		 * Proxied methods, index in array is used as method index in {@link ExecutionHandler}.
+		 */
+		private final Method[] methods;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param aConstructor
+		 *            proxy class constructor
+		 * @param aInterfaces
+		 *            proxied interfaces
+		 * @param aMethods
+		 *            proxied methods
+		 */
+		private ProxyClass(final Constructor<?> aConstructor, final Class<?>[] aInterfaces, final Method[] aMethods) {
+			this.constructor = aConstructor;
+			this.interfaces = aInterfaces;
+			this.methods = aMethods;
+		}
+
+		/**
+		 * Get proxied methods, index in array is used as method index in {@link ExecutionHandler}.
+		 * 
+		 * @return {@link Method} array
+		 */
+		public Method[] getMethods() {
+			return methods.clone();
+		}
+
+		/**
+		 * Create proxy instance.
+		 * 
+		 * @param handler
+		 *            {@link ExecutionHandler} created with methods of this class
+		 * @param target
+		 *            proxied target
+		 * @return proxy
+		 */
+		public Object newInstance(final ExecutionHandler handler, final Object target) {
+			checkArgument(handler != null, "handler argument is null");
+			checkArgument(target != null, "target argument is null");
+
+			try {
+				return constructor.newInstance(handler, target);
+			} catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
+				throw new OrchestrationException("Unable to create proxy instance of " + constructor.getDeclaringClass(), e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder(this.getClass().getSimpleName());
+			builder.append(" [type=").append(constructor.getDeclaringClass().getName());
+			builder.append(", methods=").append(methods.length);
+			builder.append("]");
+			return builder.toString();
+		}
+
+	}
+
+	/**
+	 * {@link ClassLoader} for generated proxy class.<br>
+	 * Proxied interfaces are resolved by parent class loader, {@link GeneratedProxy} and {@link ExecutionHandler} are always resolved to classes
+	 * of this module.
+	 * 
+	 * @author Alexandr Bolbat
+	 */
+	private static final class ProxyClassLoader extends ClassLoader {
+
+		/**
+		 * {@link ProxyClass} of generated class, it's alive while generated class is used.
+		 */
+		private ProxyClass proxyClass;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param parent
+		 *            parent {@link ClassLoader}
+		 */
+		private ProxyClassLoader(final ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (GeneratedProxy.class.getName().equals(name))
+				return GeneratedProxy.class;
+			if (ExecutionHandler.class.getName().equals(name))
+				return ExecutionHandler.class;
+
+			return super.loadClass(name, resolve);
+		}
+
+		/**
+		 * Define class.
+		 * 
+		 * @param name
+		 *            class name
+		 * @param bytes
+		 *            class file bytes
+		 * @return {@link Class}
+		 */
+		private Class<?> define(final String name, final byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length, GeneratedProxy.class.getProtectionDomain());
+		}
+
+	}
+
+}
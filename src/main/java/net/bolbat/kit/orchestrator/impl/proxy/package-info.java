@@ -0,0 +1,6 @@
+/**
+ * Generated proxies functionality.
+ * 
+ * @author Alexandr Bolbat
+ */
+package net.bolbat.kit.orchestrator.impl.proxy;
@@ -1,19 +1,46 @@
 package net.bolbat.kit.lucene;
 
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * {@link LuceneStore} module test.
  *
@@ -168,6 +195,320 @@ public class LuceneStoreTest {
 		Assert.assertEquals(3, result.size());
 	}
 
+	/**
+	 * {@link LuceneStore} counting operations test.
+	 */
+	@Test
+	public void countTest() {
+		final LuceneStore<StorableVO> store = LuceneStoreManager.getStore(StorableVO.class);
+		store.add(Arrays.asList(new StorableVO("bean1", "first@beans.com"), new StorableVO("bean2", "first@beans.com"),
+				new StorableVO("bean3", "second@beans.com"), new StorableVO("bean4", "third@beans.com")));
+		store.remove(new StorableVO("bean4", "third@beans.com"));
+
+		Assert.assertEquals(2, store.count(new TermQuery(new Term("email", "first@beans.com"))));
+		Assert.assertEquals(0, store.count(new TermQuery(new Term("email", "third@beans.com"))));
+
+		final Map<String, Integer> all = store.countByTerm("email");
+		Assert.assertEquals(2, all.size()); // removed bean isn't counted
+		Assert.assertEquals(Integer.valueOf(2), all.get("first@beans.com"));
+		Assert.assertEquals(Integer.valueOf(1), all.get("second@beans.com"));
+
+		final Map<String, Integer> filtered = store.countByTerm(new PrefixQuery(new Term("id", "bean")), "email");
+		Assert.assertEquals(all, filtered);
+		Assert.assertEquals(Collections.singletonMap("first@beans.com", 1), store.countByTerm(new TermQuery(new Term("id", "bean1")), "email"));
+		Assert.assertTrue(store.countByTerm("unknown").isEmpty());
+	}
+
+	/**
+	 * Changes visibility with all searcher refresh policies.
+	 */
+	@Test
+	public void refreshPoliciesTest() throws Exception {
+		for (final LuceneStoreConfig.RefreshPolicy policy : LuceneStoreConfig.RefreshPolicy.values()) {
+			final LuceneStoreConfig config = new LuceneStoreConfig();
+			config.setDirectoryPath(config.getDirectoryPath() + "-" + policy);
+			config.setRefreshPolicy(policy);
+			config.setRefreshInterval(10L);
+			final LuceneStore<StorableVO> store = new LuceneStoreImpl<>(StorableVO.class, config);
+			try {
+				store.add(new StorableVO("bean1", "bean1@beans.com"));
+				if (policy == LuceneStoreConfig.RefreshPolicy.PERIODIC)
+					for (int i = 0; i < 100 && store.count() == 0; i++)
+						Thread.sleep(10L);
+
+				Assert.assertEquals(policy.toString(), 1, store.count());
+				Assert.assertNotNull(policy.toString(), store.get("id", "bean1"));
+			} finally {
+				store.removeAll();
+				store.tearDown();
+			}
+		}
+	}
+
+	/**
+	 * Group commit test, changes are visible right away and durable after flush or when enough changes are collected.
+	 */
+	@Test
+	public void groupCommitTest() throws Exception {
+		final LuceneStoreConfig config = new LuceneStoreConfig();
+		config.setDirectoryPath(config.getDirectoryPath() + "-group");
+		config.setCommitPolicy(LuceneStoreConfig.CommitPolicy.GROUP);
+		config.setCommitMaxChanges(3);
+		config.setCommitMaxDelay(TimeUnit.HOURS.toMillis(1));
+		final LuceneStore<StorableVO> store = new LuceneStoreImpl<>(StorableVO.class, config);
+		try {
+			store.add(new StorableVO("bean1", "bean1@beans.com"));
+			Assert.assertEquals(1, store.count());
+			Assert.assertEquals(0, committed(config));
+
+			store.flush();
+			Assert.assertEquals(1, committed(config));
+
+			store.add(Arrays.asList(new StorableVO("bean2", "bean2@beans.com"), new StorableVO("bean3", "bean3@beans.com")));
+			store.remove(new StorableVO("bean1", "bean1@beans.com")); // commit threshold is reached
+			for (int i = 0; i < 100 && committed(config) != 2; i++)
+				Thread.sleep(10L);
+			Assert.assertEquals(2, committed(config));
+
+			store.add(new StorableVO("bean4", "bean4@beans.com"));
+		} finally {
+			store.tearDown(); // not committed changes are committed on tear down
+		}
+		Assert.assertEquals(3, committed(config));
+	}
+
+	/**
+	 * Beans stored by previous versions as JSON text are readable and migrated to binary payload.
+	 */
+	@Test
+	public void payloadMigrationTest() throws Exception {
+		final LuceneStoreConfig config = new LuceneStoreConfig();
+		config.setDirectoryPath(config.getDirectoryPath() + "-legacy");
+		config.setStreamPageSize(2);
+		config.setStoredFieldsCompression(LuceneStoreConfig.StoredFieldsCompression.BEST_COMPRESSION);
+		try (Directory directory = FSDirectory.open(Paths.get(config.getDirectoryPath()));
+				IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+			for (int i = 0; i < 5; i++) {
+				final StorableVO bean = new StorableVO("bean" + i, "bean" + i + "@beans.com");
+				final Document doc = bean.toDocument();
+				doc.add(new TextField("BEAN_DATA", new ObjectMapper().writeValueAsString(bean), Field.Store.YES));
+				writer.addDocument(doc);
+			}
+			writer.commit();
+		}
+
+		final LuceneStore<StorableVO> store = new LuceneStoreImpl<>(StorableVO.class, config);
+		try {
+			store.add(new StorableVO("bean5", "bean5@beans.com"));
+			Assert.assertEquals(new StorableVO("bean1", "bean1@beans.com"), store.get("id", "bean1"));
+			Assert.assertEquals(6, store.getAll().size());
+
+			Assert.assertEquals(5, store.migrate());
+			Assert.assertEquals(0, store.migrate());
+			Assert.assertEquals(6, store.count());
+			for (final Document doc : store.getAllDocuments()) {
+				Assert.assertNull(doc.get("BEAN_DATA"));
+				Assert.assertNotNull(doc.getBinaryValue("BEAN_PAYLOAD"));
+			}
+			Assert.assertEquals(new StorableVO("bean1", "bean1@beans.com"), store.get("id", "bean1"));
+		} finally {
+			store.removeAll();
+			store.tearDown();
+		}
+	}
+
+	/**
+	 * Smile payload codec is default one and is reading JSON payloads.
+	 */
+	@Test
+	public void smilePayloadCodecTest() throws Exception {
+		Assert.assertEquals(SmilePayloadCodec.class.getName(), new LuceneStoreConfig().getPayloadCodec());
+
+		final StorableVO bean = new StorableVO("bean", "bean@beans.com");
+		final PayloadCodec codec = new SmilePayloadCodec();
+		final byte[] smile = codec.encode(bean);
+		final byte[] json = new JacksonPayloadCodec().encode(bean);
+		Assert.assertTrue(smile.length < json.length);
+		Assert.assertEquals(bean, codec.decode(smile, 0, smile.length, StorableVO.class));
+		Assert.assertEquals(bean, codec.decode(json, 0, json.length, StorableVO.class));
+	}
+
+	/**
+	 * Store is created with JSON payload codec if Smile isn't available in classpath.
+	 */
+	@Test
+	public void smileMissingPayloadCodecTest() throws Exception {
+		final URL[] urls = { LuceneStoreImpl.class.getProtectionDomain().getCodeSource().getLocation(),
+				LuceneStoreTest.class.getProtectionDomain().getCodeSource().getLocation() };
+		try (URLClassLoader loader = new WithoutSmileClassLoader(urls, LuceneStoreTest.class.getClassLoader())) {
+			final Class<?> configType = loader.loadClass(LuceneStoreConfig.class.getName());
+			final Object config = configType.newInstance();
+			configType.getMethod("setDirectoryPath", String.class).invoke(config, configType.getMethod("getDirectoryPath").invoke(config) + "-json");
+
+			final Constructor<?> constructor = loader.loadClass(LuceneStoreImpl.class.getName()).getDeclaredConstructor(Class.class, configType);
+			constructor.setAccessible(true);
+			final Object store = constructor.newInstance(loader.loadClass(StorableVO.class.getName()), config);
+			try {
+				final java.lang.reflect.Field codec = store.getClass().getDeclaredField("codec");
+				codec.setAccessible(true);
+				Assert.assertEquals(JacksonPayloadCodec.class.getName(), codec.get(store).getClass().getName());
+			} finally {
+				store.getClass().getMethod("tearDown").invoke(store);
+			}
+		}
+	}
+
+	/**
+	 * Not existing payload codec can't be configured.
+	 */
+	@Test(expected = LuceneStoreRuntimeException.class)
+	public void wrongPayloadCodecTest() {
+		final LuceneStoreConfig config = new LuceneStoreConfig();
+		config.setPayloadCodec("net.bolbat.kit.lucene.NotExistingCodec");
+		new LuceneStoreImpl<>(StorableVO.class, config);
+	}
+
+	/**
+	 * {@link ClassLoader} what loads store classes itself and hides Smile data format classes.
+	 */
+	private static final class WithoutSmileClassLoader extends URLClassLoader {
+
+		private WithoutSmileClassLoader(final URL[] urls, final ClassLoader parent) {
+			super(urls, parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (name.startsWith("com.fasterxml.jackson.dataformat.smile."))
+				throw new ClassNotFoundException(name);
+			if (!name.startsWith("net.bolbat.kit."))
+				return super.loadClass(name, resolve);
+
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> result = findLoadedClass(name);
+				if (result == null)
+					result = findClass(name);
+				if (resolve)
+					resolveClass(result);
+				return result;
+			}
+		}
+
+	}
+
+	/**
+	 * Fully consumed stream releases searcher without closing, with last page shorter than page size and with empty last page.
+	 */
+	@Test
+	public void streamReleaseTest() throws Exception {
+		for (final int pageSize : new int[] { 10, 3 }) {
+			final LuceneStoreConfig config = new LuceneStoreConfig();
+			config.setDirectoryPath(config.getDirectoryPath() + "-stream-release-" + pageSize);
+			config.setStreamPageSize(pageSize);
+			final LuceneStoreImpl<StorableVO> store = new LuceneStoreImpl<>(StorableVO.class, config);
+			try {
+				for (int i = 0; i < 3; i++)
+					store.add(new StorableVO("bean" + i, "bean" + i + "@beans.com"));
+
+				final int refCount = readerRefCount(store);
+				Assert.assertEquals(3, store.streamAll().count());
+				Assert.assertEquals(refCount, readerRefCount(store));
+			} finally {
+				store.removeAll();
+				store.tearDown();
+			}
+		}
+	}
+
+	private static int readerRefCount(final LuceneStoreImpl<?> store) throws Exception {
+		final java.lang.reflect.Field field = LuceneStoreImpl.class.getDeclaredField("searcherManager");
+		field.setAccessible(true);
+		final SearcherManager manager = (SearcherManager) field.get(store);
+		final IndexSearcher searcher = manager.acquire();
+		try {
+			return searcher.getIndexReader().getRefCount();
+		} finally {
+			manager.release(searcher);
+		}
+	}
+
+	private static int committed(final LuceneStoreConfig config) throws Exception {
+		try (Directory directory = FSDirectory.open(Paths.get(config.getDirectoryPath())); IndexReader reader = DirectoryReader.open(directory)) {
+			return reader.numDocs();
+		}
+	}
+
+	/**
+	 * Streaming test, results are loaded with multiple pages.
+	 */
+	@Test
+	public void streamTest() {
+		final LuceneStoreConfig config = new LuceneStoreConfig();
+		config.setDirectoryPath(config.getDirectoryPath() + "-stream");
+		config.setStreamPageSize(10);
+		final LuceneStore<StorableVO> store = new LuceneStoreImpl<>(StorableVO.class, config);
+		try {
+			final List<String> ids = new ArrayList<>();
+			for (int i = 0; i < 25; i++) {
+				store.add(new StorableVO("bean" + i, "bean" + i + "@beans.com"));
+				ids.add("bean" + i);
+			}
+
+			try (Stream<StorableVO> stream = store.streamAll()) {
+				Assert.assertEquals(new HashSet<>(ids), stream.map(StorableVO::getId).collect(Collectors.toSet()));
+			}
+			try (Stream<StorableVO> stream = store.stream(new PrefixQuery(new Term("email", "bean")), Sort.INDEXORDER)) {
+				Assert.assertEquals(ids, stream.map(StorableVO::getId).collect(Collectors.toList()));
+			}
+			try (Stream<Document> stream = store.streamDocuments(new TermQuery(new Term("email", "bean7@beans.com")))) {
+				Assert.assertEquals(Arrays.asList("bean7"), stream.map(doc -> doc.get("id")).collect(Collectors.toList()));
+			}
+			try (Stream<StorableVO> stream = store.streamAll()) { // partially consumed stream is released on close
+				Assert.assertEquals(3, stream.limit(3).count());
+			}
+			try (Stream<StorableVO> stream = store.stream(new TermQuery(new Term("email", "unknown")))) {
+				Assert.assertEquals(0, stream.count());
+			}
+		} finally {
+			store.removeAll();
+			store.tearDown();
+		}
+	}
+
+	/**
+	 * Concurrent reads and writes test, reads shouldn't fail because of searcher refreshing.
+	 */
+	@Test
+	public void concurrentReadWriteTest() throws Exception {
+		final LuceneStore<StorableVO> store = LuceneStoreManager.getStore(StorableVO.class);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int writer = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < 50; i++) {
+						final StorableVO bean = new StorableVO("bean-" + writer + "-" + i, "bean@beans.com");
+						store.add(bean);
+						Assert.assertEquals(bean, store.get("id", bean.getId())); // own write is visible
+						store.getAll();
+					}
+					// CHECKSTYLE:OFF
+				} catch (final Throwable e) {
+					// CHECKSTYLE:ON
+					error.compareAndSet(null, e);
+				}
+			});
+			threads[t].start();
+		}
+
+		for (final Thread thread : threads)
+			thread.join();
+
+		Assert.assertNull(String.valueOf(error.get()), error.get());
+		Assert.assertEquals(threads.length * 50, store.count());
+	}
+
 	/**
 	 * Error cases test.
 	 */
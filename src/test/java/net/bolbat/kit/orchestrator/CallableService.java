@@ -1,5 +1,9 @@
 package net.bolbat.kit.orchestrator;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,6 +36,8 @@ public interface CallableService extends Service {
 
 	void callWithTimeOut(long time, TimeUnit timeUnit);
 
+	void callWithTimeOut(CountDownLatch latch);
+
 	void callWithTimeOutOnSmallQueue(long time, TimeUnit timeUnit);
 
 	void callWithTimeOutAndConcurrentLimit(long time, TimeUnit timeUnit);
@@ -40,6 +46,14 @@ public interface CallableService extends Service {
 
 	String callAsyncNotVoid(long time, TimeUnit timeUnit);
 
+	CompletableFuture<String> callAsyncFuture(long time, TimeUnit timeUnit);
+
+	CompletionStage<String> callAsyncCompletionStage(long time, TimeUnit timeUnit);
+
+	CompletableFuture<String> callAsyncFutureWithServiceRuntimeException();
+
+	CompletableFuture<String> callAsyncFutureWithError();
+
 	void callAsyncWithTimeOut(long time, TimeUnit timeUnit);
 
 	void callAsyncWithTimeOutOnSmallQueue(long time, TimeUnit timeUnit);
@@ -48,6 +62,54 @@ public interface CallableService extends Service {
 
 	void callOnMaxThreads(CountDownLatch latch, AtomicInteger counter);
 
+	String callOrchestratedByVirtualThreadExecutor();
+
+	String callOrchestratedByPriorityExecutor();
+
+	String callOrchestratedByForkJoinExecutor();
+
+	String callOrchestratedBySharedExecutor();
+
+	String callOrchestratedBySameSharedExecutor();
+
+	String callOrchestratedInline();
+
+	String callInlineWithConcurrentLimit(long time, TimeUnit timeUnit);
+
+	String callInlineWithTimeLimit();
+
+	String callInlineWithRetry(AtomicInteger attempts, int failures);
+
+	void callWithAdaptiveConcurrentLimit(long time, TimeUnit timeUnit);
+
+	int callWithRetry(AtomicInteger attempts, int failures);
+
+	int callWithRetryOnError(AtomicInteger attempts);
+
+	int callWithRetryOnTimeOutOnly(AtomicInteger attempts);
+
+	int callWithHedging(AtomicInteger attempts, long time, TimeUnit timeUnit);
+
+	int callWithHedgingOnNotRetryableError(AtomicInteger attempts, long time, TimeUnit timeUnit);
+
+	int callWithCircuitBreaker(AtomicInteger attempts, boolean fail);
+
+	int callWithCoalescing(AtomicInteger executions, CountDownLatch latch);
+
+	CompletableFuture<Integer> callAsyncWithCoalescing(AtomicInteger executions, CountDownLatch latch);
+
+	String callWithBatching(String id);
+
+	Map<String, String> callBulk(Collection<String> ids);
+
+	int callWithPrimitiveBatching(String id);
+
+	Map<String, Integer> callPrimitiveBulk(Collection<String> ids);
+
+	String callWithMethodHandleCallable(String prefix, int value);
+
+	void callWithMethodHandleCallableAndServiceException() throws ServiceException;
+
 	CallResponce getCallResponce();
 
 	void resetCallResponce();
@@ -1,17 +1,32 @@
 package net.bolbat.kit.orchestrator;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import net.bolbat.kit.orchestrator.CallResponce.State;
 import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationBatch;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCircuitBreaker;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCoalesce;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationExecutor;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.ConcurrentLimit;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
 import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationRetry;
+import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
 import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.impl.callable.MethodHandleCallableFactory;
+import net.bolbat.kit.orchestrator.impl.executor.ForkJoinExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.PriorityExecutorServiceFactory;
 import net.bolbat.kit.orchestrator.impl.executor.SystemExecutorServiceFactory;
+import net.bolbat.kit.orchestrator.impl.executor.VirtualThreadExecutorServiceFactory;
 import net.bolbat.kit.service.ServiceException;
 import net.bolbat.kit.service.ServiceRuntimeException;
 
@@ -95,6 +110,19 @@ public class CallableServiceImpl implements CallableService {
 		callResponce = new CallResponce().setState(State.EXECUTED);
 	}
 
+	@Override
+	@Orchestrate
+	@OrchestrationLimits(time = 100, timeUnit = TimeUnit.MILLISECONDS)
+	public void callWithTimeOut(final CountDownLatch latch) {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			throw new OrchestrationException("execution is interrupted", e);
+		}
+		callResponce = new CallResponce().setState(State.EXECUTED);
+	}
+
 	@Override
 	@Orchestrate
 	@OrchestrationExecutor(maxSize = 1, queueSize = 1)
@@ -131,6 +159,42 @@ public class CallableServiceImpl implements CallableService {
 		return callResponce.getThreadName();
 	}
 
+	@Override
+	@OrchestrationMode(Mode.ASYNC)
+	@OrchestrationLimits(time = 50, timeUnit = TimeUnit.MILLISECONDS)
+	public CompletableFuture<String> callAsyncFuture(final long time, final TimeUnit timeUnit) {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		sleep(time, timeUnit);
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return CompletableFuture.completedFuture(callResponce.getThreadName());
+	}
+
+	@Override
+	@OrchestrationMode(Mode.ASYNC)
+	@OrchestrationLimits(time = 50, timeUnit = TimeUnit.MILLISECONDS)
+	public CompletionStage<String> callAsyncCompletionStage(final long time, final TimeUnit timeUnit) {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		return CompletableFuture.supplyAsync(() -> {
+			sleep(time, timeUnit);
+			callResponce = new CallResponce().setState(State.EXECUTED);
+			return callResponce.getThreadName();
+		});
+	}
+
+	@Override
+	@OrchestrationMode(Mode.ASYNC)
+	public CompletableFuture<String> callAsyncFutureWithServiceRuntimeException() {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		throw new ServiceRuntimeException("custom runtime service exception");
+	}
+
+	@Override
+	@OrchestrationMode(Mode.ASYNC)
+	public CompletableFuture<String> callAsyncFutureWithError() {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		throw new AssertionError("custom error");
+	}
+
 	@Override
 	@Orchestrate
 	@OrchestrationMode(Mode.ASYNC)
@@ -175,6 +239,225 @@ public class CallableServiceImpl implements CallableService {
 		}
 	}
 
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(factory = VirtualThreadExecutorServiceFactory.class, maxSize = 10)
+	public String callOrchestratedByVirtualThreadExecutor() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationMode(priority = 10)
+	@OrchestrationExecutor(factory = PriorityExecutorServiceFactory.class, maxSize = 2)
+	public String callOrchestratedByPriorityExecutor() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(factory = ForkJoinExecutorServiceFactory.class, coreSize = 2)
+	public String callOrchestratedByForkJoinExecutor() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(coreSize = 1, maxSize = 1, queueSize = 10, shared = true)
+	public String callOrchestratedBySharedExecutor() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(coreSize = 1, maxSize = 1, queueSize = 10, shared = true)
+	public String callOrchestratedBySameSharedExecutor() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@OrchestrationMode(Mode.INLINE)
+	@OrchestrationLimits(concurrent = 100)
+	public String callOrchestratedInline() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@OrchestrationMode(Mode.INLINE)
+	@OrchestrationLimits(concurrent = 1)
+	public String callInlineWithConcurrentLimit(final long time, final TimeUnit timeUnit) {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		sleep(time, timeUnit);
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@OrchestrationMode(Mode.INLINE)
+	public String callInlineWithTimeLimit() {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@OrchestrationMode(Mode.INLINE)
+	@OrchestrationLimits
+	@OrchestrationRetry(attempts = 3, backoff = 1)
+	public String callInlineWithRetry(final AtomicInteger attempts, final int failures) {
+		final int attempt = attempts.incrementAndGet();
+		if (attempt <= failures)
+			throw new ServiceRuntimeException("attempt[" + attempt + "] failure");
+
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return callResponce.getThreadName();
+	}
+
+	@Override
+	@OrchestrationLimits(concurrent = 1, concurrentLimit = ConcurrentLimit.AIMD)
+	public void callWithAdaptiveConcurrentLimit(final long time, final TimeUnit timeUnit) {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		sleep(time, timeUnit);
+		callResponce = new CallResponce().setState(State.EXECUTED);
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(callableFactory = MethodHandleCallableFactory.class)
+	public String callWithMethodHandleCallable(final String prefix, final int value) {
+		callResponce = new CallResponce().setState(State.EXECUTED);
+		return prefix + value + "|" + callResponce.getThreadName();
+	}
+
+	@Override
+	@Orchestrate
+	@OrchestrationExecutor(callableFactory = MethodHandleCallableFactory.class)
+	public void callWithMethodHandleCallableAndServiceException() throws ServiceException {
+		callResponce = new CallResponce().setState(State.INITIATED);
+		throw new ServiceException("custom checked service exception");
+	}
+
+	@Override
+	@OrchestrationRetry(attempts = 3, backoff = 1)
+	public int callWithRetry(final AtomicInteger attempts, final int failures) {
+		final int attempt = attempts.incrementAndGet();
+		if (attempt <= failures)
+			throw new ServiceRuntimeException("attempt[" + attempt + "] failure");
+
+		return attempt;
+	}
+
+	@Override
+	@OrchestrationRetry(attempts = 3, backoff = 1)
+	public int callWithRetryOnError(final AtomicInteger attempts) {
+		throw new AssertionError("attempt[" + attempts.incrementAndGet() + "] error");
+	}
+
+	@Override
+	@OrchestrationRetry(attempts = 3, retryOn = ExecutionTimeoutException.class)
+	public int callWithRetryOnTimeOutOnly(final AtomicInteger attempts) {
+		final int attempt = attempts.incrementAndGet();
+		throw new ServiceRuntimeException("attempt[" + attempt + "] failure");
+	}
+
+	@Override
+	@OrchestrationRetry(attempts = 2, hedgePercentile = 90)
+	public int callWithHedging(final AtomicInteger attempts, final long time, final TimeUnit timeUnit) {
+		final int attempt = attempts.incrementAndGet();
+		if (attempt == 1)
+			sleep(time, timeUnit);
+
+		return attempt;
+	}
+
+	@Override
+	@OrchestrationRetry(attempts = 2, hedgePercentile = 90, retryOn = ExecutionTimeoutException.class)
+	public int callWithHedgingOnNotRetryableError(final AtomicInteger attempts, final long time, final TimeUnit timeUnit) {
+		final int attempt = attempts.incrementAndGet();
+		if (attempt == 1 && time > 0) {
+			sleep(time, timeUnit);
+			throw new ServiceRuntimeException("attempt[" + attempt + "] failure");
+		}
+
+		if (attempt == 2)
+			sleep(time * 2, timeUnit);
+
+		return attempt;
+	}
+
+	@Override
+	@OrchestrationCircuitBreaker(window = 10, minExecutions = 5, openTime = 200, halfOpenExecutions = 2)
+	public int callWithCircuitBreaker(final AtomicInteger attempts, final boolean fail) {
+		final int attempt = attempts.incrementAndGet();
+		if (fail)
+			throw new ServiceRuntimeException("attempt[" + attempt + "] failure");
+
+		return attempt;
+	}
+
+	@Override
+	@OrchestrationCoalesce
+	public int callWithCoalescing(final AtomicInteger executions, final CountDownLatch latch) {
+		final int execution = executions.incrementAndGet();
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			throw new OrchestrationException("execution is interrupted", e);
+		}
+
+		return execution;
+	}
+
+	@Override
+	@OrchestrationCoalesce
+	@OrchestrationMode(Mode.ASYNC)
+	public CompletableFuture<Integer> callAsyncWithCoalescing(final AtomicInteger executions, final CountDownLatch latch) {
+		final int execution = executions.incrementAndGet();
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException e) {
+			throw new OrchestrationException("execution is interrupted", e);
+		}
+
+		return CompletableFuture.completedFuture(execution);
+	}
+
+	@Override
+	@OrchestrationBatch(method = "callBulk", maxSize = 5, maxDelay = 200)
+	public String callWithBatching(final String id) {
+		throw new IllegalStateException("should be batched");
+	}
+
+	@Override
+	public Map<String, String> callBulk(final Collection<String> ids) {
+		final Map<String, String> result = new HashMap<>();
+		for (final String id : ids)
+			result.put(id, id + "-" + ids.size());
+
+		return result;
+	}
+
+	@Override
+	@OrchestrationBatch(method = "callPrimitiveBulk", maxSize = 5, maxDelay = 10)
+	public int callWithPrimitiveBatching(final String id) {
+		throw new IllegalStateException("should be batched");
+	}
+
+	@Override
+	public Map<String, Integer> callPrimitiveBulk(final Collection<String> ids) {
+		final Map<String, Integer> result = new HashMap<>();
+		for (final String id : ids)
+			if (!id.startsWith("missing"))
+				result.put(id, id.length());
+
+		return result;
+	}
+
 	private static void sleep(final long time, final TimeUnit timeUnit) {
 		try {
 			Thread.sleep(timeUnit.toMillis(time));
@@ -0,0 +1,67 @@
+package net.bolbat.kit.orchestrator;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+import net.bolbat.kit.orchestrator.impl.proxy.GeneratedProxy;
+
+/**
+ * {@link Orchestrator} test with {@link ProxyEngine#GENERATED} proxies, all {@link OrchestratorTest} cases are executed on generated proxy.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class GeneratedProxyOrchestratorTest extends OrchestratorTest {
+
+	@BeforeClass
+	public static void beforeClass() {
+		service = OrchestratorFactory.get(ProxyEngine.GENERATED).init(new CallableServiceImpl());
+		service.callAsyncVoid(0, TimeUnit.MILLISECONDS); // warmup async executor
+	}
+
+	@Test
+	public void generatedProxy() {
+		Assert.assertTrue(service instanceof GeneratedProxy);
+		Assert.assertSame(OrchestratorFactory.get(ProxyEngine.GENERATED), OrchestratorFactory.get(ProxyEngine.GENERATED));
+		Assert.assertNotSame(OrchestratorFactory.get(ProxyEngine.GENERATED), OrchestratorFactory.get(ProxyEngine.REFLECT));
+	}
+
+	@Override
+	@Test(timeout = 1000L)
+	public void callOnMaxThreads() {
+		// same as in parent test, but without minimal time expectation what isn't met on warmed up JVM
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		final int threads = 4;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int i = 0; i < threads; i++) {
+				executor.submit(() -> {
+					service.callOnMaxThreads(latch, counter);
+				});
+			}
+
+			Awaitility.await()
+					.atMost(500L, TimeUnit.MILLISECONDS)
+					.pollDelay(1L, TimeUnit.MILLISECONDS)
+					.untilAtomic(counter, equalTo(2));
+			Assert.assertEquals(2, counter.get()); // max threads limit
+
+			latch.countDown();
+		} finally {
+			ExecutionUtils.terminate(executor);
+		}
+	}
+
+}
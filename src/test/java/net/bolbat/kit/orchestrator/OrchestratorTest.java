@@ -5,7 +5,9 @@ import static org.hamcrest.Matchers.equalTo;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -23,11 +25,16 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import net.bolbat.kit.orchestrator.exception.CircuitBreakerOpenException;
 import net.bolbat.kit.orchestrator.exception.ConcurrentOverflowException;
 import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
 import net.bolbat.kit.orchestrator.exception.ExecutorOverflowException;
 import net.bolbat.kit.orchestrator.exception.OrchestrationException;
+import net.bolbat.kit.orchestrator.impl.ExecutionInfo;
 import net.bolbat.kit.orchestrator.impl.ExecutionUtils;
+import net.bolbat.kit.orchestrator.impl.metrics.ExecutionMetrics.Outcome;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSink;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSnapshot;
 import net.bolbat.kit.service.ServiceException;
 import net.bolbat.kit.service.ServiceRuntimeException;
 import net.bolbat.utils.annotation.Mark.ToDo;
@@ -41,7 +48,7 @@ import net.bolbat.utils.annotation.Mark.ToDo;
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class OrchestratorTest {
 
-	private static CallableService service;
+	protected static CallableService service;
 
 	@BeforeClass
 	public static void beforeClass() {
@@ -71,6 +78,18 @@ public class OrchestratorTest {
 		Assert.assertEquals(Thread.currentThread().getName(), threadName);
 	}
 
+	@Test
+	public void threadNameForNotAnnotatedImplementation() throws Exception {
+		final Callable<String> target = new Callable<String>() {
+			@Override
+			public String call() {
+				return Thread.currentThread().getName();
+			}
+		};
+		final Callable<String> proxy = OrchestratorFactory.getDefault().init(target);
+		Assert.assertEquals(Thread.currentThread().getName(), proxy.call());
+	}
+
 	@Test
 	public void threadNameForEnabledOrchestration() {
 		final String threadName = service.callOrchestrated();
@@ -95,6 +114,41 @@ public class OrchestratorTest {
 		Assert.assertTrue(threadName.startsWith("Orchestrator[system]-"));
 	}
 
+	@Test
+	public void threadNameForOrchestrationWithVirtualThreadExecutor() {
+		final String threadName = service.callOrchestratedByVirtualThreadExecutor();
+		Assert.assertNotNull(threadName);
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertTrue(threadName.contains("-n[CallableServiceImpl.callOrchestratedByVirtualThreadExecutor()]-"));
+	}
+
+	@Test
+	public void threadNameForOrchestrationWithPriorityExecutor() {
+		final String threadName = service.callOrchestratedByPriorityExecutor();
+		Assert.assertNotNull(threadName);
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertTrue(threadName.contains("-n[CallableServiceImpl.callOrchestratedByPriorityExecutor()]-"));
+	}
+
+	@Test
+	public void threadNameForOrchestrationWithForkJoinExecutor() {
+		final String threadName = service.callOrchestratedByForkJoinExecutor();
+		Assert.assertNotNull(threadName);
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertTrue(threadName.contains("-n[CallableServiceImpl.callOrchestratedByForkJoinExecutor()]-"));
+	}
+
+	@Test
+	public void threadNameForOrchestrationWithSharedExecutor() {
+		final String threadName = service.callOrchestratedBySharedExecutor();
+		Assert.assertNotNull(threadName);
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertTrue(threadName.contains("-n[shared]-"));
+
+		// same configuration, same single thread pool
+		Assert.assertEquals(threadName, service.callOrchestratedBySameSharedExecutor());
+	}
+
 	@Test
 	@Ignore("Test is not stable and periodically failing on build system, should be fixed") // TODO
 	public void callOnMethodLimitsAndClassExecutor() throws Exception {
@@ -216,16 +270,19 @@ public class OrchestratorTest {
 
 	@Test
 	public void callTimeOut() {
-		service.callWithTimeOut(1, TimeUnit.MILLISECONDS);
+		service.callWithTimeOut(new CountDownLatch(0));
 
+		final CountDownLatch latch = new CountDownLatch(1);
 		try {
-			service.callWithTimeOut(10, TimeUnit.MILLISECONDS);
+			service.callWithTimeOut(latch);
 			Assert.fail();
 		} catch (final ExecutionTimeoutException e) {
 			final boolean checkResult = e.getMessage().endsWith("message[timeout is reached]");
 			Assert.assertTrue(checkResult);
 			if (!checkResult) // debug logging
 				System.out.println("DEBUG: " + e);
+		} finally {
+			latch.countDown();
 		}
 	}
 
@@ -268,39 +325,13 @@ public class OrchestratorTest {
 
 	@Test
 	public void callOnConcurrentLimit() throws Exception {
-		final CountDownLatch startLatch = new CountDownLatch(1);
-		final CountDownLatch finishLatch = new CountDownLatch(2);
-
-		final ExecutorService executor = Executors.newCachedThreadPool();
-		final CallTask task = new CallTask(startLatch, finishLatch, new Callable<Object>() {
+		checkConcurrentLimit(new Callable<Object>() {
 			@Override
 			public Object call() throws Exception {
 				service.callWithTimeOutAndConcurrentLimit(5, TimeUnit.MILLISECONDS);
 				return null;
 			}
 		});
-		final List<Future<Boolean>> futures = new ArrayList<>();
-		for (int i = 0; i < 5; i++)
-			futures.add(executor.submit(task));
-
-		startLatch.countDown();
-		finishLatch.await();
-
-		int succesfull = 0;
-		int failed = 0;
-		for (final Future<Boolean> future : futures) {
-			if (future.get())
-				succesfull++;
-			else
-				failed++;
-		}
-
-		Assert.assertNotEquals(5, succesfull);
-		Assert.assertNotEquals(0, failed);
-		Assert.assertNotEquals(5, failed);
-		Assert.assertEquals(true, task.call());
-
-		executor.shutdownNow();
 	}
 
 	@Test
@@ -331,27 +362,114 @@ public class OrchestratorTest {
 	}
 
 	@Test
-	@Ignore
+	public void callAsyncFuture() throws Exception {
+		final CompletableFuture<String> future = service.callAsyncFuture(10, TimeUnit.MILLISECONDS);
+		Assert.assertFalse(future.isDone());
+
+		final String threadName = future.get();
+		Assert.assertEquals(CallResponce.State.EXECUTED, service.getCallResponce().getState());
+		Assert.assertTrue("threadName: " + threadName, threadName.startsWith("Orchestrator["));
+		Assert.assertTrue("threadName: " + threadName, threadName.contains("]-n[CallableServiceImpl]-"));
+	}
+
+	@Test
+	public void callAsyncCompletionStage() throws Exception {
+		final String threadName = service.callAsyncCompletionStage(5, TimeUnit.MILLISECONDS).toCompletableFuture().get();
+		Assert.assertEquals(CallResponce.State.EXECUTED, service.getCallResponce().getState());
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+	}
+
+	@Test
+	public void callAsyncFutureWithTimeOut() throws Exception {
+		final CompletableFuture<String> future = service.callAsyncFuture(200, TimeUnit.MILLISECONDS);
+		try {
+			future.get();
+			Assert.fail();
+		} catch (final ExecutionException e) {
+			Assert.assertTrue("cause: " + e.getCause(), e.getCause() instanceof ExecutionTimeoutException);
+			Assert.assertTrue(e.getCause().getMessage().endsWith("message[timeout is reached]"));
+		}
+
+		sleep(5, TimeUnit.MILLISECONDS);
+		Assert.assertEquals(CallResponce.State.INITIATED, service.getCallResponce().getState()); // execution is cancelled
+	}
+
+	@Test
+	public void callAsyncFutureWithServiceRuntimeException() throws Exception {
+		try {
+			service.callAsyncFutureWithServiceRuntimeException().get();
+			Assert.fail();
+		} catch (final ExecutionException e) {
+			Assert.assertTrue("cause: " + e.getCause(), e.getCause() instanceof ServiceRuntimeException);
+			Assert.assertEquals("custom runtime service exception", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void callAsyncFutureWithError() throws Exception {
+		try {
+			service.callAsyncFutureWithError().get(5, TimeUnit.SECONDS);
+			Assert.fail();
+		} catch (final ExecutionException e) {
+			Assert.assertTrue("cause: " + e.getCause(), e.getCause() instanceof AssertionError);
+			Assert.assertEquals("custom error", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void callWithRetryOnError() {
+		final AtomicInteger attempts = new AtomicInteger();
+		try {
+			service.callWithRetryOnError(attempts);
+			Assert.fail();
+		} catch (final AssertionError e) {
+			Assert.assertEquals("attempt[1] error", e.getMessage());
+		}
+		Assert.assertEquals(1, attempts.get());
+	}
+
+	@Test
 	public void callAsyncWithNotReachedTimeOut() {
-		Assert.fail("Implement me");
+		service.callAsyncWithTimeOut(1, TimeUnit.MILLISECONDS);
+
+		Awaitility.await()
+				.atMost(500L, TimeUnit.MILLISECONDS)
+				.pollDelay(1L, TimeUnit.MILLISECONDS)
+				.until(() -> service.getCallResponce().getState() == CallResponce.State.EXECUTED);
 	}
 
 	@Test
-	@Ignore
 	public void callAsyncWithReachedTimeOut() {
-		Assert.fail("Implement me");
+		service.callAsyncWithTimeOut(50, TimeUnit.MILLISECONDS);
+
+		sleep(100, TimeUnit.MILLISECONDS);
+
+		final CallResponce resp = service.getCallResponce();
+		Assert.assertEquals("response: " + resp, CallResponce.State.INITIATED, resp.getState()); // execution is cancelled on timeout
 	}
 
 	@Test
-	@Ignore
 	public void callAsyncWithNotReachedQueueLimit() {
-		Assert.fail("Implement me");
+		service.callAsyncWithTimeOutOnSmallQueue(5, TimeUnit.MILLISECONDS);
+
+		Awaitility.await()
+				.atMost(500L, TimeUnit.MILLISECONDS)
+				.pollDelay(1L, TimeUnit.MILLISECONDS)
+				.until(() -> service.getCallResponce().getState() == CallResponce.State.EXECUTED);
 	}
 
 	@Test
-	@Ignore
 	public void callAsyncWithReachedQueueLimit() {
-		Assert.fail("Implement me");
+		try {
+			for (int i = 0; i < 5; i++) // one executing, one queued
+				service.callAsyncWithTimeOutOnSmallQueue(50, TimeUnit.MILLISECONDS);
+
+			Assert.fail();
+		} catch (final ExecutorOverflowException e) {
+			Assert.assertTrue(e.getMessage().endsWith("message[executor queue is full]"));
+		}
+
+		sleep(150, TimeUnit.MILLISECONDS); // waiting for accepted executions
 	}
 
 	@Test
@@ -392,6 +510,333 @@ public class OrchestratorTest {
 		}
 	}
 
+	@Test
+	public void threadNameForInlineOrchestration() {
+		final String threadName = service.callOrchestratedInline();
+		Assert.assertEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertEquals(CallResponce.State.EXECUTED, service.getCallResponce().getState());
+	}
+
+	@Test
+	public void threadNameForInlineOrchestrationWithTimeLimit() {
+		final String threadName = service.callInlineWithTimeLimit(); // class time limit is inherited, falling back to 'SYNC'
+		Assert.assertNotEquals(Thread.currentThread().getName(), threadName);
+		Assert.assertTrue(threadName.contains("-n[CallableServiceImpl]-"));
+	}
+
+	@Test
+	public void callInlineWithRetry() {
+		final AtomicInteger attempts = new AtomicInteger();
+		Assert.assertEquals(Thread.currentThread().getName(), service.callInlineWithRetry(attempts, 2));
+		Assert.assertEquals(3, attempts.get());
+
+		attempts.set(0);
+		try {
+			service.callInlineWithRetry(attempts, 3);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final ServiceRuntimeException e) {
+			Assert.assertEquals("attempt[3] failure", e.getMessage());
+		}
+		Assert.assertEquals(3, attempts.get());
+	}
+
+	@Test
+	public void callInlineOnConcurrentLimit() throws Exception {
+		checkConcurrentLimit(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				service.callInlineWithConcurrentLimit(5, TimeUnit.MILLISECONDS);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void callOnAdaptiveConcurrentLimit() throws Exception {
+		checkConcurrentLimit(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				service.callWithAdaptiveConcurrentLimit(5, TimeUnit.MILLISECONDS);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void callWithRetry() {
+		final AtomicInteger attempts = new AtomicInteger();
+		Assert.assertEquals(3, service.callWithRetry(attempts, 2));
+		Assert.assertEquals(3, attempts.get());
+
+		attempts.set(0);
+		try {
+			service.callWithRetry(attempts, 3);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final ServiceRuntimeException e) {
+			Assert.assertEquals("attempt[3] failure", e.getMessage());
+		}
+		Assert.assertEquals(3, attempts.get());
+	}
+
+	@Test
+	public void callWithRetryOnNotRetryableError() {
+		final AtomicInteger attempts = new AtomicInteger();
+		try {
+			service.callWithRetryOnTimeOutOnly(attempts);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final ServiceRuntimeException e) {
+			Assert.assertEquals("attempt[1] failure", e.getMessage());
+		}
+		Assert.assertEquals(1, attempts.get());
+	}
+
+	@Test
+	public void callWithHedging() {
+		for (int i = 0; i < 200; i++) // measuring execution time for hedging
+			service.callWithHedging(new AtomicInteger(), 0, TimeUnit.MILLISECONDS);
+
+		final AtomicInteger attempts = new AtomicInteger();
+		final long started = System.currentTimeMillis();
+		Assert.assertEquals(2, service.callWithHedging(attempts, 500, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(System.currentTimeMillis() - started < 400);
+		Assert.assertEquals(2, attempts.get());
+		Assert.assertTrue(findMetrics("callWithHedging(java.util.concurrent.atomic.AtomicInteger,long,java.util.concurrent.TimeUnit)").getHedges() >= 1);
+	}
+
+	@Test
+	public void callWithHedgingOnNotRetryableError() {
+		for (int i = 0; i < 200; i++) // measuring execution time for hedging
+			service.callWithHedgingOnNotRetryableError(new AtomicInteger(), 0, TimeUnit.MILLISECONDS);
+
+		// first attempt fails with not retryable error while hedged attempt is still in progress
+		final AtomicInteger attempts = new AtomicInteger();
+		Assert.assertEquals(2, service.callWithHedgingOnNotRetryableError(attempts, 100, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(2, attempts.get());
+	}
+
+	@Test
+	public void callWithCircuitBreaker() {
+		final AtomicInteger attempts = new AtomicInteger();
+		for (int i = 0; i < 5; i++) {
+			try {
+				service.callWithCircuitBreaker(attempts, true);
+				Assert.fail("Exception shoud be thrown before this step.");
+			} catch (final ServiceRuntimeException e) {
+				Assert.assertEquals("attempt[" + (i + 1) + "] failure", e.getMessage());
+			}
+		}
+
+		// circuit is open, executions are rejected without invocation
+		try {
+			service.callWithCircuitBreaker(attempts, false);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final CircuitBreakerOpenException e) {
+			Assert.assertTrue(e instanceof CircuitBreakerOpenException);
+		}
+		Assert.assertEquals(5, attempts.get());
+		Assert.assertEquals(1, findMetrics("callWithCircuitBreaker(java.util.concurrent.atomic.AtomicInteger,boolean)").getCircuitOpen());
+
+		// circuit is half-open after open time, successful trial executions are closing it
+		Awaitility.await().atMost(2, TimeUnit.SECONDS).until(new Callable<Boolean>() {
+			@Override
+			public Boolean call() {
+				try {
+					service.callWithCircuitBreaker(attempts, false);
+					return true;
+				} catch (final CircuitBreakerOpenException e) {
+					return false;
+				}
+			}
+		});
+		for (int i = 0; i < 10; i++)
+			service.callWithCircuitBreaker(attempts, false);
+	}
+
+	@Test
+	public void callWithCoalescing() throws Exception {
+		final String method = "callWithCoalescing(java.util.concurrent.atomic.AtomicInteger,java.util.concurrent.CountDownLatch)";
+		final long coalesced = findMetrics(method).getCoalesced();
+		final AtomicInteger executions = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final ExecutorService callers = Executors.newFixedThreadPool(5);
+		try {
+			final List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 5; i++)
+				results.add(callers.submit(() -> service.callWithCoalescing(executions, latch)));
+
+			Awaitility.await()
+					.atMost(2, TimeUnit.SECONDS)
+					.pollDelay(1L, TimeUnit.MILLISECONDS)
+					.until(() -> findMetrics(method).getCoalesced() - coalesced == 4);
+			latch.countDown();
+
+			for (final Future<Integer> result : results)
+				Assert.assertEquals(1, result.get().intValue());
+			Assert.assertEquals(1, executions.get());
+		} finally {
+			callers.shutdownNow();
+		}
+
+		// call with other arguments isn't coalesced
+		Assert.assertEquals(1, service.callWithCoalescing(new AtomicInteger(), latch));
+		Assert.assertEquals(2, service.callWithCoalescing(executions, latch));
+	}
+
+	@Test
+	public void callAsyncWithCoalescing() throws Exception {
+		final AtomicInteger executions = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final CompletableFuture<Integer> first = service.callAsyncWithCoalescing(executions, latch);
+		final CompletableFuture<Integer> second = service.callAsyncWithCoalescing(executions, latch);
+		Assert.assertNotSame(first, second);
+
+		// cancellation of one caller doesn't affect other coalesced caller
+		Assert.assertTrue(first.cancel(true));
+		latch.countDown();
+		Assert.assertEquals(Integer.valueOf(1), second.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(first.isCancelled());
+		Assert.assertEquals(1, executions.get());
+	}
+
+	@Test
+	public void callWithBatching() throws Exception {
+		final ExecutorService callers = Executors.newFixedThreadPool(5);
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				final String id = "id" + i;
+				results.add(callers.submit(() -> service.callWithBatching(id)));
+			}
+
+			// maximum batch size is reached, all calls are dispatched as one bulk call
+			for (int i = 0; i < 5; i++)
+				Assert.assertEquals("id" + i + "-5", results.get(i).get(1, TimeUnit.SECONDS));
+		} finally {
+			callers.shutdownNow();
+		}
+
+		// maximum delay is reached
+		Assert.assertEquals("id-1", service.callWithBatching("id"));
+	}
+
+	@Test
+	public void callWithPrimitiveBatching() {
+		Assert.assertEquals(3, service.callWithPrimitiveBatching("id1"));
+		try {
+			service.callWithPrimitiveBatching("missing1");
+			Assert.fail("should fail on missing result");
+		} catch (final OrchestrationException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("argument[missing1]"));
+		}
+	}
+
+	@Test
+	public void metrics() {
+		final AtomicInteger latencies = new AtomicInteger();
+		final AtomicInteger timeouts = new AtomicInteger();
+		OrchestratorFactory.setMetricsSink(new MetricsSink() {
+			@Override
+			public void onLatency(final ExecutionInfo info, final long queueWait, final long execution) {
+				latencies.incrementAndGet();
+			}
+
+			@Override
+			public void onOutcome(final ExecutionInfo info, final Outcome outcome) {
+				if (outcome == Outcome.TIMEOUT)
+					timeouts.incrementAndGet();
+			}
+		});
+		try {
+			for (int i = 0; i < 10; i++)
+				service.callWithMethodHandleCallable("value-", i);
+			try {
+				service.callWithTimeOut(50, TimeUnit.MILLISECONDS);
+				Assert.fail("Exception shoud be thrown before this step.");
+			} catch (final ExecutionTimeoutException e) {
+				Assert.assertTrue(e instanceof ExecutionTimeoutException);
+			}
+		} finally {
+			OrchestratorFactory.setMetricsSink(null);
+		}
+		Assert.assertTrue("latencies: " + latencies.get(), latencies.get() >= 10);
+		Assert.assertEquals(1, timeouts.get());
+
+		final MetricsSnapshot callMetrics = findMetrics("callWithMethodHandleCallable(java.lang.String,int)");
+		Assert.assertTrue(callMetrics.toString(), callMetrics.getSuccessful() >= 10);
+		Assert.assertEquals(callMetrics.toString(), callMetrics.getSuccessful(), callMetrics.getExecution().getCount());
+		Assert.assertEquals(callMetrics.toString(), callMetrics.getSuccessful(), callMetrics.getQueueWait().getCount());
+		Assert.assertTrue(callMetrics.toString(), callMetrics.getExecution().getP99() <= callMetrics.getExecution().getMax());
+
+		final MetricsSnapshot timeoutMetrics = findMetrics("callWithTimeOut(long,java.util.concurrent.TimeUnit)");
+		Assert.assertTrue(timeoutMetrics.toString(), timeoutMetrics.getTimedOut() >= 1);
+	}
+
+	private static MetricsSnapshot findMetrics(final String method) {
+		for (final MetricsSnapshot snapshot : OrchestratorFactory.getDefault().getMetrics(service))
+			if (snapshot.getName().endsWith("." + method))
+				return snapshot;
+
+		Assert.fail("Metrics for method[" + method + "] not found.");
+		return null;
+	}
+
+	@Test
+	public void callWithMethodHandleCallable() {
+		final String result = service.callWithMethodHandleCallable("value-", 1);
+		Assert.assertNotNull(result);
+		Assert.assertTrue("result: " + result, result.startsWith("value-1|Orchestrator["));
+		Assert.assertTrue("result: " + result, result.contains("-n[CallableServiceImpl.callWithMethodHandleCallable(java.lang.String,int)]-"));
+		Assert.assertEquals(CallResponce.State.EXECUTED, service.getCallResponce().getState());
+	}
+
+	@Test
+	public void callWithMethodHandleCallableAndServiceException() {
+		try {
+			service.callWithMethodHandleCallableAndServiceException();
+			Assert.fail();
+		} catch (final ServiceException e) {
+			Assert.assertEquals("custom checked service exception", e.getMessage());
+		}
+	}
+
+	/**
+	 * Check that concurrent calls are partially rejected by concurrent limit and limit is released after calls.
+	 * 
+	 * @param call
+	 *            call
+	 * @throws Exception
+	 *             if check failed
+	 */
+	private static void checkConcurrentLimit(final Callable<Object> call) throws Exception {
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		final CountDownLatch finishLatch = new CountDownLatch(2);
+
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		final CallTask task = new CallTask(startLatch, finishLatch, call);
+		final List<Future<Boolean>> futures = new ArrayList<>();
+		for (int i = 0; i < 5; i++)
+			futures.add(executor.submit(task));
+
+		startLatch.countDown();
+		finishLatch.await();
+
+		int succesfull = 0;
+		int failed = 0;
+		for (final Future<Boolean> future : futures) {
+			if (future.get())
+				succesfull++;
+			else
+				failed++;
+		}
+
+		Assert.assertNotEquals(5, succesfull);
+		Assert.assertNotEquals(0, failed);
+		Assert.assertNotEquals(5, failed);
+		Assert.assertEquals(true, task.call());
+
+		executor.shutdownNow();
+	}
+
 	private static void sleep(final long time, final TimeUnit timeUnit) {
 		try {
 			Thread.sleep(timeUnit.toMillis(time));
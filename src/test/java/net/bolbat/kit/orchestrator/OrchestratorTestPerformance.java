@@ -47,6 +47,8 @@ public class OrchestratorTestPerformance {
 	private static double case3Avg = 0;
 	private static double case5Time = 0;
 	private static double case5Avg = 0;
+	private static double case7Time = 0;
+	private static double case7Avg = 0;
 
 	@BeforeClass
 	public static void beforeClass() {
@@ -121,6 +123,26 @@ public class OrchestratorTestPerformance {
 		});
 	}
 
+	@Test
+	public void case7OrchestratedInline() throws Exception {
+		execute(Cases.CASE7, EXECUTIONS, 1, new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				return orchestratedService.callOrchestratedInline();
+			}
+		});
+	}
+
+	@Test
+	public void case8MultithreadedOrchestratedInline() throws Exception {
+		execute(Cases.CASE8, EXECUTIONS, THREADS, new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				return orchestratedService.callOrchestratedInline();
+			}
+		});
+	}
+
 	private void execute(final Cases c, final int executions, final int threads, final Callable<String> callable) throws Exception {
 		final String callableThreadName = callable.call();
 
@@ -242,6 +264,29 @@ public class OrchestratorTestPerformance {
 				avgErrorMsg = "avg[" + avg + "] should be less than maxAvg[" + maxAvg + " (" + case5Avg + " * " + 3 + ")]";
 				Assert.assertTrue(avgErrorMsg, avg < maxAvg);
 				break;
+			case CASE7:
+				case7Time = time;
+				case7Avg = avg;
+
+				// no executor hand off, should be close to orchestrated direct execution
+				maxTime = case1Time * 20;
+				timeErrorMsg = "time[" + time + "] should be less than maxTime[" + maxTime + " (" + case1Time + " * " + 20 + ")]";
+				Assert.assertTrue(timeErrorMsg, time < maxTime);
+
+				maxAvg = case1Avg * 20;
+				avgErrorMsg = "avg[" + avg + "] should be less than maxAvg[" + maxAvg + " (" + case1Avg + " * " + 20 + ")]";
+				Assert.assertTrue(avgErrorMsg, avg < maxAvg);
+				break;
+			case CASE8: // multi-threaded
+				maxTime = case7Time * 2; // basically maxTime should be less then case1Time, but sometimes it a little bit higher on small executions amount
+				timeErrorMsg = "time[" + time + "] should be less than maxTime[" + maxTime + " (" + case7Time + " * " + 2 + ")]";
+				Assert.assertTrue(timeErrorMsg, time < maxTime);
+
+				// in multi-threaded execution 'avg' can be bigger, but not much
+				maxAvg = case7Avg * 3;
+				avgErrorMsg = "avg[" + avg + "] should be less than maxAvg[" + maxAvg + " (" + case7Avg + " * " + 3 + ")]";
+				Assert.assertTrue(avgErrorMsg, avg < maxAvg);
+				break;
 			default:
 				break;
 		}
@@ -290,7 +335,9 @@ public class OrchestratorTestPerformance {
 		CASE3("ORCHESTRATED-DIRECT"), //
 		CASE4("M-ORCHESTRATED-DIRECT"), //
 		CASE5("ORCHESTRATED"), //
-		CASE6("M-ORCHESTRATED");
+		CASE6("M-ORCHESTRATED"), //
+		CASE7("ORCHESTRATED-INLINE"), //
+		CASE8("M-ORCHESTRATED-INLINE");
 
 		private final String name;
 
@@ -0,0 +1,265 @@
+package net.bolbat.kit.orchestrator.impl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+import net.bolbat.kit.orchestrator.OrchestrationConstants;
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationCoalesce;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationExecutor;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
+
+/**
+ * {@link ExecutionCaches} test.
+ *
+ * @author Alexandr Bolbat
+ */
+public class ExecutionCachesTest {
+
+	@After
+	public void after() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Test
+	public void sharedExecutor() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(1);
+		config.setMaxSize(1);
+		config.setShared(true);
+		final ExecutorConfig otherConfig = new ExecutorConfig();
+		otherConfig.setCoreSize(2);
+		otherConfig.setMaxSize(2);
+		otherConfig.setShared(true);
+
+		final ExecutorService first = ExecutionCaches.acquireSharedExecutor("first", config);
+		final ExecutorService second = ExecutionCaches.acquireSharedExecutor("second", config);
+		final ExecutorService other = ExecutionCaches.acquireSharedExecutor("other", otherConfig);
+		Assert.assertSame(first, second);
+		Assert.assertSame(first, ExecutionCaches.acquireSharedExecutor("first", config)); // acquired once per execution
+		Assert.assertNotSame(first, other);
+
+		ExecutionCaches.shutdownExecutor("first");
+		ExecutionCaches.shutdownExecutor("first"); // nothing to release
+		Assert.assertSame(first, ExecutionCaches.getExecutor("second"));
+		waitForRetirement();
+		Assert.assertFalse(first.isShutdown());
+
+		ExecutionCaches.shutdownExecutor("second");
+		waitForRetirement();
+		Assert.assertTrue(first.isShutdown());
+		Assert.assertFalse(other.isShutdown());
+	}
+
+	@Test
+	public void concurrentSharedExecutor() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(1);
+		config.setMaxSize(1);
+		config.setShared(true);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<ExecutorService>> results = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				final String id = "concurrent-" + (i % 4); // same executions are acquiring concurrently
+				results.add(executor.submit(() -> {
+					start.await();
+					return ExecutionCaches.acquireSharedExecutor(id, config);
+				}));
+			}
+
+			start.countDown();
+			final ExecutorService shared = results.get(0).get(1, TimeUnit.SECONDS);
+			for (final Future<ExecutorService> result : results)
+				Assert.assertSame(shared, result.get(1, TimeUnit.SECONDS));
+
+			final CountDownLatch release = new CountDownLatch(1);
+			final List<Future<?>> releases = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				final String id = "concurrent-" + i;
+				releases.add(executor.submit(() -> {
+					release.await();
+					ExecutionCaches.shutdownExecutor(id);
+					return null;
+				}));
+			}
+
+			release.countDown();
+			for (final Future<?> result : releases)
+				result.get(1, TimeUnit.SECONDS);
+
+			waitForRetirement();
+			Assert.assertTrue(shared.isShutdown());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void drainOnReplace() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(1);
+		config.setMaxSize(1);
+		config.setQueueSize(10);
+		final ExecutorService old = ExecutionUtils.create(config, "test", "old");
+		ExecutionCaches.cacheExecutor("drain", old);
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Future<String> running = old.submit(() -> {
+			started.countDown();
+			latch.await();
+			return "done";
+		});
+		started.await();
+
+		final ExecutorService replacement = ExecutionUtils.create(config, "test", "new");
+		ExecutionCaches.cacheExecutor("drain", replacement);
+		Assert.assertSame(replacement, ExecutionCaches.getExecutor("drain"));
+		Assert.assertFalse(old.isShutdown());
+		final Future<String> queued = old.submit(() -> "queued"); // racing submission still lands on old executor
+
+		waitForRetirement();
+		Assert.assertTrue(old.isShutdown());
+		Assert.assertFalse(running.isDone());
+
+		latch.countDown();
+		Assert.assertEquals("done", running.get(1, TimeUnit.SECONDS));
+		Assert.assertEquals("queued", queued.get(1, TimeUnit.SECONDS));
+		Assert.assertTrue(old.awaitTermination(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void concurrentInfoResolving() throws Exception {
+		final WarmedUpServiceImpl impl = new WarmedUpServiceImpl();
+		final Method method = WarmedUpService.class.getMethod("call");
+		final String instanceId = ExecutionUtils.objectId(impl);
+		final String methodId = ExecutionUtils.methodId(impl, method);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<ExecutionInfo>> results = new ArrayList<>();
+			for (int i = 0; i < 32; i++)
+				results.add(executor.submit(() -> {
+					start.await();
+					return ExecutionHandler.resolveInstanceMethodInfo(instanceId, impl, methodId, method);
+				}));
+
+			start.countDown();
+			final ExecutionInfo info = results.get(0).get(1, TimeUnit.SECONDS);
+			for (final Future<ExecutionInfo> result : results)
+				Assert.assertSame(info, result.get(1, TimeUnit.SECONDS));
+			Assert.assertSame(ExecutionCaches.getInfo(instanceId), info.getClassInfo());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void warmUp() throws Exception {
+		final WarmedUpServiceImpl impl = new WarmedUpServiceImpl();
+		final WarmedUpService proxy = OrchestratorFactory.getDefault().init(impl);
+		final ExecutionHandler handler = (ExecutionHandler) Proxy.getInvocationHandler(proxy);
+		final String methodId = handler.resolveId(impl, WarmedUpService.class.getMethod("call"));
+		Assert.assertNotNull(ExecutionCaches.getInfo(methodId));
+		Assert.assertNull(ExecutionCaches.getExecutor(methodId)); // created on demand
+
+		OrchestratorFactory.getDefault().warmUp(proxy);
+		final ExecutorService executor = ExecutionCaches.getExecutor(methodId);
+		Assert.assertNotNull(executor);
+		Assert.assertNotNull(ExecutionCaches.getInfo(methodId).getCoalescer());
+
+		Assert.assertEquals("called", proxy.call());
+		Assert.assertSame(executor, ExecutionCaches.getExecutor(methodId));
+	}
+
+	@Test
+	public void refreshAfterTearDown() throws Exception {
+		final BlockingServiceImpl impl = new BlockingServiceImpl();
+		final BlockingService proxy = OrchestratorFactory.getDefault().init(impl);
+		final ExecutionHandler handler = (ExecutionHandler) Proxy.getInvocationHandler(proxy);
+		final String methodId = handler.resolveId(impl, BlockingService.class.getMethod("call"));
+		final ExecutionInfo old = ExecutionCaches.getInfo(methodId);
+		impl.latch.countDown();
+		Assert.assertEquals("called", proxy.call());
+
+		ExecutionCaches.tearDown();
+		Assert.assertNull(ExecutionCaches.getInfo(methodId)); // re-resolved by the next call
+		Assert.assertEquals("called", proxy.call());
+		final ExecutionInfo refreshed = ExecutionCaches.getInfo(methodId);
+		Assert.assertNotNull(refreshed);
+		Assert.assertNotSame(old, refreshed);
+
+		impl.latch = new CountDownLatch(1); // blocked until timeout
+		refreshed.getActualLimitsConfig().setTimeUnit(TimeUnit.MILLISECONDS); // reconfiguration of re-resolved execution
+		refreshed.configurationChanged();
+		try {
+			proxy.call();
+			Assert.fail("Execution should time out with new configuration");
+		} catch (final ExecutionTimeoutException e) {
+			Assert.assertTrue(e.getMessage().endsWith("message[timeout is reached]"));
+		} finally {
+			impl.latch.countDown();
+		}
+	}
+
+	public interface BlockingService {
+
+		String call() throws InterruptedException;
+
+	}
+
+	public static class BlockingServiceImpl implements BlockingService {
+
+		private volatile CountDownLatch latch = new CountDownLatch(1);
+
+		@Override
+		@Orchestrate
+		@OrchestrationLimits(time = 10, timeUnit = TimeUnit.SECONDS)
+		public String call() throws InterruptedException {
+			latch.await(10, TimeUnit.SECONDS);
+			return "called";
+		}
+
+	}
+
+	public interface WarmedUpService {
+
+		String call();
+
+	}
+
+	public static class WarmedUpServiceImpl implements WarmedUpService {
+
+		@Override
+		@Orchestrate
+		@OrchestrationCoalesce
+		@OrchestrationExecutor(coreSize = 1, maxSize = 1)
+		public String call() {
+			return "called";
+		}
+
+	}
+
+	private static void waitForRetirement() throws InterruptedException {
+		Thread.sleep(OrchestrationConstants.POOL_RETIRE_DELAY_UNIT.toMillis(OrchestrationConstants.POOL_RETIRE_DELAY) + 200);
+	}
+
+}
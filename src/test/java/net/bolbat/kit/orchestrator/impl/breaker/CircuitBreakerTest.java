@@ -0,0 +1,172 @@
+package net.bolbat.kit.orchestrator.impl.breaker;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.CircuitBreakerConfig;
+import net.bolbat.kit.orchestrator.impl.breaker.CircuitBreaker.State;
+
+/**
+ * {@link CircuitBreaker} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class CircuitBreakerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+	@Test
+	public void failures() throws Exception {
+		final CircuitBreaker breaker = new CircuitBreaker(config(10, 5, 50));
+		// not enough executions for decision
+		execute(breaker, 4, FAST, true);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+
+		// failure rate is reached
+		execute(breaker, 1, FAST, true);
+		Assert.assertEquals(State.OPEN, breaker.getState());
+		Assert.assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+		// half-open after open time, trial executions are limited
+		TimeUnit.MILLISECONDS.sleep(100);
+		Assert.assertEquals(State.HALF_OPEN, breaker.getState());
+		final long first = breaker.tryAcquire();
+		final long second = breaker.tryAcquire();
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, first);
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, second);
+		Assert.assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+		// failed trial executions are opening circuit again
+		breaker.onExecution(first, FAST, true);
+		breaker.onExecution(second, FAST, false);
+		Assert.assertEquals(State.OPEN, breaker.getState());
+
+		// successful trial executions are closing circuit
+		TimeUnit.MILLISECONDS.sleep(100);
+		execute(breaker, 2, FAST, false);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+	}
+
+	@Test
+	public void window() {
+		final CircuitBreaker breaker = new CircuitBreaker(config(10, 5, 50));
+		execute(breaker, 5, FAST, false);
+		execute(breaker, 4, FAST, true);
+		execute(breaker, 1, FAST, false);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+
+		// old failures are evicted from window
+		execute(breaker, 9, FAST, false);
+		execute(breaker, 4, FAST, true);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+
+		execute(breaker, 1, FAST, true);
+		Assert.assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void slowExecutions() {
+		final CircuitBreakerConfig config = config(10, 5, 50);
+		config.setSlowRate(50);
+		config.setSlowTime(10);
+		config.setSlowTimeUnit(TimeUnit.MILLISECONDS);
+		final CircuitBreaker breaker = new CircuitBreaker(config);
+		execute(breaker, 5, FAST, false);
+		execute(breaker, 4, SLOW, false);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+
+		execute(breaker, 1, SLOW, false);
+		Assert.assertEquals(State.OPEN, breaker.getState());
+	}
+
+	@Test
+	public void ignored() throws Exception {
+		final CircuitBreaker breaker = new CircuitBreaker(config(10, 1, 50));
+		execute(breaker, 1, FAST, true);
+		TimeUnit.MILLISECONDS.sleep(100);
+
+		final long permit = breaker.tryAcquire();
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, permit);
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+		Assert.assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+		breaker.onIgnored(permit); // permit is returned
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+	}
+
+	@Test
+	public void lateResults() throws Exception {
+		final CircuitBreaker breaker = new CircuitBreaker(config(10, 1, 50));
+		final long early = breaker.tryAcquire();
+		final long ignored = breaker.tryAcquire();
+		execute(breaker, 1, FAST, true);
+		TimeUnit.MILLISECONDS.sleep(100);
+
+		final long trial = breaker.tryAcquire();
+		Assert.assertEquals(State.HALF_OPEN, breaker.getState());
+
+		// results of executions started before opening aren't recorded as trial executions and aren't returning trial permits
+		breaker.onExecution(early, FAST, false);
+		breaker.onExecution(early, FAST, false);
+		breaker.onIgnored(ignored);
+		Assert.assertEquals(State.HALF_OPEN, breaker.getState());
+		Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+		Assert.assertEquals(CircuitBreaker.NO_PERMIT, breaker.tryAcquire());
+
+		breaker.onExecution(trial, FAST, true);
+		Assert.assertEquals(State.HALF_OPEN, breaker.getState());
+	}
+
+	@Test
+	public void rates() {
+		final CircuitBreakerConfig config = config(10, 1, 50);
+		config.setFailureRate(0); // failures aren't tracked
+		config.setSlowRate(0);
+		config.setSlowTime(10);
+		config.setSlowTimeUnit(TimeUnit.MILLISECONDS);
+		final CircuitBreaker breaker = new CircuitBreaker(config);
+		execute(breaker, 20, SLOW, true);
+		Assert.assertEquals(State.CLOSED, breaker.getState());
+
+		config.setFailureRate(101);
+		try {
+			new CircuitBreaker(config);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e instanceof IllegalArgumentException);
+		}
+
+		config.setFailureRate(50);
+		config.setSlowRate(-1);
+		try {
+			new CircuitBreaker(config);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e instanceof IllegalArgumentException);
+		}
+	}
+
+	private static CircuitBreakerConfig config(final int window, final int minExecutions, final long openTime) {
+		final CircuitBreakerConfig config = new CircuitBreakerConfig();
+		config.setEnabled(true);
+		config.setWindow(window);
+		config.setMinExecutions(minExecutions);
+		config.setOpenTime(openTime);
+		config.setOpenTimeUnit(TimeUnit.MILLISECONDS);
+		config.setHalfOpenExecutions(2);
+		return config;
+	}
+
+	private static void execute(final CircuitBreaker breaker, final int executions, final long latency, final boolean failure) {
+		for (int i = 0; i < executions; i++) {
+			final long permit = breaker.tryAcquire();
+			Assert.assertNotEquals(CircuitBreaker.NO_PERMIT, permit);
+			breaker.onExecution(permit, latency, failure);
+		}
+	}
+
+}
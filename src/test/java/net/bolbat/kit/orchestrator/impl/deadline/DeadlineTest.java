@@ -0,0 +1,232 @@
+package net.bolbat.kit.orchestrator.impl.deadline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+import net.bolbat.kit.orchestrator.exception.ExecutionTimeoutException;
+
+/**
+ * {@link Deadline} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class DeadlineTest {
+
+	@AfterClass
+	public static void afterClass() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Test
+	public void create() throws Exception {
+		Assert.assertNull(Deadline.current());
+
+		final Deadline unbounded = Deadline.create(0, TimeUnit.MILLISECONDS);
+		Assert.assertFalse(unbounded.isBounded());
+		Assert.assertFalse(unbounded.isExpired());
+		Assert.assertEquals(Long.MAX_VALUE, unbounded.getRemaining());
+
+		final Deadline parent = Deadline.create(100, TimeUnit.MILLISECONDS);
+		Assert.assertTrue(parent.isBounded());
+		Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), parent.getTimeout());
+
+		final Deadline nested = parent.bind(() -> {
+			Assert.assertSame(parent, Deadline.current());
+			return Deadline.create(10, TimeUnit.SECONDS);
+		}).call();
+		Assert.assertNull(Deadline.current());
+		Assert.assertTrue(nested.getTimeout() <= TimeUnit.MILLISECONDS.toNanos(100));
+
+		final Deadline nestedUnbounded = parent.bind(() -> Deadline.create(0, TimeUnit.SECONDS)).call();
+		Assert.assertTrue(nestedUnbounded.isBounded());
+		Assert.assertTrue(nestedUnbounded.getTimeout() <= TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	public void cancellation() throws Exception {
+		final Deadline parent = Deadline.create(0, TimeUnit.MILLISECONDS);
+		final CompletableFuture<Object> first = new CompletableFuture<>();
+		final CompletableFuture<Object> second = new CompletableFuture<>();
+		parent.bind(() -> {
+			Deadline.create(0, TimeUnit.MILLISECONDS).attach(first);
+			Deadline.create(0, TimeUnit.MILLISECONDS).attach(second);
+			return null;
+		}).call();
+
+		second.complete("done");
+		parent.release(new TimeoutException());
+		Assert.assertTrue(first.isCancelled());
+		Assert.assertEquals("done", second.get());
+
+		// parent is already cancelled
+		final CompletableFuture<Object> late = new CompletableFuture<>();
+		parent.bind(() -> {
+			Deadline.create(0, TimeUnit.MILLISECONDS).attach(late);
+			return null;
+		}).call();
+		Assert.assertTrue(late.isCancelled());
+	}
+
+	@Test
+	public void unbind() throws Exception {
+		final Deadline parent = Deadline.create(100, TimeUnit.MILLISECONDS);
+		final CompletableFuture<Object> detached = new CompletableFuture<>();
+		parent.bind(() -> {
+			Assert.assertSame(parent, Deadline.current());
+			Deadline.unbind(() -> {
+				Assert.assertNull(Deadline.current());
+				Deadline.create(0, TimeUnit.MILLISECONDS).attach(detached);
+				return null;
+			}).call();
+			Assert.assertSame(parent, Deadline.current());
+			return null;
+		}).call();
+
+		// detached future isn't cancelled with parent execution
+		parent.release(new TimeoutException());
+		Assert.assertFalse(detached.isCancelled());
+	}
+
+	@Test
+	public void remainingTimePropagation() {
+		final InnerService inner = OrchestratorFactory.getDefault().init(new InnerServiceImpl());
+		final OuterService outer = OrchestratorFactory.getDefault().init(new OuterServiceImpl(inner));
+
+		final long innerTimeout = outer.callInner(100L);
+		Assert.assertTrue(innerTimeout > 0);
+		Assert.assertTrue(innerTimeout <= 100L); // outer time limit is 200 milliseconds, inner configured time limit is 10 seconds
+	}
+
+	@Test
+	public void failFast() throws Exception {
+		final InnerServiceImpl innerImpl = new InnerServiceImpl();
+		final InnerService inner = OrchestratorFactory.getDefault().init(innerImpl);
+		final OuterServiceImpl outerImpl = new OuterServiceImpl(inner);
+		final OuterService outer = OrchestratorFactory.getDefault().init(outerImpl);
+
+		try {
+			outer.callInner(300L);
+			Assert.fail();
+		} catch (final ExecutionTimeoutException e) {
+			Assert.assertTrue(e.getMessage().contains("OuterServiceImpl.callInner"));
+		}
+
+		Assert.assertTrue(outerImpl.finished.await(1, TimeUnit.SECONDS));
+		Assert.assertTrue(outerImpl.error.get() instanceof ExecutionTimeoutException);
+		Assert.assertEquals(0, innerImpl.executions.get());
+	}
+
+	@Test
+	public void nestedFutureCancellation() throws Exception {
+		final InnerServiceImpl innerImpl = new InnerServiceImpl();
+		final InnerService inner = OrchestratorFactory.getDefault().init(innerImpl);
+		final OuterService outer = OrchestratorFactory.getDefault().init(new OuterServiceImpl(inner));
+
+		final CompletableFuture<String> result = outer.callInnerFuture();
+		Assert.assertTrue(innerImpl.started.await(1, TimeUnit.SECONDS));
+		result.cancel(true);
+		Assert.assertTrue(innerImpl.interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+	public interface InnerService {
+
+		long timeout();
+
+		CompletableFuture<String> sleep();
+
+	}
+
+	public interface OuterService {
+
+		long callInner(long wait);
+
+		CompletableFuture<String> callInnerFuture();
+
+	}
+
+	public static class InnerServiceImpl implements InnerService {
+
+		private final AtomicInteger executions = new AtomicInteger();
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final CountDownLatch interrupted = new CountDownLatch(1);
+
+		@Override
+		@Orchestrate
+		@OrchestrationLimits(time = 10000)
+		public long timeout() {
+			executions.incrementAndGet();
+			return TimeUnit.NANOSECONDS.toMillis(Deadline.current().getTimeout());
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationMode(Mode.ASYNC)
+		public CompletableFuture<String> sleep() {
+			started.countDown();
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+			} catch (final InterruptedException e) {
+				interrupted.countDown();
+			}
+			return CompletableFuture.completedFuture("slept");
+		}
+
+	}
+
+	public static class OuterServiceImpl implements OuterService {
+
+		private final InnerService inner;
+
+		private final CountDownLatch finished = new CountDownLatch(1);
+
+		private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		public OuterServiceImpl(final InnerService aInner) {
+			this.inner = aInner;
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationLimits(time = 200)
+		public long callInner(final long wait) {
+			final long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(wait);
+			while (System.nanoTime() < until) // waiting without interruption support
+				Thread.yield();
+
+			try {
+				return inner.timeout();
+				// CHECKSTYLE:OFF
+			} catch (final RuntimeException e) {
+				// CHECKSTYLE:ON
+				error.set(e);
+				throw e;
+			} finally {
+				finished.countDown();
+			}
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationMode(Mode.ASYNC)
+		public CompletableFuture<String> callInnerFuture() {
+			return inner.sleep();
+		}
+
+	}
+
+}
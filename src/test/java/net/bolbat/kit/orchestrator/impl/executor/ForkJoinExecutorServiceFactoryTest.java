@@ -0,0 +1,90 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.OrchestrationConfig.ExecutorConfig;
+
+/**
+ * {@link ForkJoinExecutorServiceFactory} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ForkJoinExecutorServiceFactoryTest {
+
+	private ExecutorService executor;
+
+	@After
+	public void after() {
+		if (executor != null)
+			executor.shutdownNow();
+	}
+
+	@Test
+	public void execution() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(2);
+		executor = ForkJoinExecutorServiceFactory.getInstance().create(config, "test", "execution");
+
+		final String threadName = executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+		Assert.assertEquals("Orchestrator[test]-n[execution]-thread[1]", threadName);
+	}
+
+	@Test
+	public void queueLimit() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(1);
+		config.setQueueSize(1);
+		executor = ForkJoinExecutorServiceFactory.getInstance().create(config, "test", "queueLimit");
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Future<?> running = executor.submit(() -> {
+			started.countDown();
+			latch.await();
+			return null;
+		});
+		started.await();
+		final Future<?> queued = executor.submit(() -> null);
+		try {
+			executor.submit(() -> null);
+			Assert.fail();
+		} catch (final RejectedExecutionException e) {
+			Assert.assertEquals("Executor queue limit[1] is reached", e.getMessage());
+		}
+
+		latch.countDown();
+		running.get(1, TimeUnit.SECONDS);
+		queued.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void cancellation() throws Exception {
+		final ExecutorConfig config = new ExecutorConfig();
+		config.setCoreSize(1);
+		executor = ForkJoinExecutorServiceFactory.getInstance().create(config, "test", "cancellation");
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		final Future<?> running = executor.submit(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+			} catch (final InterruptedException e) {
+				interrupted.countDown();
+			}
+			return null;
+		});
+		started.await();
+		running.cancel(true);
+		Assert.assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+}
@@ -0,0 +1,101 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.utils.concurrency.ThreadFactoryBuilder;
+
+/**
+ * {@link PriorityThreadPoolExecutor} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class PriorityThreadPoolExecutorTest {
+
+	private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("test-thread-%d").build();
+
+	private PriorityThreadPoolExecutor executor;
+
+	@After
+	public void after() {
+		if (executor != null)
+			executor.shutdownNow();
+	}
+
+	@Test
+	public void priority() throws Exception {
+		executor = new PriorityThreadPoolExecutor(1, 0, TimeUnit.SECONDS, 0, TimeUnit.SECONDS.toNanos(10), THREAD_FACTORY);
+		final CountDownLatch latch = block(executor);
+		final List<String> executed = new CopyOnWriteArrayList<>();
+		executor.submit(task(executed, "low-1"));
+		executor.submit(PriorityThreadPoolExecutor.prioritize(task(executed, "high-1"), 10));
+		executor.submit(task(executed, "low-2"));
+		executor.submit(PriorityThreadPoolExecutor.prioritize(task(executed, "high-2"), 10));
+		final Future<?> last = executor.submit(PriorityThreadPoolExecutor.prioritize(task(executed, "background"), -10));
+
+		latch.countDown();
+		last.get(1, TimeUnit.SECONDS);
+		Assert.assertEquals("[high-1, high-2, low-1, low-2, background]", executed.toString());
+	}
+
+	@Test
+	public void aging() throws Exception {
+		executor = new PriorityThreadPoolExecutor(1, 0, TimeUnit.SECONDS, 0, TimeUnit.MILLISECONDS.toNanos(1), THREAD_FACTORY);
+		final CountDownLatch latch = block(executor);
+		final List<String> executed = new CopyOnWriteArrayList<>();
+		executor.submit(task(executed, "low"));
+		TimeUnit.MILLISECONDS.sleep(50); // waiting longer than priority difference multiplied by aging time
+		final Future<?> last = executor.submit(PriorityThreadPoolExecutor.prioritize(task(executed, "high"), 10));
+
+		latch.countDown();
+		last.get(1, TimeUnit.SECONDS);
+		Assert.assertEquals("[low, high]", executed.toString());
+	}
+
+	@Test
+	public void queueLimit() throws Exception {
+		executor = new PriorityThreadPoolExecutor(1, 0, TimeUnit.SECONDS, 1, TimeUnit.MILLISECONDS.toNanos(1), THREAD_FACTORY);
+		final CountDownLatch latch = block(executor);
+		final Future<?> queued = executor.submit(() -> null);
+		try {
+			executor.submit(() -> null);
+			Assert.fail();
+		} catch (final RejectedExecutionException e) {
+			Assert.assertTrue(e instanceof RejectedExecutionException);
+		}
+
+		latch.countDown();
+		queued.get(1, TimeUnit.SECONDS);
+		executor.execute(() -> {
+		}); // plain runnable is accepted
+	}
+
+	private static CountDownLatch block(final PriorityThreadPoolExecutor executor) throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			try {
+				latch.await();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		started.await();
+		return latch;
+	}
+
+	private static Runnable task(final List<String> executed, final String name) {
+		return () -> executed.add(name);
+	}
+
+}
@@ -0,0 +1,123 @@
+package net.bolbat.kit.orchestrator.impl.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.utils.concurrency.ThreadFactoryBuilder;
+
+/**
+ * {@link ThreadPerTaskExecutorService} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ThreadPerTaskExecutorServiceTest {
+
+	private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("test-thread-%d").build();
+
+	private ThreadPerTaskExecutorService executor;
+
+	@After
+	public void after() {
+		if (executor != null)
+			executor.shutdownNow();
+	}
+
+	@Test
+	public void unlimited() throws Exception {
+		executor = new ThreadPerTaskExecutorService(THREAD_FACTORY, 0, 0);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 50; i++)
+			futures.add(executor.submit(() -> {
+				latch.await();
+				return null;
+			}));
+
+		Assert.assertEquals(50, executor.getActiveCount());
+		latch.countDown();
+		for (final Future<?> future : futures)
+			future.get();
+	}
+
+	@Test
+	public void limits() throws Exception {
+		executor = new ThreadPerTaskExecutorService(THREAD_FACTORY, 2, 1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) // 2 running and 1 waiting
+			futures.add(executor.submit(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				latch.await();
+				running.decrementAndGet();
+				return null;
+			}));
+
+		try {
+			executor.submit(() -> null);
+			Assert.fail();
+		} catch (final RejectedExecutionException e) {
+			Assert.assertEquals("Executor limits are reached", e.getMessage());
+		}
+
+		latch.countDown();
+		for (final Future<?> future : futures)
+			future.get();
+
+		Assert.assertEquals(2, maxRunning.get());
+		executor.submit(() -> null).get(); // permits are released
+	}
+
+	@Test
+	public void shutdown() throws Exception {
+		executor = new ThreadPerTaskExecutorService(THREAD_FACTORY, 1, 1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		final Future<?> running = executor.submit(() -> {
+			latch.await();
+			return null;
+		});
+		final Future<?> waiting = executor.submit(() -> null);
+
+		executor.shutdown();
+		Assert.assertTrue(executor.isShutdown());
+		Assert.assertFalse(executor.isTerminated());
+		try {
+			executor.submit(() -> null);
+			Assert.fail();
+		} catch (final RejectedExecutionException e) {
+			Assert.assertEquals("Executor is shut down", e.getMessage());
+		}
+
+		latch.countDown();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+		Assert.assertTrue(running.isDone());
+		Assert.assertTrue(waiting.isDone());
+	}
+
+	@Test
+	public void shutdownNow() throws Exception {
+		executor = new ThreadPerTaskExecutorService(THREAD_FACTORY, 1, 1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		executor.submit(() -> {
+			latch.await();
+			return null;
+		});
+		final Future<?> waiting = executor.submit(() -> null);
+
+		executor.shutdownNow();
+		Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+		Assert.assertTrue(waiting.isCancelled() || waiting.isDone());
+	}
+
+}
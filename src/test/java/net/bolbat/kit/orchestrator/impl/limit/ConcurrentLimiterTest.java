@@ -0,0 +1,193 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link ConcurrentLimiter} implementations test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ConcurrentLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(20);
+
+	@Test
+	public void acquire() {
+		final ConcurrentLimiter limiter = new AimdConcurrentLimiter(2, 10);
+		Assert.assertEquals(2, limiter.getLimit());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertFalse(limiter.tryAcquire());
+		Assert.assertEquals(2, limiter.getInFlight());
+
+		limiter.onIgnored();
+		Assert.assertEquals(1, limiter.getInFlight());
+		Assert.assertEquals(2, limiter.getLimit());
+		Assert.assertTrue(limiter.tryAcquire());
+	}
+
+	@Test
+	public void bounds() {
+		Assert.assertEquals(AbstractConcurrentLimiter.MIN_LIMIT, new AimdConcurrentLimiter(0, 10).getLimit());
+		Assert.assertEquals(10, new GradientConcurrentLimiter(20, 10).getLimit());
+
+		try {
+			new AimdConcurrentLimiter(1, 0);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e instanceof IllegalArgumentException);
+		}
+	}
+
+	@Test
+	public void aimd() {
+		final ConcurrentLimiter limiter = new AimdConcurrentLimiter(10, 20);
+		// under load limit grows up to upper bound
+		for (int i = 0; i < 50; i++)
+			execute(limiter, limiter.getLimit(), FAST, false);
+		Assert.assertEquals(20, limiter.getLimit());
+
+		// without load limit stays
+		execute(limiter, 1, FAST, false);
+		Assert.assertEquals(20, limiter.getLimit());
+
+		// dropped executions back off
+		execute(limiter, 1, FAST, true);
+		Assert.assertEquals(18, limiter.getLimit());
+		for (int i = 0; i < 50; i++)
+			execute(limiter, 1, FAST, true);
+		Assert.assertEquals(AbstractConcurrentLimiter.MIN_LIMIT, limiter.getLimit());
+	}
+
+	@Test
+	public void gradient() {
+		final ConcurrentLimiter limiter = new GradientConcurrentLimiter(10, 100);
+		// stable latency under load, limit grows
+		for (int i = 0; i < 50; i++)
+			execute(limiter, limiter.getLimit(), FAST, false);
+		final int grown = limiter.getLimit();
+		Assert.assertTrue("limit: " + grown, grown > 10);
+
+		// latency grows, limit shrinks
+		for (int i = 0; i < 20; i++)
+			execute(limiter, limiter.getLimit(), SLOW, false);
+		final int shrunk = limiter.getLimit();
+		Assert.assertTrue("limit: " + shrunk + ", grown: " + grown, shrunk < grown);
+
+		// dropped executions shrink limit
+		execute(limiter, 1, FAST, true);
+		Assert.assertTrue("limit: " + limiter.getLimit() + ", shrunk: " + shrunk, limiter.getLimit() < shrunk);
+	}
+
+	@Test
+	public void aimdIncrease() {
+		final ConcurrentLimiter limiter = new AimdConcurrentLimiter(4, 10);
+		// single success with limit in use, additive increase
+		execute(limiter, 4, FAST, false);
+		Assert.assertTrue("limit: " + limiter.getLimit(), limiter.getLimit() > 4);
+
+		// ignored executions doesn't affect limit
+		final int limit = limiter.getLimit();
+		Assert.assertTrue(limiter.tryAcquire());
+		limiter.onIgnored();
+		Assert.assertEquals(limit, limiter.getLimit());
+		Assert.assertEquals(0, limiter.getInFlight());
+
+		// increase is additive
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertTrue(limiter.tryAcquire());
+		limiter.onSuccess(FAST);
+		Assert.assertEquals(limit + 1, limiter.getLimit());
+		limiter.onIgnored();
+		limiter.onIgnored();
+	}
+
+	@Test
+	public void aimdDecrease() {
+		final ConcurrentLimiter limiter = new AimdConcurrentLimiter(10, 20, 0.5d);
+		Assert.assertTrue(limiter.tryAcquire());
+		limiter.onDropped();
+		Assert.assertEquals(5, limiter.getLimit());
+		Assert.assertEquals(0, limiter.getInFlight());
+
+		// latency doesn't affect limit
+		execute(limiter, 1, SLOW, false);
+		Assert.assertEquals(5, limiter.getLimit());
+
+		try {
+			new AimdConcurrentLimiter(1, 10, 1d);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e instanceof IllegalArgumentException);
+		}
+	}
+
+	@Test
+	public void gradientIncrease() {
+		final ConcurrentLimiter limiter = new GradientConcurrentLimiter(10, 100);
+		// limit not used, stays
+		for (int i = 0; i < 20; i++)
+			execute(limiter, 1, FAST, false);
+		Assert.assertEquals(10, limiter.getLimit());
+
+		// limit used with stable latency, grows
+		int previous = limiter.getLimit();
+		for (int i = 0; i < 5; i++) {
+			execute(limiter, limiter.getLimit(), FAST, false);
+			Assert.assertTrue("limit: " + limiter.getLimit() + ", previous: " + previous, limiter.getLimit() >= previous);
+			previous = limiter.getLimit();
+		}
+		Assert.assertTrue("limit: " + limiter.getLimit(), limiter.getLimit() > 10);
+	}
+
+	@Test
+	public void gradientDecrease() {
+		final ConcurrentLimiter limiter = new GradientConcurrentLimiter(50, 100);
+		for (int i = 0; i < 20; i++)
+			execute(limiter, limiter.getLimit(), FAST, false);
+		final int stable = limiter.getLimit();
+
+		// latency grows without drops, limit shrinks
+		execute(limiter, limiter.getLimit(), SLOW * 10, false);
+		final int slow = limiter.getLimit();
+		Assert.assertTrue("limit: " + slow + ", stable: " + stable, slow < stable);
+
+		// dropped execution shrinks limit regardless of latency
+		Assert.assertTrue(limiter.tryAcquire());
+		limiter.onDropped();
+		Assert.assertTrue("limit: " + limiter.getLimit() + ", slow: " + slow, limiter.getLimit() < slow);
+		Assert.assertEquals(0, limiter.getInFlight());
+	}
+
+	/**
+	 * Execute given amount of concurrent executions.
+	 * 
+	 * @param limiter
+	 *            {@link ConcurrentLimiter}
+	 * @param executions
+	 *            executions amount
+	 * @param latency
+	 *            executions latency
+	 * @param dropped
+	 *            is executions dropped
+	 */
+	private static void execute(final ConcurrentLimiter limiter, final int executions, final long latency, final boolean dropped) {
+		int acquired = 0;
+		for (int i = 0; i < executions; i++)
+			if (limiter.tryAcquire())
+				acquired++;
+
+		for (int i = 0; i < acquired; i++)
+			if (dropped)
+				limiter.onDropped();
+			else
+				limiter.onSuccess(latency);
+	}
+
+}
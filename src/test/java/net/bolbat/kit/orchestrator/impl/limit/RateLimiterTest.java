@@ -0,0 +1,185 @@
+package net.bolbat.kit.orchestrator.impl.limit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.Orchestrator;
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationLimits.RateLimitPolicy;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode;
+import net.bolbat.kit.orchestrator.annotation.OrchestrationMode.Mode;
+import net.bolbat.kit.orchestrator.exception.RateOverflowException;
+import net.bolbat.kit.orchestrator.impl.metrics.MetricsSnapshot;
+
+/**
+ * {@link RateLimiter} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class RateLimiterTest {
+
+	@AfterClass
+	public static void afterClass() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Test
+	public void burst() {
+		final RateLimiter limiter = new RateLimiter(3, 1, TimeUnit.HOURS, 0);
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertFalse(limiter.tryAcquire());
+		Assert.assertEquals(-1L, limiter.tryReserve(TimeUnit.MINUTES.toNanos(1)));
+
+		final long wait = limiter.tryReserve(TimeUnit.HOURS.toNanos(1));
+		Assert.assertTrue(wait > TimeUnit.MINUTES.toNanos(19));
+		Assert.assertTrue(wait <= TimeUnit.MINUTES.toNanos(20));
+	}
+
+	@Test
+	public void refill() throws Exception {
+		final RateLimiter limiter = new RateLimiter(100, 1, TimeUnit.SECONDS, 1);
+		Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), limiter.getInterval());
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertFalse(limiter.tryAcquire()); // burst is one permit
+
+		Thread.sleep(50);
+		Assert.assertTrue(limiter.tryAcquire());
+		Assert.assertFalse(limiter.tryAcquire()); // idle time isn't accumulated over burst
+	}
+
+	@Test
+	public void bounds() {
+		try {
+			new RateLimiter(0, 1, TimeUnit.SECONDS, 0);
+			Assert.fail("Exception shoud be thrown before this step.");
+		} catch (final IllegalArgumentException e) {
+			Assert.assertTrue(e instanceof IllegalArgumentException);
+		}
+	}
+
+	@Test
+	public void reject() {
+		final Orchestrator orchestrator = OrchestratorFactory.getDefault();
+		final RateLimitedService service = orchestrator.init(new RateLimitedServiceImpl());
+		Assert.assertEquals("rejecting", service.rejecting());
+		Assert.assertEquals("rejecting", service.rejecting());
+		try {
+			service.rejecting();
+			Assert.fail();
+		} catch (final RateOverflowException e) {
+			Assert.assertTrue(e.getMessage().contains("executions rate limit is reached"));
+		}
+
+		final MetricsSnapshot metrics = findMetrics(orchestrator, service, "rejecting");
+		Assert.assertEquals(2, metrics.getSuccessful());
+		Assert.assertEquals(1, metrics.getRateOverflows());
+		Assert.assertEquals(3, metrics.getTotal());
+	}
+
+	@Test
+	public void waiting() throws Exception {
+		final Orchestrator orchestrator = OrchestratorFactory.getDefault();
+		final RateLimitedService service = orchestrator.init(new RateLimitedServiceImpl());
+		final long started = System.nanoTime();
+		Assert.assertEquals("waiting", service.waiting());
+		Assert.assertEquals("waiting", service.waiting());
+		Assert.assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(90));
+
+		final CompletableFuture<String> first = service.waitingFuture();
+		final CompletableFuture<String> second = service.waitingFuture();
+		final CompletableFuture<String> third = service.waitingFuture(); // permit isn't available in time limit
+		Assert.assertEquals("waitingFuture", first.get(1, TimeUnit.SECONDS));
+		Assert.assertEquals("waitingFuture", second.get(1, TimeUnit.SECONDS));
+		try {
+			third.get(1, TimeUnit.SECONDS);
+			Assert.fail();
+		} catch (final ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof RateOverflowException);
+		}
+
+		Assert.assertEquals(1, findMetrics(orchestrator, service, "waiting").getThrottled());
+		Assert.assertEquals(1, findMetrics(orchestrator, service, "waitingFuture").getThrottled());
+	}
+
+	@Test
+	public void waitingAsync() throws Exception {
+		final Orchestrator orchestrator = OrchestratorFactory.getDefault();
+		final RateLimitedServiceImpl impl = new RateLimitedServiceImpl();
+		final RateLimitedService service = orchestrator.init(impl);
+		service.waitingAsync();
+		final long started = System.nanoTime();
+		service.waitingAsync(); // submission is delayed, caller isn't waiting for permit
+		Assert.assertTrue(System.nanoTime() - started < TimeUnit.MILLISECONDS.toNanos(90));
+
+		Assert.assertTrue(impl.asyncExecutions.await(1, TimeUnit.SECONDS));
+		Assert.assertEquals(1, findMetrics(orchestrator, service, "waitingAsync").getThrottled());
+	}
+
+	private static MetricsSnapshot findMetrics(final Orchestrator orchestrator, final Object service, final String method) {
+		for (final MetricsSnapshot snapshot : orchestrator.getMetrics(service))
+			if (snapshot.getName().endsWith("." + method + "()"))
+				return snapshot;
+
+		Assert.fail("Metrics for method[" + method + "] not found.");
+		return null;
+	}
+
+	public interface RateLimitedService {
+
+		String rejecting();
+
+		String waiting();
+
+		CompletableFuture<String> waitingFuture();
+
+		void waitingAsync();
+
+	}
+
+	public static class RateLimitedServiceImpl implements RateLimitedService {
+
+		private final CountDownLatch asyncExecutions = new CountDownLatch(2);
+
+		@Override
+		@Orchestrate
+		@OrchestrationLimits(rate = 2, ratePeriod = 1, ratePeriodUnit = TimeUnit.HOURS)
+		public String rejecting() {
+			return "rejecting";
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationLimits(rate = 10, rateBurst = 1, ratePolicy = RateLimitPolicy.WAIT)
+		public String waiting() {
+			return "waiting";
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationMode(Mode.ASYNC)
+		@OrchestrationLimits(time = 150, rate = 10, rateBurst = 1, ratePolicy = RateLimitPolicy.WAIT)
+		public CompletableFuture<String> waitingFuture() {
+			return CompletableFuture.completedFuture("waitingFuture");
+		}
+
+		@Override
+		@Orchestrate
+		@OrchestrationMode(Mode.ASYNC)
+		@OrchestrationLimits(rate = 10, rateBurst = 1, ratePolicy = RateLimitPolicy.WAIT)
+		public void waitingAsync() {
+			asyncExecutions.countDown();
+		}
+
+	}
+
+}
@@ -0,0 +1,81 @@
+package net.bolbat.kit.orchestrator.impl.metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link LatencyHistogram} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class LatencyHistogramTest {
+
+	@Test
+	public void buckets() {
+		for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+			final long lowest = LatencyHistogram.lowest(i);
+			final long highest = LatencyHistogram.highest(i);
+			Assert.assertTrue("bucket: " + i, lowest <= highest);
+			Assert.assertEquals("bucket: " + i, i, LatencyHistogram.bucket(lowest));
+			Assert.assertEquals("bucket: " + i, i, LatencyHistogram.bucket(highest));
+			// relative error is bounded by sub buckets precision
+			Assert.assertTrue("bucket: " + i, highest - lowest <= Math.max(0L, lowest / LatencyHistogram.SUB_BUCKETS));
+		}
+		Assert.assertEquals(0, LatencyHistogram.bucket(0L));
+		Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void percentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0L, histogram.snapshot().getP99());
+
+		for (long i = 1; i <= 1000; i++)
+			histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+		histogram.record(-1L);
+
+		final LatencySnapshot snapshot = histogram.snapshot();
+		Assert.assertEquals(1001, snapshot.getCount());
+		Assert.assertEquals(TimeUnit.MICROSECONDS.toNanos(1000), snapshot.getMax());
+		Assert.assertEquals(0L, snapshot.getValueAtPercentile(0d));
+		assertNear(TimeUnit.MICROSECONDS.toNanos(500), snapshot.getP50());
+		assertNear(TimeUnit.MICROSECONDS.toNanos(900), snapshot.getP90());
+		assertNear(TimeUnit.MICROSECONDS.toNanos(990), snapshot.getP99());
+		Assert.assertEquals(snapshot.getMax(), snapshot.getValueAtPercentile(100d));
+		assertNear(TimeUnit.MICROSECONDS.toNanos(500), (long) snapshot.getMean());
+	}
+
+	@Test
+	public void concurrentRecording() throws Exception {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final int threads = 4;
+		final int values = 10000;
+		final CountDownLatch latch = new CountDownLatch(threads);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++)
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < values; i++)
+						histogram.record(i);
+					latch.countDown();
+				}
+			});
+		latch.await();
+		executor.shutdownNow();
+
+		final LatencySnapshot snapshot = histogram.snapshot();
+		Assert.assertEquals(threads * values, snapshot.getCount());
+		Assert.assertEquals(values - 1, snapshot.getMax());
+	}
+
+	private static void assertNear(final long expected, final long actual) {
+		Assert.assertTrue("expected: " + expected + ", actual: " + actual, Math.abs(expected - actual) <= expected / LatencyHistogram.SUB_BUCKETS);
+	}
+
+}
@@ -0,0 +1,249 @@
+package net.bolbat.kit.orchestrator.impl.proxy;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.Callable;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.bolbat.kit.orchestrator.Orchestrator;
+import net.bolbat.kit.orchestrator.OrchestratorFactory;
+import net.bolbat.kit.orchestrator.ProxyEngine;
+import net.bolbat.kit.orchestrator.annotation.Orchestrate;
+
+/**
+ * {@link ProxyGenerator} test.
+ * 
+ * @author Alexandr Bolbat
+ */
+public class ProxyGeneratorTest {
+
+	private final Orchestrator orchestrator = OrchestratorFactory.get(ProxyEngine.GENERATED);
+
+	@After
+	public void after() {
+		OrchestratorFactory.tearDown();
+	}
+
+	@Test
+	public void directCalls() throws Exception {
+		final TypesService proxy = orchestrator.init(new TypesServiceImpl());
+		Assert.assertTrue(proxy instanceof GeneratedProxy);
+		verify(proxy);
+	}
+
+	@Test
+	public void orchestratedCalls() throws Exception {
+		final TypesService proxy = orchestrator.init(new OrchestratedTypesServiceImpl());
+		Assert.assertTrue(proxy instanceof GeneratedProxy);
+		verify(proxy);
+		Assert.assertEquals(13, orchestrator.getMetrics(proxy).size()); // interface methods, 'hashCode', 'equals' and 'toString'
+	}
+
+	@Test
+	public void exceptions() throws Exception {
+		final TypesService proxy = orchestrator.init(new OrchestratedTypesServiceImpl());
+		try {
+			proxy.fail(new IOException("declared"));
+			Assert.fail();
+		} catch (final IOException e) {
+			Assert.assertEquals("declared", e.getMessage());
+		}
+		try {
+			proxy.fail(new IllegalStateException("runtime"));
+			Assert.fail();
+		} catch (final IllegalStateException e) {
+			Assert.assertEquals("runtime", e.getMessage());
+		}
+		try {
+			proxy.fail(new Exception("undeclared"));
+			Assert.fail();
+		} catch (final UndeclaredThrowableException e) {
+			Assert.assertEquals("undeclared", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void objectMethods() {
+		final TypesServiceImpl target = new TypesServiceImpl();
+		final TypesService proxy = orchestrator.init(target);
+		Assert.assertEquals(target.hashCode(), proxy.hashCode());
+		Assert.assertEquals(target.toString(), proxy.toString());
+		Assert.assertTrue(proxy.equals(target));
+	}
+
+	@Test
+	public void classCache() {
+		final TypesService first = orchestrator.init(new TypesServiceImpl());
+		final TypesService second = orchestrator.init(new TypesServiceImpl());
+		Assert.assertSame(first.getClass(), second.getClass());
+		Assert.assertSame(ProxyGenerator.getProxyClass(TypesService.class.getClassLoader(), TypesService.class),
+				ProxyGenerator.getProxyClass(TypesService.class.getClassLoader(), TypesService.class));
+	}
+
+	@Test
+	public void classLoaderUnloading() throws Exception {
+		final WeakReference<ClassLoader> loader = generateInChildLoader();
+		for (int i = 0; i < 100 && loader.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50L);
+		}
+		Assert.assertNull("class loader is held by cache", loader.get());
+	}
+
+	private static WeakReference<ClassLoader> generateInChildLoader() throws Exception {
+		final URL location = TypesService.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { location }, TypesService.class.getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+				if (!TypesService.class.getName().equals(name))
+					return super.loadClass(name, resolve);
+
+				synchronized (getClassLoadingLock(name)) {
+					final Class<?> loaded = findLoadedClass(name);
+					return loaded != null ? loaded : findClass(name);
+				}
+			}
+		}) {
+			final Class<?> type = loader.loadClass(TypesService.class.getName());
+			Assert.assertNotSame(TypesService.class, type);
+
+			final ProxyGenerator.ProxyClass proxyClass = ProxyGenerator.getProxyClass(loader, type);
+			Assert.assertNotNull(proxyClass);
+			Assert.assertSame(proxyClass, ProxyGenerator.getProxyClass(loader, type));
+			Assert.assertNotSame(proxyClass, ProxyGenerator.getProxyClass(TypesService.class.getClassLoader(), TypesService.class));
+			return new WeakReference<ClassLoader>(loader);
+		}
+	}
+
+	@Test
+	public void notSupportedInterfaces() throws Exception {
+		Assert.assertNull(ProxyGenerator.getProxyClass(TypesService.class.getClassLoader(), HiddenService.class));
+
+		final HiddenService proxy = orchestrator.init(new HiddenServiceImpl(), HiddenService.class); // reflect proxy is used
+		Assert.assertFalse(proxy instanceof GeneratedProxy);
+		Assert.assertEquals("hidden", proxy.call());
+	}
+
+	private static void verify(final TypesService proxy) throws Exception {
+		proxy.call();
+		Assert.assertEquals(3, proxy.sum(1, 2));
+		Assert.assertEquals(Long.MAX_VALUE, proxy.sum(Long.MAX_VALUE - 1, (byte) 1));
+		Assert.assertEquals(3.5d, proxy.sum(1.5d, 2f, (short) 0), 0);
+		Assert.assertTrue(proxy.not(false));
+		Assert.assertEquals('b', proxy.next('a'));
+		Assert.assertArrayEquals(new int[] { 2, 1 }, proxy.reverse(new int[] { 1, 2 }));
+		Assert.assertEquals("a1", proxy.concat("a", 1));
+		Assert.assertEquals("value", proxy.call(() -> "value"));
+	}
+
+	public interface TypesService {
+
+		void call();
+
+		int sum(int a, int b);
+
+		long sum(long a, byte b);
+
+		double sum(double a, float b, short c);
+
+		boolean not(boolean value);
+
+		char next(char value);
+
+		int[] reverse(int[] values);
+
+		String concat(String value, Object other);
+
+		<T> T call(Callable<T> callable) throws Exception;
+
+		void fail(Exception e) throws IOException;
+
+	}
+
+	public static class TypesServiceImpl implements TypesService {
+
+		@Override
+		public void call() {
+		}
+
+		@Override
+		public int sum(final int a, final int b) {
+			return a + b;
+		}
+
+		@Override
+		public long sum(final long a, final byte b) {
+			return a + b;
+		}
+
+		@Override
+		public double sum(final double a, final float b, final short c) {
+			return a + b + c;
+		}
+
+		@Override
+		public boolean not(final boolean value) {
+			return !value;
+		}
+
+		@Override
+		public char next(final char value) {
+			return (char) (value + 1);
+		}
+
+		@Override
+		public int[] reverse(final int[] values) {
+			final int[] result = new int[values.length];
+			for (int i = 0; i < values.length; i++)
+				result[i] = values[values.length - 1 - i];
+			return result;
+		}
+
+		@Override
+		public String concat(final String value, final Object other) {
+			return value + other;
+		}
+
+		@Override
+		public <T> T call(final Callable<T> callable) throws Exception {
+			return callable.call();
+		}
+
+		@Override
+		public void fail(final Exception e) throws IOException {
+			ProxyGeneratorTest.<RuntimeException> sneakyThrow(e);
+		}
+
+	}
+
+	@Orchestrate
+	public static class OrchestratedTypesServiceImpl extends TypesServiceImpl {
+	}
+
+	interface HiddenService {
+
+		String call();
+
+	}
+
+	static class HiddenServiceImpl implements HiddenService {
+
+		@Override
+		public String call() {
+			return "hidden";
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> void sneakyThrow(final Throwable e) throws E {
+		throw (E) e;
+	}
+
+}